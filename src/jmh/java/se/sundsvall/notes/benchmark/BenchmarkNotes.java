@@ -0,0 +1,69 @@
+package se.sundsvall.notes.benchmark;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+
+/**
+ * Notes with realistic field sizes for the in-memory benchmarks. Bodies are {@value #BODY_LENGTH} characters, the
+ * maximum accepted by the API, of Swedish text including non-ASCII characters.
+ */
+final class BenchmarkNotes {
+
+	static final int BODY_LENGTH = 2048;
+
+	private static final String[] WORDS = { "kunden", "ringde", "angående", "fakturan", "för", "månaden", "och", "önskade", "en", "avbetalningsplan",
+		"ärendet", "är", "överlämnat", "till", "handläggare", "återkoppling", "sker", "senast", "fredag" };
+
+	private BenchmarkNotes() {}
+
+	static NoteEntity[] noteEntities(int count) {
+		final var random = new Random(42);
+		final var partyId = UUID.randomUUID();
+		final var created = OffsetDateTime.now().minusYears(1);
+
+		return IntStream.range(0, count)
+			.mapToObj(i -> NoteEntity.create()
+				.withId(UUID.randomUUID())
+				.withPartyId(partyId)
+				.withCreated(created.plusMinutes(i))
+				.withCreatedBy("createdBy")
+				.withModified(created.plusMinutes(i).plusDays(1))
+				.withModifiedBy("modifiedBy")
+				.withSubject(text(random, 64))
+				.withBody(text(random, BODY_LENGTH))
+				.withVersion(1)
+				.withChangeSeq((long) i))
+			.toArray(NoteEntity[]::new);
+	}
+
+	static CreateNoteRequest createNoteRequest() {
+		final var random = new Random(42);
+		return CreateNoteRequest.create()
+			.withPartyId(UUID.randomUUID().toString())
+			.withSubject(text(random, 64))
+			.withBody(text(random, BODY_LENGTH))
+			.withCreatedBy("createdBy");
+	}
+
+	static UpdateNoteRequest updateNoteRequest() {
+		final var random = new Random(42);
+		return UpdateNoteRequest.create()
+			.withSubject(text(random, 64))
+			.withBody(text(random, BODY_LENGTH))
+			.withModifiedBy("modifiedBy");
+	}
+
+	private static String text(Random random, int length) {
+		final var text = new StringBuilder(length + 32);
+		while (text.length() < length) {
+			text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+		}
+		return text.substring(0, length);
+	}
+}
@@ -0,0 +1,114 @@
+package se.sundsvall.notes.benchmark;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.MariaDBContainer;
+
+import se.sundsvall.notes.integration.db.generator.NoteIdGenerator.Strategy;
+
+/**
+ * Insert throughput into the note table for random (uuid4) and time ordered (uuid7) ids.
+ *
+ * The table is pre-populated and the InnoDB buffer pool is kept small, so that the difference in page splits and
+ * buffer pool misses on the clustered primary key shows up in the result, as it does on a production sized table.
+ *
+ * Requires Docker. Run by: ./mvnw -Pbenchmarks test-compile exec:exec -Djmh.args="NoteInsertBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class NoteInsertBenchmark {
+
+	private static final int BATCH_SIZE = 100;
+
+	private static final String INSERT = "insert into note (id, party_id, created, created_by, subject, body) values (?, ?, ?, ?, ?, ?)";
+
+	@Param({ "uuid4", "uuid7" })
+	private String strategy;
+
+	@Param({ "500000" })
+	private int existingRows;
+
+	private MariaDBContainer<?> container;
+	private Connection connection;
+	private Strategy idStrategy;
+
+	@Setup(Level.Trial)
+	public void setup() throws SQLException {
+		idStrategy = Strategy.fromValue(strategy);
+
+		container = new MariaDBContainer<>("mariadb:10.6.4")
+			.withCommand("--innodb-buffer-pool-size=32M");
+		container.start();
+
+		connection = DriverManager.getConnection(container.getJdbcUrl() + "?rewriteBatchedStatements=true", container.getUsername(), container.getPassword());
+		try (var statement = connection.createStatement()) {
+			statement.execute("create table note (id binary(16) not null, body longtext, created datetime(6), created_by varchar(255), "
+				+ "modified datetime(6), modified_by varchar(255), party_id binary(16), subject varchar(255), primary key (id)) engine=InnoDB");
+			statement.execute("create index note_party_id_created_id_index on note (party_id, created, id)");
+		}
+
+		for (var i = 0; i < existingRows; i += BATCH_SIZE) {
+			insertBatch();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+		container.stop();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void insert() throws SQLException {
+		insertBatch();
+	}
+
+	private void insertBatch() throws SQLException {
+		try (var statement = connection.prepareStatement(INSERT)) {
+			final var created = Timestamp.from(Instant.now());
+			for (var i = 0; i < BATCH_SIZE; i++) {
+				statement.setBytes(1, toBytes(idStrategy.generate()));
+				statement.setBytes(2, toBytes(UUID.randomUUID()));
+				statement.setTimestamp(3, created);
+				statement.setString(4, "benchmark");
+				statement.setString(5, "subject");
+				statement.setString(6, "body");
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private static byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
@@ -0,0 +1,50 @@
+package se.sundsvall.notes.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.service.mapper.NoteMapper;
+
+/**
+ * Time and allocation of mapping note entities to API notes by NoteMapper.toNotes, as done for every page returned by
+ * GET /notes.
+ *
+ * Run by: ./mvnw -Pbenchmarks test-compile exec:exec -Djmh.args="NoteMappingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NoteMappingBenchmark {
+
+	@Param({ "10", "1000", "10000" })
+	private int notes;
+
+	private List<NoteEntity> noteEntities;
+
+	@Setup
+	public void setup() {
+		noteEntities = List.of(BenchmarkNotes.noteEntities(notes));
+	}
+
+	@Benchmark
+	public List<Note> toNotes() {
+		return NoteMapper.toNotes(noteEntities);
+	}
+}
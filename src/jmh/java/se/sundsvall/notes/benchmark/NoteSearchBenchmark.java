@@ -0,0 +1,171 @@
+package se.sundsvall.notes.benchmark;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.containers.MariaDBContainer;
+
+/**
+ * Latency of searching the notes of one party for a word, by the fulltext index on (subject, body) as done by
+ * GET /notes/search, and by LIKE '%word%' on subject and body.
+ *
+ * Bodies are drawn from a vocabulary of {@value #VOCABULARY_SIZE} words, so that a vocabulary word is found in a few
+ * percent of the notes, while the rare word is found in about one note of {@value #RARE_WORD_INTERVAL}. The fulltext
+ * index is looked up over all parties before the party filter applies, hence common words cost more than rare ones.
+ * LIKE matches substrings, e.g. word42 in word420, hence it finds more notes than the fulltext search does.
+ *
+ * Requires Docker. Run by: ./mvnw -Pbenchmarks test-compile exec:exec -Djmh.args="NoteSearchBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class NoteSearchBenchmark {
+
+	private static final int BATCH_SIZE = 1000;
+	private static final int VOCABULARY_SIZE = 2000;
+	private static final int WORDS_PER_BODY = 50;
+	private static final int RARE_WORD_INTERVAL = 1000;
+	private static final int LIMIT = 101;
+
+	private static final String INSERT = "insert into note (id, party_id, created, created_by, subject, body) values (?, ?, ?, ?, ?, ?)";
+
+	private static final String SEARCH_FULLTEXT = "select n.*, match(n.subject, n.body) against (? in natural language mode) as relevance from note n "
+		+ "where n.party_id = ? and match(n.subject, n.body) against (? in natural language mode) order by relevance desc, n.id asc limit " + LIMIT;
+
+	private static final String SEARCH_LIKE = "select n.* from note n where n.party_id = ? and (n.subject like ? or n.body like ?) order by n.created asc, n.id asc limit " + LIMIT;
+
+	@Param({ "word42", "needle" })
+	private String word;
+
+	@Param({ "500000" })
+	private int existingRows;
+
+	@Param({ "1000" })
+	private int parties;
+
+	private MariaDBContainer<?> container;
+	private Connection connection;
+	private PreparedStatement fulltextStatement;
+	private PreparedStatement likeStatement;
+	private byte[] partyId;
+
+	@Setup(Level.Trial)
+	public void setup() throws SQLException {
+		container = new MariaDBContainer<>("mariadb:10.6.4");
+		container.start();
+
+		connection = DriverManager.getConnection(container.getJdbcUrl() + "?rewriteBatchedStatements=true", container.getUsername(), container.getPassword());
+		try (var statement = connection.createStatement()) {
+			statement.execute("create table note (id binary(16) not null, body longtext, created datetime(6), created_by varchar(255), "
+				+ "modified datetime(6), modified_by varchar(255), party_id binary(16), subject varchar(255), primary key (id)) engine=InnoDB");
+			statement.execute("create index note_party_id_created_id_index on note (party_id, created, id)");
+		}
+
+		seed();
+
+		// The index is created after seeding, as in production where it is added to a populated table by delta script 007.
+		try (var statement = connection.createStatement()) {
+			statement.execute("create fulltext index note_subject_body_fulltext_index on note (subject, body)");
+			statement.execute("analyze table note");
+		}
+
+		partyId = toBytes(new UUID(0, 42));
+		fulltextStatement = connection.prepareStatement(SEARCH_FULLTEXT);
+		likeStatement = connection.prepareStatement(SEARCH_LIKE);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+		container.stop();
+	}
+
+	@Benchmark
+	public void fulltext(Blackhole blackhole) throws SQLException {
+		fulltextStatement.setString(1, word);
+		fulltextStatement.setBytes(2, partyId);
+		fulltextStatement.setString(3, word);
+		consume(fulltextStatement, blackhole);
+	}
+
+	@Benchmark
+	public void like(Blackhole blackhole) throws SQLException {
+		likeStatement.setBytes(1, partyId);
+		likeStatement.setString(2, "%" + word + "%");
+		likeStatement.setString(3, "%" + word + "%");
+		consume(likeStatement, blackhole);
+	}
+
+	private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+		try (var resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				blackhole.consume(resultSet.getBytes("id"));
+				blackhole.consume(resultSet.getString("body"));
+			}
+		}
+	}
+
+	private void seed() throws SQLException {
+		final var random = new Random(42);
+		try (var statement = connection.prepareStatement(INSERT)) {
+			final var created = Timestamp.from(Instant.now());
+			for (var i = 0; i < existingRows; i++) {
+				statement.setBytes(1, toBytes(UUID.randomUUID()));
+				statement.setBytes(2, toBytes(new UUID(0, i % parties)));
+				statement.setTimestamp(3, created);
+				statement.setString(4, "benchmark");
+				statement.setString(5, "subject" + random.nextInt(VOCABULARY_SIZE));
+				statement.setString(6, body(random));
+				statement.addBatch();
+
+				if ((i + 1) % BATCH_SIZE == 0) {
+					statement.executeBatch();
+				}
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private static String body(Random random) {
+		final var body = new StringBuilder();
+		for (var i = 0; i < WORDS_PER_BODY; i++) {
+			body.append("word").append(random.nextInt(VOCABULARY_SIZE)).append(' ');
+		}
+		if (random.nextInt(RARE_WORD_INTERVAL) == 0) {
+			body.append("needle");
+		}
+		return body.toString();
+	}
+
+	private static byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
@@ -0,0 +1,66 @@
+package se.sundsvall.notes.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import se.sundsvall.notes.api.model.FindNotesResponse;
+import se.sundsvall.notes.api.model.PagingMetaData;
+import se.sundsvall.notes.service.mapper.NoteMapper;
+
+/**
+ * Time and allocation of serializing a page of notes to JSON, as done for every response of GET /notes. The object
+ * mapper is configured as the one of the service, i.e. with java.time support and dates written as ISO-8601 strings.
+ *
+ * The JSON is written to a stream discarding it, as the response body is written to the response stream, so that
+ * neither building nor copying a byte array of the whole response is measured.
+ *
+ * Run by: ./mvnw -Pbenchmarks test-compile exec:exec -Djmh.args="NoteSerializationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NoteSerializationBenchmark {
+
+	@Param({ "10", "1000", "10000" })
+	private int notes;
+
+	private ObjectMapper objectMapper;
+	private FindNotesResponse findNotesResponse;
+
+	@Setup
+	public void setup() {
+		objectMapper = new ObjectMapper()
+			.findAndRegisterModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+		final var page = NoteMapper.toNotes(List.of(BenchmarkNotes.noteEntities(notes)));
+		findNotesResponse = FindNotesResponse.create()
+			.withNotes(page)
+			.withMetaData(PagingMetaData.create().withLimit(notes).withCount(notes));
+	}
+
+	@Benchmark
+	public void serialize() throws IOException {
+		objectMapper.writeValue(OutputStream.nullOutputStream(), findNotesResponse);
+	}
+}
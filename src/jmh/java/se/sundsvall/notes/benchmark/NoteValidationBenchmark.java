@@ -0,0 +1,77 @@
+package se.sundsvall.notes.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.UpdateNoteRequest;
+
+/**
+ * Time and allocation of Bean Validation of the request bodies of POST /notes and PATCH /notes/{id}, for valid requests
+ * and for requests violating every constraint, where building the violations and their messages dominates.
+ *
+ * Run by: ./mvnw -Pbenchmarks test-compile exec:exec -Djmh.args="NoteValidationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NoteValidationBenchmark {
+
+	private ValidatorFactory validatorFactory;
+	private Validator validator;
+	private CreateNoteRequest createNoteRequest;
+	private CreateNoteRequest invalidCreateNoteRequest;
+	private UpdateNoteRequest updateNoteRequest;
+
+	@Setup
+	public void setup() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		createNoteRequest = BenchmarkNotes.createNoteRequest();
+		invalidCreateNoteRequest = CreateNoteRequest.create()
+			.withPartyId("invalid")
+			.withSubject(" ")
+			.withBody("x".repeat(BenchmarkNotes.BODY_LENGTH + 1));
+		updateNoteRequest = BenchmarkNotes.updateNoteRequest();
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<CreateNoteRequest>> validateCreateNoteRequest() {
+		return validator.validate(createNoteRequest);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<CreateNoteRequest>> validateInvalidCreateNoteRequest() {
+		return validator.validate(invalidCreateNoteRequest);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<UpdateNoteRequest>> validateUpdateNoteRequest() {
+		return validator.validate(updateNoteRequest);
+	}
+}
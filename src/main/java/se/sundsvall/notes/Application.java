@@ -1,9 +1,13 @@
 package se.sundsvall.notes;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import se.sundsvall.dept44.ServiceApplication;
 
 @ServiceApplication
+@EnableCaching
+@EnableScheduling
 public class Application {
     public static void main(String... args) {
         SpringApplication.run(Application.class, args);
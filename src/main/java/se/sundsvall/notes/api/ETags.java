@@ -0,0 +1,45 @@
+package se.sundsvall.notes.api;
+
+import static java.util.Objects.isNull;
+import static org.zalando.problem.Status.PRECONDITION_FAILED;
+
+import org.zalando.problem.Problem;
+
+/**
+ * Conversion between note versions and strong ETags, i.e. the version within double quotes.
+ */
+final class ETags {
+
+	private static final String ANY = "*";
+	private static final String QUOTE = "\"";
+
+	private ETags() {}
+
+	static String toETag(Object value) {
+		return isNull(value) ? null : QUOTE + value + QUOTE;
+	}
+
+	/**
+	 * Returns the version held by an If-Match header value.
+	 *
+	 * @param  ifMatch the If-Match header value, may be null
+	 * @return         the version, or null if no specific version is required (header absent or *)
+	 * @throws         org.zalando.problem.ThrowableProblem with status 412 if the value can not match any note version,
+	 *                 e.g. a weak ETag, which never matches under the strong comparison required for If-Match
+	 */
+	static Integer toVersion(String ifMatch) {
+		if (isNull(ifMatch) || ANY.equals(ifMatch.trim())) {
+			return null;
+		}
+
+		final var eTag = ifMatch.trim();
+		try {
+			if (eTag.length() > 2 && eTag.startsWith(QUOTE) && eTag.endsWith(QUOTE)) {
+				return Integer.valueOf(eTag.substring(1, eTag.length() - 1));
+			}
+		} catch (final NumberFormatException e) {
+			// Handled below
+		}
+		throw Problem.valueOf(PRECONDITION_FAILED, "If-Match '" + ifMatch + "' does not match any version of the note");
+	}
+}
@@ -1,19 +1,35 @@
 package se.sundsvall.notes.api;
 
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.MediaType.ALL_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,24 +38,35 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.zalando.problem.Problem;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.headers.Header;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
 import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.CreateNotesResponse;
+import se.sundsvall.notes.api.model.FindNoteChangesResponse;
+import se.sundsvall.notes.api.model.FindNotesByIdsResponse;
+import se.sundsvall.notes.api.model.FindNotesResponse;
 import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.api.model.NoteEvent;
 import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.service.NoteFilter;
 import se.sundsvall.notes.service.NoteService;
 
 @RestController
@@ -50,8 +77,13 @@ public class NotesResource {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(NotesResource.class);
 
+	private static final String LAST_EVENT_ID = "Last-Event-ID";
+
 	@Autowired
 	private NoteService noteService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
 	
 	@PostMapping(consumes = APPLICATION_JSON_VALUE, produces = { APPLICATION_PROBLEM_JSON_VALUE })
 	@Operation(summary = "Create new note")
@@ -68,23 +100,41 @@ public class NotesResource {
 			.build();
 	}
 
+	@PostMapping(path = "/batch", consumes = APPLICATION_JSON_VALUE, produces = { APPLICATION_JSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
+	@Operation(summary = "Create new notes in batch", description = "All notes are created in one transaction. If any note is invalid, none is created and the violations are reported with the index of the note, e.g. createNotes.body[1].partyId. "
+		+ "The maximum number of notes in one batch is configured by notes.create-batch.maximum-notes.")
+	@ApiResponse(responseCode = "201", description = "Successful operation", content = @Content(schema = @Schema(implementation = CreateNotesResponse.class)))
+	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
+	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
+	public ResponseEntity<CreateNotesResponse> createNotes(@NotEmpty @RequestBody List<@Valid @NotNull CreateNoteRequest> body) {
+		LOGGER.debug("Received createNotes()-request: size='{}'", body.size());
+
+		return ResponseEntity
+			.status(CREATED)
+			.body(CreateNotesResponse.create().withIds(noteService.createNotes(body)));
+	}
+
 	@PatchMapping(path = "/{id}", consumes = APPLICATION_JSON_VALUE, produces = { APPLICATION_JSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
 	@Operation(summary = "Update note")
-	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = Note.class)))
+	@ApiResponse(responseCode = "200", headers = @Header(name = ETAG, schema = @Schema(type = "string")), description = "Successful operation", content = @Content(schema = @Schema(implementation = Note.class)))
 	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
 	@ApiResponse(responseCode = "404", description = "Not found", content = @Content(schema = @Schema(implementation = Problem.class)))
+	@ApiResponse(responseCode = "412", description = "Precondition failed, the note has been modified since the version in If-Match", content = @Content(schema = @Schema(implementation = Problem.class)))
 	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
 	public ResponseEntity<Note> updateNote(
 		@Parameter(name = "id", description = "Note ID", example = "b82bd8ac-1507-4d9a-958d-369261eecc15") @ValidUuid @PathVariable(name = "id", required = true) String id,
+		@Parameter(name = IF_MATCH, description = "ETag of the note version to update. The update is rejected if the note has been modified since.", example = "\"1\"") @RequestHeader(name = IF_MATCH, required = false) String ifMatch,
 		@Valid @NotNull @RequestBody UpdateNoteRequest body) {
-		LOGGER.debug("Received updateNote()-request: body='{}'", body);
+		LOGGER.debug("Received updateNote()-request: body='{}', ifMatch='{}'", body, ifMatch);
 
-		return ResponseEntity.ok(noteService.updateNote(id, body));
+		final var note = noteService.updateNote(id, body, ETags.toVersion(ifMatch));
+		return ResponseEntity.ok().eTag(ETags.toETag(note.getVersion())).body(note);
 	}
 
 	@GetMapping(path = "/{id}", produces = { APPLICATION_JSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
 	@Operation(summary = "Get note by ID")
-	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = Note.class)))
+	@ApiResponse(responseCode = "200", headers = @Header(name = ETAG, schema = @Schema(type = "string")), description = "Successful operation", content = @Content(schema = @Schema(implementation = Note.class)))
+	@ApiResponse(responseCode = "304", description = "Not modified, the note still has the version in If-None-Match", content = @Content(schema = @Schema(implementation = Void.class)))
 	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
 	@ApiResponse(responseCode = "404", description = "Not found", content = @Content(schema = @Schema(implementation = Problem.class)))
 	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
@@ -92,20 +142,141 @@ public class NotesResource {
 		@Parameter(name = "id", description = "Note ID", example = "b82bd8ac-1507-4d9a-958d-369261eecc15") @ValidUuid @PathVariable(name = "id", required = true) String id) {
 		LOGGER.debug("Received getNoteById()-request: id='{}'", id);
 
-		return ResponseEntity.ok(noteService.getNoteById(id));
+		// If-None-Match is evaluated by Spring against the ETag of the response entity, which becomes a 304 without body.
+		final var note = noteService.getNoteById(id);
+		return ResponseEntity.ok().eTag(ETags.toETag(note.getVersion())).body(note);
 	}
 
 	@GetMapping(produces = { APPLICATION_JSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
-	@Operation(summary = "Get all notes, filtered by partyId")
-	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(array = @ArraySchema(schema = @Schema(implementation = Note.class))))
+	@Operation(summary = "Get notes, filtered by partyId", description = "Notes are ordered by creation time and returned in pages. Pass the cursor found in _meta.next to retrieve the next page. "
+		+ "The notes may be further filtered by creation time, modification time and creator, a cursor must then be used with the same filters.")
+	@ApiResponse(responseCode = "200", headers = @Header(name = ETAG, schema = @Schema(type = "string")), description = "Successful operation", content = @Content(schema = @Schema(implementation = FindNotesResponse.class)))
+	@ApiResponse(responseCode = "304", description = "Not modified, no note of the party has changed since the ETag in If-None-Match", content = @Content(schema = @Schema(implementation = Void.class)))
 	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
 	@ApiResponse(responseCode = "404", description = "Not found", content = @Content(schema = @Schema(implementation = Problem.class)))
 	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
-	public ResponseEntity<List<Note>> getNotesByPartyId(
-		@Parameter(name = "partyId", description = "PartyID", example = "81471222-5798-11e9-ae24-57fa13b361e1") @RequestParam(value = "partyId", required = true) @ValidUuid String partyId) {
-		LOGGER.debug("Received getNotesByPartyId()-request: partyId='{}'", partyId);
+	public ResponseEntity<FindNotesResponse> getNotesByPartyId(WebRequest webRequest,
+		@Parameter(name = "partyId", description = "PartyID", example = "81471222-5798-11e9-ae24-57fa13b361e1") @RequestParam(value = "partyId", required = true) @ValidUuid String partyId,
+		@Parameter(name = "createdFrom", description = "Only notes created at or after this time", example = "2022-01-01T00:00:00+01:00") @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdFrom,
+		@Parameter(name = "createdTo", description = "Only notes created before this time", example = "2022-02-01T00:00:00+01:00") @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdTo,
+		@Parameter(name = "modifiedSince", description = "Only notes created or modified at or after this time", example = "2022-01-01T00:00:00+01:00") @RequestParam(value = "modifiedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime modifiedSince,
+		@Parameter(name = "createdBy", description = "Only notes created by this user", example = "John Doe") @RequestParam(value = "createdBy", required = false) String createdBy,
+		@Parameter(name = "limit", description = "Maximum number of notes to return", example = "100") @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(1000) int limit,
+		@Parameter(name = "cursor", description = "Opaque cursor, as returned in _meta.next of a previous response") @RequestParam(value = "cursor", required = false) String cursor,
+		@Parameter(name = "view", description = "full returns complete notes, summary returns notes without body", schema = @Schema(allowableValues = { "full", "summary" })) @RequestParam(value = "view", defaultValue = "full") @Pattern(regexp = "full|summary") String view) {
+		LOGGER.debug("Received getNotesByPartyId()-request: partyId='{}', createdFrom='{}', createdTo='{}', modifiedSince='{}', createdBy='{}', limit='{}', cursor='{}', view='{}'",
+			partyId, createdFrom, createdTo, modifiedSince, createdBy, limit, cursor, view);
+
+		// The change token is read before the notes and the page is cached under it, hence the notes are never older than
+		// the ETag. A write committing in between gives notes newer than the ETag, which the next read replaces.
+		final var changeToken = noteService.getPartyChangeToken(partyId);
+		final var eTag = ETags.toETag(changeToken);
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
+		final var filter = NoteFilter.create()
+			.withCreatedFrom(createdFrom)
+			.withCreatedTo(createdTo)
+			.withModifiedSince(modifiedSince)
+			.withCreatedBy(createdBy);
+
+		return ResponseEntity.ok().eTag(eTag).body(noteService.getNotesByPartyId(partyId, changeToken, filter, limit, cursor, view));
+	}
+
+	@GetMapping(path = "/search", produces = { APPLICATION_JSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
+	@Operation(summary = "Search notes of a party", description = "Searches subject and body for the words in q. Notes are ordered by relevance, most relevant first, and returned in pages. "
+		+ "Pass the cursor found in _meta.next to retrieve the next page. Words shorter than three characters and common stopwords are not searched for.")
+	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = FindNotesResponse.class)))
+	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
+	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
+	public ResponseEntity<FindNotesResponse> searchNotes(
+		@Parameter(name = "partyId", description = "PartyID", example = "81471222-5798-11e9-ae24-57fa13b361e1") @RequestParam(value = "partyId") @ValidUuid String partyId,
+		@Parameter(name = "q", description = "Words to search for", example = "invoice") @RequestParam(value = "q") @NotBlank @Size(max = 255) String query,
+		@Parameter(name = "limit", description = "Maximum number of notes to return", example = "100") @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(1000) int limit,
+		@Parameter(name = "cursor", description = "Opaque cursor, as returned in _meta.next of a previous response") @RequestParam(value = "cursor", required = false) String cursor) {
+		LOGGER.debug("Received searchNotes()-request: partyId='{}', q='{}', limit='{}', cursor='{}'", partyId, query, limit, cursor);
+
+		return ResponseEntity.ok(noteService.searchNotes(partyId, query, limit, cursor));
+	}
+
+	@GetMapping(path = "/changes", produces = { APPLICATION_JSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
+	@Operation(summary = "Get note changes", description = "Returns the notes created, modified or deleted after the token in since, in the order they were changed. "
+		+ "Pass the returned token in since of the next request to get the changes made after this response. Get again right away while hasMore is true. "
+		+ "The most recent changes are held back for a few seconds, until all changes before them are certain to have been committed.")
+	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = FindNoteChangesResponse.class)))
+	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
+	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
+	public ResponseEntity<FindNoteChangesResponse> getNoteChanges(
+		@Parameter(name = "since", description = "Opaque token, as returned in token of a previous response. Omit to get all changes from the start") @RequestParam(value = "since", required = false) String since,
+		@Parameter(name = "limit", description = "Maximum number of changes to return", example = "100") @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(1000) int limit) {
+		LOGGER.debug("Received getNoteChanges()-request: since='{}', limit='{}'", since, limit);
+
+		return ResponseEntity.ok(noteService.getNoteChanges(since, limit));
+	}
+
+	@GetMapping(params = "id", produces = { APPLICATION_JSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
+	@Operation(summary = "Get notes by IDs", description = "Returns the found notes, in the order of the requested ids, and the ids for which no note was found.")
+	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = FindNotesByIdsResponse.class)))
+	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
+	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
+	public ResponseEntity<FindNotesByIdsResponse> getNotesByIds(
+		@Parameter(name = "id", description = "Note ID, may be repeated", example = "b82bd8ac-1507-4d9a-958d-369261eecc15") @RequestParam(value = "id") List<UUID> ids) {
+		LOGGER.debug("Received getNotesByIds()-request: ids='{}'", ids);
+
+		return ResponseEntity.ok(noteService.getNotesByIds(ids));
+	}
+
+	@GetMapping(path = "/export", params = "partyId", produces = { APPLICATION_NDJSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
+	@Operation(summary = "Export notes for a party", description = "Streams all notes for the party as newline delimited JSON, ordered by creation time.")
+	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(mediaType = APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = Note.class)))
+	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
+	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
+	public ResponseEntity<StreamingResponseBody> exportNotesByPartyId(
+		@Parameter(name = "partyId", description = "PartyID", example = "81471222-5798-11e9-ae24-57fa13b361e1") @RequestParam(value = "partyId") @ValidUuid String partyId) {
+		LOGGER.debug("Received exportNotesByPartyId()-request: partyId='{}'", partyId);
+
+		return ResponseEntity.ok(exportNotes(partyId));
+	}
+
+	@GetMapping(path = "/export", produces = { APPLICATION_NDJSON_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
+	@Operation(summary = "Export all notes", description = "Streams all notes as newline delimited JSON, ordered by id, which is creation order for time ordered (uuid7) ids.")
+	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(mediaType = APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = Note.class)))
+	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
+	public ResponseEntity<StreamingResponseBody> exportAllNotes() {
+		LOGGER.debug("Received exportAllNotes()-request");
+
+		return ResponseEntity.ok(exportNotes(null));
+	}
+
+	private StreamingResponseBody exportNotes(String partyId) {
+		// Notes are written as they are read from the database, one JSON document per line.
+		return outputStream -> noteService.exportNotes(partyId, note -> {
+			try {
+				outputStream.write(objectMapper.writeValueAsBytes(note));
+				outputStream.write('\n');
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	@GetMapping(path = "/events", params = "partyId", produces = { TEXT_EVENT_STREAM_VALUE, APPLICATION_PROBLEM_JSON_VALUE })
+	@Operation(summary = "Subscribe to note changes for a party", description = "Streams Server-Sent Events named created, updated and deleted as notes of the party change. "
+		+ "Pass the id of the last received event in Last-Event-ID when reconnecting to receive the events missed in between. "
+		+ "If they are no longer held a reset event is sent, after which the notes of the party should be read again. "
+		+ "A subscriber that does not keep up with its events is disconnected. "
+		+ "Subscriptions beyond notes.events.max-sender-threads are rejected.")
+	@ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(mediaType = TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = NoteEvent.class)))
+	@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = Problem.class)))
+	@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(schema = @Schema(implementation = Problem.class)))
+	@ApiResponse(responseCode = "503", description = "Too many subscribers", content = @Content(schema = @Schema(implementation = Problem.class)))
+	public SseEmitter getNoteEvents(
+		@Parameter(name = "partyId", description = "PartyID", example = "81471222-5798-11e9-ae24-57fa13b361e1") @RequestParam(value = "partyId") @ValidUuid String partyId,
+		@Parameter(name = LAST_EVENT_ID, description = "Id of the last event received by a previous subscription", example = "42") @RequestHeader(name = LAST_EVENT_ID, required = false) Long lastEventId) {
+		LOGGER.debug("Received getNoteEvents()-request: partyId='{}', lastEventId='{}'", partyId, lastEventId);
 
-		return ResponseEntity.ok(noteService.getNotesByPartyId(partyId));
+		return noteService.subscribeToEvents(partyId, lastEventId);
 	}
 
 	@DeleteMapping(path = "/{id}", produces = { APPLICATION_PROBLEM_JSON_VALUE })
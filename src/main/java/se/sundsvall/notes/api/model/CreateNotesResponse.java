@@ -0,0 +1,53 @@
+package se.sundsvall.notes.api.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "CreateNotesResponse model")
+public class CreateNotesResponse {
+
+	@ArraySchema(schema = @Schema(description = "Note ID", example = "b82bd8ac-1507-4d9a-958d-369261eecc15"), arraySchema = @Schema(description = "IDs of the created notes, in the same order as the requests"))
+	private List<String> ids;
+
+	public static CreateNotesResponse create() {
+		return new CreateNotesResponse();
+	}
+
+	public List<String> getIds() {
+		return ids;
+	}
+
+	public void setIds(List<String> ids) {
+		this.ids = ids;
+	}
+
+	public CreateNotesResponse withIds(List<String> ids) {
+		this.ids = ids;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(ids); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		CreateNotesResponse other = (CreateNotesResponse) obj;
+		return Objects.equals(ids, other.ids);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("CreateNotesResponse [ids=").append(ids).append("]");
+		return builder.toString();
+	}
+}
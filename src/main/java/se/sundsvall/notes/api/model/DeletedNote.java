@@ -0,0 +1,87 @@
+package se.sundsvall.notes.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "DeletedNote model")
+public class DeletedNote {
+
+	@Schema(description = "Note ID", example = "b82bd8ac-1507-4d9a-958d-369261eecc15")
+	private String id;
+
+	@Schema(description = "Party ID (e.g. a personId or an organizationId)", example = "81471222-5798-11e9-ae24-57fa13b361e1")
+	private String partyId;
+
+	@Schema(description = "Deleted timestamp")
+	private OffsetDateTime deleted;
+
+	public static DeletedNote create() {
+		return new DeletedNote();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public DeletedNote withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getPartyId() {
+		return partyId;
+	}
+
+	public void setPartyId(String partyId) {
+		this.partyId = partyId;
+	}
+
+	public DeletedNote withPartyId(String partyId) {
+		this.partyId = partyId;
+		return this;
+	}
+
+	public OffsetDateTime getDeleted() {
+		return deleted;
+	}
+
+	public void setDeleted(OffsetDateTime deleted) {
+		this.deleted = deleted;
+	}
+
+	public DeletedNote withDeleted(OffsetDateTime deleted) {
+		this.deleted = deleted;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(id, partyId, deleted); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		DeletedNote other = (DeletedNote) obj;
+		return Objects.equals(id, other.id) && Objects.equals(partyId, other.partyId) && Objects.equals(deleted, other.deleted);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("DeletedNote [id=").append(id).append(", partyId=").append(partyId).append(", deleted=").append(deleted).append("]");
+		return builder.toString();
+	}
+}
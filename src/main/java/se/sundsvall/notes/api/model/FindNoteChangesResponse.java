@@ -0,0 +1,102 @@
+package se.sundsvall.notes.api.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "FindNoteChangesResponse model")
+public class FindNoteChangesResponse {
+
+	@ArraySchema(schema = @Schema(implementation = Note.class, description = "Notes created or modified since the token passed in since, as they are now"))
+	private List<Note> notes;
+
+	@ArraySchema(schema = @Schema(implementation = DeletedNote.class, description = "Notes deleted since the token passed in since"))
+	private List<DeletedNote> deletedNotes;
+
+	@Schema(description = "Opaque token to pass in since of the next request, to get the changes made after this response", example = "MTIz")
+	private String token;
+
+	@Schema(description = "True if there are more changes to get right away, false if the changes are caught up with for now", example = "false")
+	private boolean hasMore;
+
+	public static FindNoteChangesResponse create() {
+		return new FindNoteChangesResponse();
+	}
+
+	public List<Note> getNotes() {
+		return notes;
+	}
+
+	public void setNotes(List<Note> notes) {
+		this.notes = notes;
+	}
+
+	public FindNoteChangesResponse withNotes(List<Note> notes) {
+		this.notes = notes;
+		return this;
+	}
+
+	public List<DeletedNote> getDeletedNotes() {
+		return deletedNotes;
+	}
+
+	public void setDeletedNotes(List<DeletedNote> deletedNotes) {
+		this.deletedNotes = deletedNotes;
+	}
+
+	public FindNoteChangesResponse withDeletedNotes(List<DeletedNote> deletedNotes) {
+		this.deletedNotes = deletedNotes;
+		return this;
+	}
+
+	public String getToken() {
+		return token;
+	}
+
+	public void setToken(String token) {
+		this.token = token;
+	}
+
+	public FindNoteChangesResponse withToken(String token) {
+		this.token = token;
+		return this;
+	}
+
+	public boolean isHasMore() {
+		return hasMore;
+	}
+
+	public void setHasMore(boolean hasMore) {
+		this.hasMore = hasMore;
+	}
+
+	public FindNoteChangesResponse withHasMore(boolean hasMore) {
+		this.hasMore = hasMore;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(notes, deletedNotes, token, hasMore); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		FindNoteChangesResponse other = (FindNoteChangesResponse) obj;
+		return Objects.equals(notes, other.notes) && Objects.equals(deletedNotes, other.deletedNotes) && Objects.equals(token, other.token) && hasMore == other.hasMore;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("FindNoteChangesResponse [notes=").append(notes).append(", deletedNotes=").append(deletedNotes).append(", token=").append(token).append(", hasMore=").append(hasMore)
+			.append("]");
+		return builder.toString();
+	}
+}
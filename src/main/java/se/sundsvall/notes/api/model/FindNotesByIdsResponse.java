@@ -0,0 +1,69 @@
+package se.sundsvall.notes.api.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "FindNotesByIdsResponse model")
+public class FindNotesByIdsResponse {
+
+	@ArraySchema(schema = @Schema(implementation = Note.class), arraySchema = @Schema(description = "Found notes, in the same order as the requested ids"))
+	private List<Note> notes;
+
+	@ArraySchema(schema = @Schema(description = "Note ID", example = "b82bd8ac-1507-4d9a-958d-369261eecc15"), arraySchema = @Schema(description = "Requested ids for which no note was found"))
+	private List<String> missingIds;
+
+	public static FindNotesByIdsResponse create() {
+		return new FindNotesByIdsResponse();
+	}
+
+	public List<Note> getNotes() {
+		return notes;
+	}
+
+	public void setNotes(List<Note> notes) {
+		this.notes = notes;
+	}
+
+	public FindNotesByIdsResponse withNotes(List<Note> notes) {
+		this.notes = notes;
+		return this;
+	}
+
+	public List<String> getMissingIds() {
+		return missingIds;
+	}
+
+	public void setMissingIds(List<String> missingIds) {
+		this.missingIds = missingIds;
+	}
+
+	public FindNotesByIdsResponse withMissingIds(List<String> missingIds) {
+		this.missingIds = missingIds;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(missingIds, notes); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		FindNotesByIdsResponse other = (FindNotesByIdsResponse) obj;
+		return Objects.equals(missingIds, other.missingIds) && Objects.equals(notes, other.notes);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("FindNotesByIdsResponse [notes=").append(notes).append(", missingIds=").append(missingIds).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,72 @@
+package se.sundsvall.notes.api.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "FindNotesResponse model")
+public class FindNotesResponse {
+
+	@ArraySchema(schema = @Schema(implementation = Note.class))
+	private List<Note> notes;
+
+	@JsonProperty("_meta")
+	@Schema(implementation = PagingMetaData.class)
+	private PagingMetaData metaData;
+
+	public static FindNotesResponse create() {
+		return new FindNotesResponse();
+	}
+
+	public List<Note> getNotes() {
+		return notes;
+	}
+
+	public void setNotes(List<Note> notes) {
+		this.notes = notes;
+	}
+
+	public FindNotesResponse withNotes(List<Note> notes) {
+		this.notes = notes;
+		return this;
+	}
+
+	public PagingMetaData getMetaData() {
+		return metaData;
+	}
+
+	public void setMetaData(PagingMetaData metaData) {
+		this.metaData = metaData;
+	}
+
+	public FindNotesResponse withMetaData(PagingMetaData metaData) {
+		this.metaData = metaData;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(metaData, notes); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		FindNotesResponse other = (FindNotesResponse) obj;
+		return Objects.equals(metaData, other.metaData) && Objects.equals(notes, other.notes);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("FindNotesResponse [notes=").append(notes).append(", metaData=").append(metaData).append("]");
+		return builder.toString();
+	}
+}
@@ -3,6 +3,7 @@ package se.sundsvall.notes.api.model;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -35,6 +36,10 @@ public class Note {
 	@Schema(description = "Modified timestamp")
 	private OffsetDateTime modified;
 
+	// Exposed as the ETag header, not in the body.
+	@JsonIgnore
+	private Integer version;
+
 	public static Note create() {
 		return new Note();
 	}
@@ -143,8 +148,21 @@ public class Note {
 		return this;
 	}
 
+	public Integer getVersion() {
+		return version;
+	}
+
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
+
+	public Note withVersion(Integer version) {
+		this.version = version;
+		return this;
+	}
+
 	@Override
-	public int hashCode() { return Objects.hash(body, created, createdBy, id, modified, modifiedBy, partyId, subject); }
+	public int hashCode() { return Objects.hash(body, created, createdBy, id, modified, modifiedBy, partyId, subject, version); }
 
 	@Override
 	public boolean equals(Object obj) {
@@ -156,14 +174,15 @@ public class Note {
 			return false;
 		Note other = (Note) obj;
 		return Objects.equals(body, other.body) && Objects.equals(created, other.created) && Objects.equals(createdBy, other.createdBy) && Objects.equals(id, other.id) && Objects
-			.equals(modified, other.modified) && Objects.equals(modifiedBy, other.modifiedBy) && Objects.equals(partyId, other.partyId) && Objects.equals(subject, other.subject);
+			.equals(modified, other.modified) && Objects.equals(modifiedBy, other.modifiedBy) && Objects.equals(partyId, other.partyId) && Objects.equals(subject, other.subject)
+			&& Objects.equals(version, other.version);
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
 		builder.append("Note [id=").append(id).append(", partyId=").append(partyId).append(", subject=").append(subject).append(", body=").append(body).append(", createdBy=")
-			.append(createdBy).append(", modifiedBy=").append(modifiedBy).append(", created=").append(created).append(", modified=").append(modified).append("]");
+			.append(createdBy).append(", modifiedBy=").append(modifiedBy).append(", created=").append(created).append(", modified=").append(modified).append(", version=").append(version).append("]");
 		return builder.toString();
 	}
 }
@@ -0,0 +1,99 @@
+package se.sundsvall.notes.api.model;
+
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "NoteEvent model, the data of an event in the note change feed")
+public class NoteEvent {
+
+	@Schema(description = "Type of change", allowableValues = { "created", "updated", "deleted" }, example = "updated")
+	private String type;
+
+	@Schema(description = "Note ID", example = "b82bd8ac-1507-4d9a-958d-369261eecc15")
+	private String noteId;
+
+	@Schema(description = "Party ID of the note", example = "81471222-5798-11e9-ae24-57fa13b361e1")
+	private String partyId;
+
+	@Schema(description = "The note as it is after the change, not present for deleted notes")
+	private Note note;
+
+	public static NoteEvent create() {
+		return new NoteEvent();
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	public NoteEvent withType(String type) {
+		this.type = type;
+		return this;
+	}
+
+	public String getNoteId() {
+		return noteId;
+	}
+
+	public void setNoteId(String noteId) {
+		this.noteId = noteId;
+	}
+
+	public NoteEvent withNoteId(String noteId) {
+		this.noteId = noteId;
+		return this;
+	}
+
+	public String getPartyId() {
+		return partyId;
+	}
+
+	public void setPartyId(String partyId) {
+		this.partyId = partyId;
+	}
+
+	public NoteEvent withPartyId(String partyId) {
+		this.partyId = partyId;
+		return this;
+	}
+
+	public Note getNote() {
+		return note;
+	}
+
+	public void setNote(Note note) {
+		this.note = note;
+	}
+
+	public NoteEvent withNote(Note note) {
+		this.note = note;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(note, noteId, partyId, type); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		NoteEvent other = (NoteEvent) obj;
+		return Objects.equals(note, other.note) && Objects.equals(noteId, other.noteId) && Objects.equals(partyId, other.partyId) && Objects.equals(type, other.type);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("NoteEvent [type=").append(type).append(", noteId=").append(noteId).append(", partyId=").append(partyId).append(", note=").append(note).append("]");
+		return builder.toString();
+	}
+}
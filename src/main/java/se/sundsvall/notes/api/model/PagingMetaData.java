@@ -0,0 +1,86 @@
+package se.sundsvall.notes.api.model;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "PagingMetaData model")
+public class PagingMetaData {
+
+	@Schema(description = "Maximum number of items requested for the page", example = "100")
+	private int limit;
+
+	@Schema(description = "Number of items in the page", example = "100")
+	private int count;
+
+	@Schema(description = "Opaque cursor pointing at the next page. Absent when there are no more items.", example = "MjAyMi0wMS0wMVQxMjoxNDozMi4yMzQrMDE6MDB8MTM0YWVkZWYtMmQzMy00MTBiLTg2NTQtMjA3ZTk2NDRmYzNk")
+	private String next;
+
+	public static PagingMetaData create() {
+		return new PagingMetaData();
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+
+	public PagingMetaData withLimit(int limit) {
+		this.limit = limit;
+		return this;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public void setCount(int count) {
+		this.count = count;
+	}
+
+	public PagingMetaData withCount(int count) {
+		this.count = count;
+		return this;
+	}
+
+	public String getNext() {
+		return next;
+	}
+
+	public void setNext(String next) {
+		this.next = next;
+	}
+
+	public PagingMetaData withNext(String next) {
+		this.next = next;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(count, limit, next); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		PagingMetaData other = (PagingMetaData) obj;
+		return count == other.count && limit == other.limit && Objects.equals(next, other.next);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("PagingMetaData [limit=").append(limit).append(", count=").append(count).append(", next=").append(next).append("]");
+		return builder.toString();
+	}
+}
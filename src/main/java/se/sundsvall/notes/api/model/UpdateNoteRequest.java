@@ -1,8 +1,11 @@
 package se.sundsvall.notes.api.model;
 
+import static javax.validation.constraints.Pattern.Flag.DOTALL;
+
 import java.util.Objects;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,13 +13,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Schema(description = "UpdateNoteRequest model")
 public class UpdateNoteRequest {
 
-	@Schema(description = "The note subject", example = "This is a subject", maximum = "256")
-	@NotBlank
+	// Absent values keep the current value, hence @Pattern, which accepts null, instead of @NotBlank.
+	@Schema(description = "The note subject. The current subject is kept if absent.", example = "This is a subject", maximum = "256")
+	@Pattern(regexp = ".*\\S.*", flags = DOTALL, message = "must not be blank")
 	@Size(min = 1, max = 256)
 	private String subject;
 
-	@Schema(description = "The note nody", example = "This is a note", maximum = "2048")
-	@NotBlank
+	@Schema(description = "The note nody. The current body is kept if absent.", example = "This is a note", maximum = "2048")
+	@Pattern(regexp = ".*\\S.*", flags = DOTALL, message = "must not be blank")
 	@Size(min = 1, max = 2048)
 	private String body;
 
@@ -0,0 +1,98 @@
+package se.sundsvall.notes.configuration;
+
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Runs Tomcat request handling, async request processing (e.g. streamed exports) and scheduled tasks on virtual threads,
+ * when notes.virtual-threads.enabled is true and the service runs on Java 21 or later. The service is built for Java 17,
+ * hence virtual threads are created through reflection, and the setting is ignored on older runtimes.
+ *
+ * A request blocked on JDBC then no longer holds a platform thread, hence the number of concurrent requests is no longer
+ * bounded by server.tomcat.threads.max, but by the Hikari pool, which requests wait on for a connection.
+ *
+ * Blocking within synchronized pins a virtual thread to its carrier thread on Java 21. Known sites:
+ * <ul>
+ * <li>The senders of NoteEventBroadcaster are kept on platform threads, as an SseEmitter sends within a synchronized
+ * block and a slow client would otherwise pin the carrier thread for as long as the send blocks.</li>
+ * <li>FileOutboxPublisher appends under a ReentrantLock, and PartyNotesCache loads pages outside of the compute of its
+ * cache, hence neither pins a carrier thread during I/O.</li>
+ * <li>The remaining synchronized blocks, the publishing lock of NoteEventBroadcaster and the counter of TimeOrderedUuid,
+ * do no I/O and are held briefly.</li>
+ * </ul>
+ * JDBC drivers and libraries may pin as well, which -Djdk.tracePinnedThreads=short reports.
+ */
+@Configuration
+@ConditionalOnProperty(name = "notes.virtual-threads.enabled", havingValue = "true")
+@Conditional(VirtualThreadsConfiguration.OnVirtualThreadsSupported.class)
+public class VirtualThreadsConfiguration {
+
+	static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+	@Bean
+	TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer() {
+		return protocolHandler -> protocolHandler.setExecutor(threadPerTaskExecutor(virtualThreadFactory("tomcat-handler-")));
+	}
+
+	// Replaces the thread pool of TaskExecutionAutoConfiguration, which Spring MVC uses for async request processing.
+	@Bean(name = APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+	AsyncTaskExecutor applicationTaskExecutor() {
+		return new TaskExecutorAdapter(threadPerTaskExecutor(virtualThreadFactory("task-")));
+	}
+
+	@Bean
+	TaskSchedulerCustomizer virtualThreadsTaskSchedulerCustomizer() {
+		return taskScheduler -> taskScheduler.setThreadFactory(virtualThreadFactory("scheduling-"));
+	}
+
+	static boolean isVirtualThreadsSupported() {
+		return Runtime.version().feature() >= VIRTUAL_THREADS_JAVA_VERSION;
+	}
+
+	/**
+	 * Returns the equivalent of Thread.ofVirtual().name(namePrefix, 1).factory(), which is not available when compiling
+	 * for Java 17. The methods are looked up on the public Thread.Builder interface, as the builder class is internal.
+	 */
+	static ThreadFactory virtualThreadFactory(String namePrefix) {
+		try {
+			final var builderClass = Class.forName("java.lang.Thread$Builder");
+			final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			final var namedBuilder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(namedBuilder);
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException("Virtual threads require Java " + VIRTUAL_THREADS_JAVA_VERSION + " or later", e);
+		}
+	}
+
+	// Starts a new thread for each task, as virtual threads are cheap to create and are not to be pooled.
+	private static Executor threadPerTaskExecutor(ThreadFactory threadFactory) {
+		return task -> threadFactory.newThread(task).start();
+	}
+
+	static class OnVirtualThreadsSupported extends SpringBootCondition {
+
+		@Override
+		public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			final var javaVersion = Runtime.version().feature();
+			return isVirtualThreadsSupported()
+				? ConditionOutcome.match("Java " + javaVersion + " supports virtual threads")
+				: ConditionOutcome.noMatch("Java " + javaVersion + " does not support virtual threads, Java " + VIRTUAL_THREADS_JAVA_VERSION + " or later is required");
+		}
+	}
+}
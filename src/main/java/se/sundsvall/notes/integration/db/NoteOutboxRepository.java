@@ -0,0 +1,24 @@
+package se.sundsvall.notes.integration.db;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface NoteOutboxRepository extends JpaRepository<NoteOutboxEntity, UUID> {
+
+	/**
+	 * Returns the oldest events, in id order, and locks them until the transaction ends. Events locked by another
+	 * transaction are skipped rather than waited for, hence concurrent relays, e.g. on several instances, take disjoint
+	 * batches.
+	 *
+	 * Id order is the order in which events were written, not the order in which their transactions committed. An event
+	 * committed after a batch was read, but with a lower id than the events in it, is returned by a later batch, and
+	 * concurrent relays publish their batches in any order. Hence there is no ordering guarantee across transactions.
+	 */
+	@Query(nativeQuery = true, value = "select * from note_outbox order by id limit :limit for update skip locked")
+	List<NoteOutboxEntity> findNextBatchForUpdate(@Param("limit") int limit);
+}
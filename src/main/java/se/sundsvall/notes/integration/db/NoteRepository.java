@@ -1,11 +1,71 @@
 package se.sundsvall.notes.integration.db;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSummaryProjection;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+public interface NoteRepository extends JpaRepository<NoteEntity, UUID>, NoteRepositoryCustom {
+
+	String STREAM_FETCH_SIZE = "1000";
+
+	/**
+	 * Returns the first page of notes for a party, ordered by (created, id).
+	 */
+	List<NoteEntity> findByPartyIdOrderByCreatedAscIdAsc(UUID partyId, Pageable pageable);
+
+	/**
+	 * Returns the page of notes for a party that follows the note positioned at (created, id), ordered by (created, id).
+	 * The position is used as a keyset predicate rather than an offset, hence the cost is the same for every page.
+	 */
+	@Query("select n from NoteEntity n where n.partyId = :partyId and (n.created > :created or (n.created = :created and n.id > :id)) order by n.created asc, n.id asc")
+	List<NoteEntity> findByPartyIdAfter(@Param("partyId") UUID partyId, @Param("created") OffsetDateTime created, @Param("id") UUID id, Pageable pageable);
+
+	/**
+	 * Same as {@link #findByPartyIdOrderByCreatedAscIdAsc(UUID, Pageable)}, without selecting the body.
+	 */
+	List<NoteSummaryProjection> findSummaryByPartyIdOrderByCreatedAscIdAsc(UUID partyId, Pageable pageable);
+
+	/**
+	 * Same as {@link #findByPartyIdAfter(UUID, OffsetDateTime, UUID, Pageable)}, without selecting the body.
+	 */
+	@Query("select n.id as id, n.partyId as partyId, n.created as created, n.createdBy as createdBy, n.modified as modified, n.modifiedBy as modifiedBy, n.subject as subject "
+		+ "from NoteEntity n where n.partyId = :partyId and (n.created > :created or (n.created = :created and n.id > :id)) order by n.created asc, n.id asc")
+	List<NoteSummaryProjection> findSummaryByPartyIdAfter(@Param("partyId") UUID partyId, @Param("created") OffsetDateTime created, @Param("id") UUID id, Pageable pageable);
+
+	/**
+	 * Returns the notes created or updated after the change sequence value, in change sequence order. Served by a range
+	 * scan of the change_seq index.
+	 */
+	List<NoteEntity> findByChangeSeqGreaterThanOrderByChangeSeqAsc(long changeSeq, Pageable pageable);
 
-public interface NoteRepository extends JpaRepository<NoteEntity, String> {
+	/**
+	 * Streams all notes for a party, ordered by (created, id). Rows are fetched from the database in chunks of
+	 * {@value #STREAM_FETCH_SIZE}, hence the stream must be consumed and closed within a transaction.
+	 */
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+	@Query("select n from NoteEntity n where n.partyId = :partyId order by n.created asc, n.id asc")
+	Stream<NoteEntity> streamByPartyId(@Param("partyId") UUID partyId);
 
-	List<NoteEntity> findByPartyIdOrderByCreated(String partyId);
+	/**
+	 * Streams all notes, ordered by id. The primary key order lets the table be read as it is stored, whereas any other
+	 * order would have the database sort the whole table before returning the first row. With uuid7 ids this is also
+	 * creation order. Rows are fetched from the database in chunks of {@value #STREAM_FETCH_SIZE}, hence the stream must
+	 * be consumed and closed within a transaction.
+	 */
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+	@Query("select n from NoteEntity n order by n.id asc")
+	Stream<NoteEntity> streamAll();
 }
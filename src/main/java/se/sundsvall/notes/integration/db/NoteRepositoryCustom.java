@@ -0,0 +1,68 @@
+package se.sundsvall.notes.integration.db;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+import se.sundsvall.notes.integration.db.model.NoteSummaryProjection;
+
+/**
+ * Repository methods that can not be expressed as Spring Data query methods.
+ */
+public interface NoteRepositoryCustom {
+
+	/**
+	 * Deletes the note with the given id in one statement, without loading it first.
+	 *
+	 * @param  id the id of the note to delete
+	 * @return    the partyId of the deleted note, or an empty list if no note with the id exists. The partyId may be null,
+	 *            as the column is nullable.
+	 */
+	List<UUID> deleteByIdReturningPartyId(UUID id);
+
+	/**
+	 * Updates the note with the given id in one statement, without loading it first. Only subject and body values that
+	 * are not null are written, modifiedBy is always written, modified is set to the current time, version is incremented
+	 * and the next change sequence value is assigned.
+	 *
+	 * @param  id              the id of the note to update
+	 * @param  subject         the new subject, or null to keep the current subject
+	 * @param  body            the new body, or null to keep the current body
+	 * @param  modifiedBy      the user making the update
+	 * @param  expectedVersion the version the note must have to be updated, or null to update regardless of version
+	 * @return                 the number of updated rows, i.e. 0 if no note with the id (and expected version) exists
+	 */
+	int updateById(UUID id, String subject, String body, String modifiedBy, Integer expectedVersion);
+
+	/**
+	 * Searches the subject and body of the notes of a party, using the fulltext index on (subject, body) in natural
+	 * language mode. Matches are ordered by relevance, most relevant first, and then by id. Passing the relevance and id of
+	 * the last match of a page returns the page that follows it.
+	 *
+	 * @param  partyId   the party whose notes are searched
+	 * @param  query     the words to search for
+	 * @param  relevance relevance of the match to continue after, or null for the first page
+	 * @param  id        id of the match to continue after, or null for the first page
+	 * @param  limit     the maximum number of matches to return
+	 * @return           the matching notes with their relevance
+	 */
+	List<NoteSearchResult> search(UUID partyId, String query, Double relevance, UUID id, int limit);
+
+	/**
+	 * Returns the first notes matching the specification, ordered by (created, id). Unlike the paged methods of
+	 * JpaSpecificationExecutor no count query is issued.
+	 *
+	 * @param  specification the notes to return, see {@link NoteSpecifications}
+	 * @param  limit         the maximum number of notes to return
+	 * @return               the matching notes
+	 */
+	List<NoteEntity> findAllOrderedByCreated(Specification<NoteEntity> specification, int limit);
+
+	/**
+	 * Same as {@link #findAllOrderedByCreated(Specification, int)}, without selecting the body.
+	 */
+	List<NoteSummaryProjection> findSummariesOrderedByCreated(Specification<NoteEntity> specification, int limit);
+}
@@ -0,0 +1,160 @@
+package se.sundsvall.notes.integration.db;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.Objects.nonNull;
+import static se.sundsvall.notes.integration.db.generator.ChangeSeqFunctionContributor.NEXT_CHANGE_SEQ;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.DoubleType;
+import org.hibernate.type.UUIDBinaryType;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+import se.sundsvall.notes.integration.db.model.NoteSummaryProjection;
+
+public class NoteRepositoryCustomImpl implements NoteRepositoryCustom {
+
+	// MariaDB specific: RETURNING hands back the party_id of the deleted row, which saves a select before the delete.
+	private static final String DELETE_BY_ID_RETURNING_PARTY_ID = "delete from note where id = :id returning party_id";
+
+	// MariaDB specific: MATCH ... AGAINST is served by note_subject_body_fulltext_index, and HAVING without GROUP BY filters
+	// on the relevance alias of the select list.
+	private static final String SEARCH = "select n.*, match(n.subject, n.body) against (:query in natural language mode) as relevance from note n "
+		+ "where n.party_id = :partyId and match(n.subject, n.body) against (:query in natural language mode) ";
+	private static final String SEARCH_AFTER_POSITION = "having relevance < :relevance or (relevance = :relevance and id > :id) ";
+	private static final String SEARCH_ORDER = "order by relevance desc, n.id asc";
+
+	// Attributes of NoteSummaryProjection, selected by alias so that each tuple can back a projection.
+	private static final List<String> SUMMARY_ATTRIBUTES = List.of("id", "partyId", "created", "createdBy", "modified", "modifiedBy", "subject");
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional
+	public List<UUID> deleteByIdReturningPartyId(UUID id) {
+		final NativeQuery<?> query = entityManager.createNativeQuery(DELETE_BY_ID_RETURNING_PARTY_ID).unwrap(NativeQuery.class);
+
+		return query
+			.addSynchronizedEntityClass(NoteEntity.class)
+			.addScalar("party_id", UUIDBinaryType.INSTANCE)
+			.setParameter("id", id, UUIDBinaryType.INSTANCE)
+			.getResultList().stream()
+			.map(UUID.class::cast)
+			.toList();
+	}
+
+	@Override
+	@Transactional
+	public int updateById(UUID id, String subject, String body, String modifiedBy, Integer expectedVersion) {
+		final var criteriaBuilder = entityManager.getCriteriaBuilder();
+		final var update = criteriaBuilder.createCriteriaUpdate(NoteEntity.class);
+		final var root = update.from(NoteEntity.class);
+
+		// Bulk updates bypass entity callbacks and versioning, hence modified and version are set here as they would have
+		// been by @PreUpdate and @Version.
+		update.set(root.<String>get("modifiedBy"), modifiedBy);
+		update.set(root.<OffsetDateTime>get("modified"), now().truncatedTo(MILLIS));
+		update.set(root.<Integer>get("version"), criteriaBuilder.sum(root.<Integer>get("version"), 1));
+		update.set(root.<Long>get("changeSeq"), criteriaBuilder.function(NEXT_CHANGE_SEQ, Long.class));
+		Optional.ofNullable(subject).ifPresent(value -> update.set(root.<String>get("subject"), value));
+		Optional.ofNullable(body).ifPresent(value -> update.set(root.<String>get("body"), value));
+
+		final var idPredicate = criteriaBuilder.equal(root.get("id"), id);
+		update.where(Optional.ofNullable(expectedVersion)
+			.map(version -> criteriaBuilder.and(idPredicate, criteriaBuilder.equal(root.get("version"), version)))
+			.orElse(idPredicate));
+
+		return entityManager.createQuery(update).executeUpdate();
+	}
+
+	@Override
+	public List<NoteSearchResult> search(UUID partyId, String query, Double relevance, UUID id, int limit) {
+		final var afterPosition = nonNull(relevance) && nonNull(id);
+		final NativeQuery<?> nativeQuery = entityManager.createNativeQuery(SEARCH + (afterPosition ? SEARCH_AFTER_POSITION : "") + SEARCH_ORDER).unwrap(NativeQuery.class);
+
+		nativeQuery
+			.addEntity("n", NoteEntity.class)
+			.addScalar("relevance", DoubleType.INSTANCE)
+			.setParameter("partyId", partyId, UUIDBinaryType.INSTANCE)
+			.setParameter("query", query)
+			.setMaxResults(limit);
+
+		if (afterPosition) {
+			nativeQuery
+				.setParameter("relevance", relevance, DoubleType.INSTANCE)
+				.setParameter("id", id, UUIDBinaryType.INSTANCE);
+		}
+
+		return nativeQuery.getResultList().stream()
+			.map(Object[].class::cast)
+			.map(row -> new NoteSearchResult((NoteEntity) row[0], (Double) row[1]))
+			.toList();
+	}
+
+	@Override
+	public List<NoteEntity> findAllOrderedByCreated(Specification<NoteEntity> specification, int limit) {
+		final var criteriaBuilder = entityManager.getCriteriaBuilder();
+		final var query = criteriaBuilder.createQuery(NoteEntity.class);
+		final var root = query.from(NoteEntity.class);
+
+		query.select(root);
+		whereOrderedByCreated(query, root, criteriaBuilder, specification);
+
+		return entityManager.createQuery(query)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	@Override
+	public List<NoteSummaryProjection> findSummariesOrderedByCreated(Specification<NoteEntity> specification, int limit) {
+		final var criteriaBuilder = entityManager.getCriteriaBuilder();
+		final var query = criteriaBuilder.createTupleQuery();
+		final var root = query.from(NoteEntity.class);
+
+		query.multiselect(SUMMARY_ATTRIBUTES.stream()
+			.<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+			.toList());
+		whereOrderedByCreated(query, root, criteriaBuilder, specification);
+
+		return entityManager.createQuery(query)
+			.setMaxResults(limit)
+			.getResultList().stream()
+			.map(NoteRepositoryCustomImpl::toNoteSummary)
+			.toList();
+	}
+
+	private static void whereOrderedByCreated(CriteriaQuery<?> query, Root<NoteEntity> root, CriteriaBuilder criteriaBuilder, Specification<NoteEntity> specification) {
+		Optional.ofNullable(specification)
+			.map(s -> s.toPredicate(root, query, criteriaBuilder))
+			.ifPresent(query::where);
+		query.orderBy(criteriaBuilder.asc(root.get("created")), criteriaBuilder.asc(root.get("id")));
+	}
+
+	private static NoteSummaryProjection toNoteSummary(Tuple tuple) {
+		// A HashMap, as modified and modifiedBy may be null.
+		final var values = new HashMap<String, Object>();
+		tuple.getElements().forEach(element -> values.put(element.getAlias(), tuple.get(element)));
+		return PROJECTION_FACTORY.createProjection(NoteSummaryProjection.class, values);
+	}
+}
@@ -0,0 +1,75 @@
+package se.sundsvall.notes.integration.db;
+
+import static java.util.Objects.isNull;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+
+/**
+ * Specifications of {@link NoteEntity}, combined into the where clause of filtered reads. A factory passed a null value
+ * returns null, which {@link Specification#and(Specification)} leaves out.
+ */
+public final class NoteSpecifications {
+
+	private NoteSpecifications() {}
+
+	public static Specification<NoteEntity> hasPartyId(UUID partyId) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("partyId"), partyId);
+	}
+
+	/**
+	 * Notes created at or after createdFrom.
+	 */
+	public static Specification<NoteEntity> isCreatedFrom(OffsetDateTime createdFrom) {
+		if (isNull(createdFrom)) {
+			return null;
+		}
+		return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.<OffsetDateTime>get("created"), createdFrom);
+	}
+
+	/**
+	 * Notes created before createdTo, so that consecutive ranges do not overlap.
+	 */
+	public static Specification<NoteEntity> isCreatedTo(OffsetDateTime createdTo) {
+		if (isNull(createdTo)) {
+			return null;
+		}
+		return (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.<OffsetDateTime>get("created"), createdTo);
+	}
+
+	/**
+	 * Notes created or modified at or after modifiedSince. Compared with last_changed, the latest of created and modified,
+	 * which unlike created or modified is served by one index together with party_id.
+	 */
+	public static Specification<NoteEntity> isModifiedSince(OffsetDateTime modifiedSince) {
+		if (isNull(modifiedSince)) {
+			return null;
+		}
+		return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.<OffsetDateTime>get("lastChanged"), modifiedSince);
+	}
+
+	public static Specification<NoteEntity> hasCreatedBy(String createdBy) {
+		if (isNull(createdBy)) {
+			return null;
+		}
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("createdBy"), createdBy);
+	}
+
+	/**
+	 * Notes positioned after (created, id) in the (created, id) ordering, used as keyset predicate when paging.
+	 */
+	public static Specification<NoteEntity> isAfter(OffsetDateTime created, UUID id) {
+		if (isNull(created) || isNull(id)) {
+			return null;
+		}
+		return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+			criteriaBuilder.greaterThan(root.<OffsetDateTime>get("created"), created),
+			criteriaBuilder.and(
+				criteriaBuilder.equal(root.get("created"), created),
+				criteriaBuilder.greaterThan(root.<UUID>get("id"), id)));
+	}
+}
@@ -0,0 +1,31 @@
+package se.sundsvall.notes.integration.db;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.notes.integration.db.model.NoteTombstoneEntity;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface NoteTombstoneRepository extends JpaRepository<NoteTombstoneEntity, Long> {
+
+	/**
+	 * Returns the tombstones written after the change sequence value, in change sequence order. Served by a range scan of
+	 * the primary key.
+	 */
+	List<NoteTombstoneEntity> findByChangeSeqGreaterThanOrderByChangeSeqAsc(long changeSeq, Pageable pageable);
+
+	/**
+	 * Records the delete of a note in one statement, taking the next change sequence value within the insert rather than
+	 * selecting it first.
+	 */
+	@Transactional
+	@Modifying
+	@Query(nativeQuery = true, value = "insert into note_tombstone (change_seq, note_id, party_id, deleted) values (nextval(note_change_seq), :noteId, :partyId, :deleted)")
+	void insert(@Param("noteId") UUID noteId, @Param("partyId") UUID partyId, @Param("deleted") OffsetDateTime deleted);
+}
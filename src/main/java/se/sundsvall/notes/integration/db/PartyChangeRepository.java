@@ -0,0 +1,29 @@
+package se.sundsvall.notes.integration.db;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.notes.integration.db.model.PartyChangeEntity;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PartyChangeRepository extends JpaRepository<PartyChangeEntity, UUID> {
+
+	/**
+	 * Returns the change counter of a party, without loading the entity.
+	 */
+	@Query("select p.version from PartyChangeEntity p where p.partyId = :partyId")
+	Optional<Long> findVersionByPartyId(@Param("partyId") UUID partyId);
+
+	/**
+	 * Increments the change counter of a party, creating it with version 1 on the first change. The row lock taken by the
+	 * upsert is held until commit, hence concurrent writes to the same party get distinct versions.
+	 */
+	@Transactional
+	@Modifying
+	@Query(nativeQuery = true, value = "insert into party_change (party_id, version) values (:partyId, 1) on duplicate key update version = version + 1")
+	void incrementVersion(@Param("partyId") UUID partyId);
+}
@@ -0,0 +1,34 @@
+package se.sundsvall.notes.integration.db;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+
+/**
+ * Helpers for work tied to the outcome of the current transaction.
+ */
+public final class Transactions {
+
+	private Transactions() {}
+
+	/**
+	 * Runs the action once the current transaction has committed, and not at all if it rolls back. Outside a transaction
+	 * the action is run right away.
+	 *
+	 * @param action the action to run
+	 */
+	public static void afterCommit(Runnable action) {
+		if (isSynchronizationActive()) {
+			registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+
+		action.run();
+	}
+}
@@ -0,0 +1,21 @@
+package se.sundsvall.notes.integration.db.generator;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.LongType;
+
+/**
+ * Registers the function {@value #NEXT_CHANGE_SEQ}, which takes the next value of the note_change_seq sequence. Lets JPQL
+ * and criteria updates assign a change sequence value within the update statement itself. Registered by the Hibernate
+ * setting hibernate.metadata_builder_contributor, set through spring.jpa.properties.
+ */
+public class ChangeSeqFunctionContributor implements MetadataBuilderContributor {
+
+	public static final String NEXT_CHANGE_SEQ = "next_change_seq";
+
+	@Override
+	public void contribute(MetadataBuilder metadataBuilder) {
+		metadataBuilder.applySqlFunction(NEXT_CHANGE_SEQ, new SQLFunctionTemplate(LongType.INSTANCE, "nextval(note_change_seq)"));
+	}
+}
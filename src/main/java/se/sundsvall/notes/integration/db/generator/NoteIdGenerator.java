@@ -0,0 +1,77 @@
+package se.sundsvall.notes.integration.db.generator;
+
+import static java.lang.String.format;
+import static java.util.Arrays.stream;
+
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Hibernate identifier generator for note ids. The strategy is selected by the Hibernate setting
+ * {@value #STRATEGY_SETTING}, set through spring.jpa.properties, unless fixed for an entity by the generator parameter
+ * {@value #STRATEGY_PARAMETER}.
+ *
+ * <ul>
+ * <li>{@code uuid4} - random UUIDs, which land at random positions in the clustered primary key.</li>
+ * <li>{@code uuid7} - time ordered UUIDs, which are appended to the end of the clustered primary key. The default.</li>
+ * </ul>
+ */
+public class NoteIdGenerator implements IdentifierGenerator {
+
+	public static final String STRATEGY_SETTING = "notes.id-generator.strategy";
+	public static final String STRATEGY_PARAMETER = "strategy";
+
+	private Strategy strategy = Strategy.UUID7;
+
+	public enum Strategy {
+		UUID4("uuid4", UUID::randomUUID),
+		UUID7("uuid7", TimeOrderedUuid::generate);
+
+		private final String value;
+		private final Supplier<UUID> supplier;
+
+		Strategy(String value, Supplier<UUID> supplier) {
+			this.value = value;
+			this.supplier = supplier;
+		}
+
+		public UUID generate() {
+			return supplier.get();
+		}
+
+		public static Strategy fromValue(String value) {
+			return stream(values())
+				.filter(strategy -> strategy.value.equalsIgnoreCase(value))
+				.findFirst()
+				.orElseThrow(() -> new MappingException(format("Unknown value '%s' for setting '%s'", value, STRATEGY_SETTING)));
+		}
+	}
+
+	@Override
+	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+		final var setting = Optional.<Object>ofNullable(params.getProperty(STRATEGY_PARAMETER))
+			.orElseGet(() -> serviceRegistry.getService(ConfigurationService.class).getSettings().get(STRATEGY_SETTING));
+		if (setting != null) {
+			strategy = Strategy.fromValue(String.valueOf(setting));
+		}
+	}
+
+	@Override
+	public Serializable generate(SharedSessionContractImplementor session, Object object) {
+		return strategy.generate();
+	}
+
+	Strategy getStrategy() {
+		return strategy;
+	}
+}
@@ -0,0 +1,53 @@
+package se.sundsvall.notes.integration.db.generator;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+
+/**
+ * Generator of version 7 UUIDs (RFC 9562). The 48 most significant bits hold the unix epoch timestamp in milliseconds,
+ * hence the generated values sort in creation order when compared byte by byte, which is how MariaDB compares
+ * binary(16) columns.
+ *
+ * The 12 bits following the version hold a counter, started at a random value in the lower half of its range for each
+ * new millisecond, which makes the values generated within the same millisecond by this instance sort in generation
+ * order as well. The remaining bits, apart from variant, are random.
+ */
+public class TimeOrderedUuid {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private static final long VERSION_7 = 0x7000L;
+	private static final long COUNTER_MAX = 0x0FFFL;
+	private static final int COUNTER_SEED_MASK = 0x07FF;
+	private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+	private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+	private static long lastMillis = -1;
+	private static long lastCounter;
+
+	private TimeOrderedUuid() {}
+
+	public static UUID generate() {
+		return generate(Clock.systemUTC());
+	}
+
+	static UUID generate(Clock clock) {
+		final var millis = clock.millis();
+		final var mostSigBits = (millis << 16) | VERSION_7 | nextCounter(millis);
+		final var leastSigBits = VARIANT_RFC_4122 | (RANDOM.nextLong() & RAND_B_MASK);
+
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	private static synchronized long nextCounter(long millis) {
+		// An exhausted counter, or a clock that went backwards, starts a new random counter and gives up ordering.
+		if (millis == lastMillis && lastCounter < COUNTER_MAX) {
+			return ++lastCounter;
+		}
+
+		lastMillis = millis;
+		lastCounter = RANDOM.nextInt() & COUNTER_SEED_MASK;
+		return lastCounter;
+	}
+}
@@ -1,5 +1,6 @@
 package se.sundsvall.notes.integration.db.model;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.Column;
@@ -11,26 +12,33 @@ import javax.persistence.Lob;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.time.OffsetDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
 import static java.time.OffsetDateTime.now;
 import static java.time.temporal.ChronoUnit.MILLIS;
 
+// The fulltext index on (subject, body) used by search can not be declared here, see delta script 007.
+// The note_change_seq sequence used by change_seq is declared by NoteTombstoneEntity.
 @Entity
 @Table(name = "note", indexes = {
-	@Index(name = "note_party_id_index", columnList = "party_id")
+	@Index(name = "note_party_id_created_id_index", columnList = "party_id, created, id"),
+	@Index(name = "note_party_id_created_by_created_id_index", columnList = "party_id, created_by, created, id"),
+	@Index(name = "note_party_id_last_changed_index", columnList = "party_id, last_changed"),
+	@Index(name = "note_change_seq_index", columnList = "change_seq")
 })
 public class NoteEntity {
 
 	@Id
-	@GeneratedValue(generator = "uuid2")
-	@GenericGenerator(name = "uuid2", strategy = "org.hibernate.id.UUIDGenerator")
-	@Column(name = "id")
-	private String id;
+	@GeneratedValue(generator = "note-id")
+	@GenericGenerator(name = "note-id", strategy = "se.sundsvall.notes.integration.db.generator.NoteIdGenerator")
+	@Column(name = "id", length = 16)
+	private UUID id;
 
-	@Column(name = "party_id")
-	private String partyId;
+	@Column(name = "party_id", length = 16)
+	private UUID partyId;
 
 	@Column(name = "created_by")
 	private String createdBy;
@@ -44,6 +52,11 @@ public class NoteEntity {
 	@Column(name = "modified")
 	private OffsetDateTime modified;
 
+	// The latest of created and modified, generated by the database. Serves the modifiedSince filter, as modified is null
+	// until the note is updated. Not refreshed on save, hence only set on notes read from the database.
+	@Column(name = "last_changed", insertable = false, updatable = false, columnDefinition = "datetime(6) as (coalesce(modified, created)) persistent")
+	private OffsetDateTime lastChanged;
+
 	@Column(name = "subject")
 	private String subject;
 
@@ -51,31 +64,42 @@ public class NoteEntity {
 	@Lob
 	private String body;
 
+	@Version
+	@Column(name = "version", nullable = false)
+	@ColumnDefault("0")
+	private Integer version;
+
+	// Position of the latest change to the note in the sequence shared with note tombstones. Assigned by the database on
+	// insert, and by NoteRepository.updateById on update.
+	@Column(name = "change_seq", insertable = false, updatable = false)
+	@ColumnDefault("(nextval(note_change_seq))")
+	private Long changeSeq;
+
 	public static NoteEntity create() {
 		return new NoteEntity();
 	}
 
-	public String getId() {
+	public UUID getId() {
 		return id;
 	}
 
-	public void setId(String id) {
+	public void setId(UUID id) {
 		this.id = id;
 	}
 
-	public NoteEntity withId(String id) {
+	public NoteEntity withId(UUID id) {
 		this.id = id;
 		return this;
 	}
-	public String getPartyId() {
+	public UUID getPartyId() {
 		return partyId;
 	}
 
-	public void setPartyId(String partyId) {
+	public void setPartyId(UUID partyId) {
 		this.partyId = partyId;
 	}
 
-	public NoteEntity withPartyId(String partyId) {
+	public NoteEntity withPartyId(UUID partyId) {
 		this.partyId = partyId;
 		return this;
 	}
@@ -132,6 +156,10 @@ public class NoteEntity {
 		return this;
 	}
 
+	public OffsetDateTime getLastChanged() {
+		return lastChanged;
+	}
+
 	public String getSubject() {
 		return subject;
 	}
@@ -158,6 +186,32 @@ public class NoteEntity {
 		return this;
 	}
 
+	public Integer getVersion() {
+		return version;
+	}
+
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
+
+	public NoteEntity withVersion(Integer version) {
+		this.version = version;
+		return this;
+	}
+
+	public Long getChangeSeq() {
+		return changeSeq;
+	}
+
+	public void setChangeSeq(Long changeSeq) {
+		this.changeSeq = changeSeq;
+	}
+
+	public NoteEntity withChangeSeq(Long changeSeq) {
+		this.changeSeq = changeSeq;
+		return this;
+	}
+
 	@PrePersist
 	void prePersist() {
 		created = now().truncatedTo(MILLIS);
@@ -169,7 +223,7 @@ public class NoteEntity {
 	}
 
 	@Override
-	public int hashCode() { return Objects.hash(id, partyId, created, createdBy, modified, modifiedBy, subject, body); }
+	public int hashCode() { return Objects.hash(id, partyId, created, createdBy, modified, modifiedBy, subject, body, version, changeSeq); }
 
 	@Override
 	public boolean equals(Object obj) {
@@ -182,14 +236,15 @@ public class NoteEntity {
 		NoteEntity other = (NoteEntity) obj;
 		return Objects.equals(id, other.id) && Objects.equals(partyId, other.partyId) && Objects.equals(created, other.created) && Objects.equals(createdBy,
 			other.createdBy) && Objects.equals(modified, other.modified) && Objects.equals(modifiedBy, other.modifiedBy) && Objects.equals(subject, other.subject) &&
-			Objects.equals(body, other.body);
+			Objects.equals(body, other.body) && Objects.equals(version, other.version) && Objects.equals(changeSeq, other.changeSeq);
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
 		builder.append("NoteEntity [id=").append(id).append(", partyId=").append(partyId).append(", created=").append(created).append(", createdBy=").append(createdBy).append(
-			", modified=").append(modified).append(", modifiedBy=").append(modifiedBy).append(", subject=").append(subject).append(", body=").append(body).append("]");
+			", modified=").append(modified).append(", modifiedBy=").append(modifiedBy).append(", subject=").append(subject).append(", body=").append(body).append(", version=").append(version)
+			.append(", changeSeq=").append(changeSeq).append("]");
 		return builder.toString();
 	}
 }
@@ -0,0 +1,161 @@
+package se.sundsvall.notes.integration.db.model;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.PrePersist;
+import javax.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.MILLIS;
+
+/**
+ * Note change event waiting to be relayed to downstream systems. Written in the same transaction as the change, hence
+ * an event exists if and only if the change was committed.
+ */
+@Entity
+@Table(name = "note_outbox")
+public class NoteOutboxEntity {
+
+	// Always time ordered, so that events are relayed in the order they were written.
+	@Id
+	@GeneratedValue(generator = "note-outbox-id")
+	@GenericGenerator(name = "note-outbox-id", strategy = "se.sundsvall.notes.integration.db.generator.NoteIdGenerator", parameters = @Parameter(name = "strategy", value = "uuid7"))
+	@Column(name = "id", length = 16)
+	private UUID id;
+
+	@Column(name = "event_type")
+	private String eventType;
+
+	@Column(name = "note_id", length = 16)
+	private UUID noteId;
+
+	@Column(name = "party_id", length = 16)
+	private UUID partyId;
+
+	@Column(name = "payload")
+	@Lob
+	private String payload;
+
+	@Column(name = "created")
+	private OffsetDateTime created;
+
+	public static NoteOutboxEntity create() {
+		return new NoteOutboxEntity();
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public void setId(UUID id) {
+		this.id = id;
+	}
+
+	public NoteOutboxEntity withId(UUID id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getEventType() {
+		return eventType;
+	}
+
+	public void setEventType(String eventType) {
+		this.eventType = eventType;
+	}
+
+	public NoteOutboxEntity withEventType(String eventType) {
+		this.eventType = eventType;
+		return this;
+	}
+
+	public UUID getNoteId() {
+		return noteId;
+	}
+
+	public void setNoteId(UUID noteId) {
+		this.noteId = noteId;
+	}
+
+	public NoteOutboxEntity withNoteId(UUID noteId) {
+		this.noteId = noteId;
+		return this;
+	}
+
+	public UUID getPartyId() {
+		return partyId;
+	}
+
+	public void setPartyId(UUID partyId) {
+		this.partyId = partyId;
+	}
+
+	public NoteOutboxEntity withPartyId(UUID partyId) {
+		this.partyId = partyId;
+		return this;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public void setPayload(String payload) {
+		this.payload = payload;
+	}
+
+	public NoteOutboxEntity withPayload(String payload) {
+		this.payload = payload;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public NoteOutboxEntity withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@PrePersist
+	void prePersist() {
+		created = now().truncatedTo(MILLIS);
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(id, eventType, noteId, partyId, payload, created); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		NoteOutboxEntity other = (NoteOutboxEntity) obj;
+		return Objects.equals(id, other.id) && Objects.equals(eventType, other.eventType) && Objects.equals(noteId, other.noteId) && Objects.equals(partyId, other.partyId) &&
+			Objects.equals(payload, other.payload) && Objects.equals(created, other.created);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("NoteOutboxEntity [id=").append(id).append(", eventType=").append(eventType).append(", noteId=").append(noteId).append(", partyId=").append(partyId)
+			.append(", payload=").append(payload).append(", created=").append(created).append("]");
+		return builder.toString();
+	}
+}
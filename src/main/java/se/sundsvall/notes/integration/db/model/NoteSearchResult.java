@@ -0,0 +1,6 @@
+package se.sundsvall.notes.integration.db.model;
+
+/**
+ * A note matching a fulltext search, with the relevance of the match as calculated by the database.
+ */
+public record NoteSearchResult(NoteEntity noteEntity, double relevance) {}
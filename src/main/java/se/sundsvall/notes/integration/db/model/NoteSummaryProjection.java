@@ -0,0 +1,24 @@
+package se.sundsvall.notes.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Closed projection of {@link NoteEntity} without the body, hence the body column is never selected.
+ */
+public interface NoteSummaryProjection {
+
+	UUID getId();
+
+	UUID getPartyId();
+
+	OffsetDateTime getCreated();
+
+	String getCreatedBy();
+
+	OffsetDateTime getModified();
+
+	String getModifiedBy();
+
+	String getSubject();
+}
@@ -0,0 +1,116 @@
+package se.sundsvall.notes.integration.db.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Record of a deleted note, kept so that replicas syncing changes since a watermark learn about the delete.
+ *
+ * The change sequence is shared with note.change_seq, hence deletes and other changes are ordered in one sequence.
+ */
+@Entity
+@Table(name = "note_tombstone")
+public class NoteTombstoneEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "note-change-seq")
+	@SequenceGenerator(name = "note-change-seq", sequenceName = "note_change_seq", allocationSize = 1)
+	@Column(name = "change_seq")
+	private Long changeSeq;
+
+	@Column(name = "note_id", length = 16)
+	private UUID noteId;
+
+	@Column(name = "party_id", length = 16)
+	private UUID partyId;
+
+	@Column(name = "deleted")
+	private OffsetDateTime deleted;
+
+	public static NoteTombstoneEntity create() {
+		return new NoteTombstoneEntity();
+	}
+
+	public Long getChangeSeq() {
+		return changeSeq;
+	}
+
+	public void setChangeSeq(Long changeSeq) {
+		this.changeSeq = changeSeq;
+	}
+
+	public NoteTombstoneEntity withChangeSeq(Long changeSeq) {
+		this.changeSeq = changeSeq;
+		return this;
+	}
+
+	public UUID getNoteId() {
+		return noteId;
+	}
+
+	public void setNoteId(UUID noteId) {
+		this.noteId = noteId;
+	}
+
+	public NoteTombstoneEntity withNoteId(UUID noteId) {
+		this.noteId = noteId;
+		return this;
+	}
+
+	public UUID getPartyId() {
+		return partyId;
+	}
+
+	public void setPartyId(UUID partyId) {
+		this.partyId = partyId;
+	}
+
+	public NoteTombstoneEntity withPartyId(UUID partyId) {
+		this.partyId = partyId;
+		return this;
+	}
+
+	public OffsetDateTime getDeleted() {
+		return deleted;
+	}
+
+	public void setDeleted(OffsetDateTime deleted) {
+		this.deleted = deleted;
+	}
+
+	public NoteTombstoneEntity withDeleted(OffsetDateTime deleted) {
+		this.deleted = deleted;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(changeSeq, noteId, partyId, deleted); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		NoteTombstoneEntity other = (NoteTombstoneEntity) obj;
+		return Objects.equals(changeSeq, other.changeSeq) && Objects.equals(noteId, other.noteId) && Objects.equals(partyId, other.partyId) && Objects.equals(deleted, other.deleted);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("NoteTombstoneEntity [changeSeq=").append(changeSeq).append(", noteId=").append(noteId).append(", partyId=").append(partyId).append(", deleted=").append(deleted)
+			.append("]");
+		return builder.toString();
+	}
+}
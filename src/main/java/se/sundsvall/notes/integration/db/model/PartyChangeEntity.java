@@ -0,0 +1,75 @@
+package se.sundsvall.notes.integration.db.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Change counter of a party, incremented in the same transaction as every write to the notes of the party.
+ */
+@Entity
+@Table(name = "party_change")
+public class PartyChangeEntity {
+
+	@Id
+	@Column(name = "party_id", length = 16)
+	private UUID partyId;
+
+	@Column(name = "version", nullable = false)
+	private Long version;
+
+	public static PartyChangeEntity create() {
+		return new PartyChangeEntity();
+	}
+
+	public UUID getPartyId() {
+		return partyId;
+	}
+
+	public void setPartyId(UUID partyId) {
+		this.partyId = partyId;
+	}
+
+	public PartyChangeEntity withPartyId(UUID partyId) {
+		this.partyId = partyId;
+		return this;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public PartyChangeEntity withVersion(Long version) {
+		this.version = version;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(partyId, version); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		PartyChangeEntity other = (PartyChangeEntity) obj;
+		return Objects.equals(partyId, other.partyId) && Objects.equals(version, other.version);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("PartyChangeEntity [partyId=").append(partyId).append(", version=").append(version).append("]");
+		return builder.toString();
+	}
+}
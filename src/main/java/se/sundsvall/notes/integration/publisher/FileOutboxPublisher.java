@@ -0,0 +1,67 @@
+package se.sundsvall.notes.integration.publisher;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+
+/**
+ * Publishes events by appending them to a local file, one JSON document per line holding the event id and the event.
+ * Each batch is forced to disk before it is reported as published.
+ *
+ * Batches are appended one at a time under a ReentrantLock rather than synchronized, so that a relay running on a
+ * virtual thread does not pin its carrier thread while it waits for the file I/O.
+ */
+@Component
+@ConditionalOnProperty(name = "notes.outbox.publisher.type", havingValue = "file")
+public class FileOutboxPublisher implements OutboxPublisher {
+
+	private final Lock lock = new ReentrantLock();
+	private final Path path;
+
+	public FileOutboxPublisher(@Value("${notes.outbox.publisher.file.path}") Path path) throws IOException {
+		this.path = path;
+
+		final var parent = Optional.ofNullable(path.toAbsolutePath().getParent());
+		if (parent.isPresent()) {
+			Files.createDirectories(parent.get());
+		}
+	}
+
+	@Override
+	public void publish(List<NoteOutboxEntity> events) {
+		final var lines = new StringBuilder();
+		events.forEach(event -> lines.append(format("{\"id\":\"%s\",\"event\":%s}\n", event.getId(), event.getPayload())));
+		final var buffer = ByteBuffer.wrap(lines.toString().getBytes(UTF_8));
+
+		lock.lock();
+		try (final var channel = FileChannel.open(path, CREATE, WRITE, APPEND)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+}
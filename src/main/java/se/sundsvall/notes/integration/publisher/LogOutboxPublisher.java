@@ -0,0 +1,25 @@
+package se.sundsvall.notes.integration.publisher;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+
+/**
+ * Publishes events to the application log. The default publisher, which needs nothing outside the service.
+ */
+@Component
+@ConditionalOnProperty(name = "notes.outbox.publisher.type", havingValue = "log", matchIfMissing = true)
+public class LogOutboxPublisher implements OutboxPublisher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LogOutboxPublisher.class);
+
+	@Override
+	public void publish(List<NoteOutboxEntity> events) {
+		events.forEach(event -> LOGGER.info("Note event: id='{}', type='{}', noteId='{}', partyId='{}'", event.getId(), event.getEventType(), event.getNoteId(), event.getPartyId()));
+	}
+}
@@ -0,0 +1,20 @@
+package se.sundsvall.notes.integration.publisher;
+
+import java.util.List;
+
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+
+/**
+ * Hands note change events over to downstream systems. The implementation is selected by the property
+ * notes.outbox.publisher.type.
+ */
+public interface OutboxPublisher {
+
+	/**
+	 * Publishes a batch of events, in the given order. Returning normally means that every event has been handed over. On
+	 * an exception the whole batch is retried, hence an event may be published more than once.
+	 *
+	 * @param events the events to publish
+	 */
+	void publish(List<NoteOutboxEntity> events);
+}
@@ -0,0 +1,338 @@
+package se.sundsvall.notes.integration.search;
+
+import static java.util.Objects.nonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.sv.SwedishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.Transactions;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+
+/**
+ * Searches through an embedded Lucene index on local disk, analyzed as Swedish, i.e. with Swedish stemming and
+ * stopwords.
+ *
+ * The index holds the ids of the notes and is kept in sync with the changes made by the service once their transactions
+ * have committed. Changes become searchable at the next refresh and durable at the next commit of the index. The index
+ * is rebuilt from the note table on startup if it is missing, or if the service was not shut down cleanly, as changes
+ * since the last commit of the index may then have been lost. Notes changed by other means than the service, e.g. by
+ * another instance, are only found once the index is rebuilt.
+ */
+@Component
+@ConditionalOnProperty(name = "notes.search.engine", havingValue = "lucene")
+public class LuceneNoteSearchEngine implements NoteSearchEngine {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LuceneNoteSearchEngine.class);
+
+	private static final String FIELD_ID = "id";
+	private static final String FIELD_PARTY_ID = "partyId";
+	private static final String FIELD_SUBJECT = "subject";
+	private static final String FIELD_BODY = "body";
+
+	private static final String CLEAN_SHUTDOWN = "cleanShutdown";
+	private static final int REBUILD_BATCH_SIZE = 1000;
+
+	// Same order as the fulltext search of the database: most relevant first, then by id.
+	private static final Sort SORT = new Sort(SortField.FIELD_SCORE, new SortField(FIELD_ID, SortField.Type.STRING));
+
+	private final NoteRepository noteRepository;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final int rebuildThreads;
+	private final Directory directory;
+	private final Analyzer analyzer;
+	private final QueryBuilder queryBuilder;
+	private final IndexWriter indexWriter;
+	private final SearcherManager searcherManager;
+	private final boolean rebuildRequired;
+
+	public LuceneNoteSearchEngine(NoteRepository noteRepository, EntityManager entityManager, PlatformTransactionManager transactionManager,
+		@Value("${notes.search.lucene.path}") Path path,
+		@Value("${notes.search.lucene.rebuild-threads}") int rebuildThreads) throws IOException {
+
+		this.noteRepository = noteRepository;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.rebuildThreads = rebuildThreads;
+		this.directory = new MMapDirectory(path);
+		this.analyzer = new SwedishAnalyzer();
+		this.queryBuilder = new QueryBuilder(analyzer);
+
+		this.rebuildRequired = !DirectoryReader.indexExists(directory)
+			|| !Boolean.parseBoolean(SegmentInfos.readLatestCommit(directory).getUserData().get(CLEAN_SHUTDOWN));
+
+		this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(OpenMode.CREATE_OR_APPEND));
+		markCleanShutdown(false);
+		this.searcherManager = new SearcherManager(indexWriter, null);
+	}
+
+	@PostConstruct
+	void init() {
+		if (rebuildRequired) {
+			rebuild();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() throws IOException {
+		searcherManager.close();
+		markCleanShutdown(true);
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Override
+	public List<NoteSearchResult> search(UUID partyId, String query, Double relevance, UUID id, int limit) {
+		final var textQuery = toTextQuery(query);
+		if (textQuery.isEmpty()) {
+			return List.of();
+		}
+
+		final var luceneQuery = new BooleanQuery.Builder()
+			.add(new TermQuery(new Term(FIELD_PARTY_ID, partyId.toString())), Occur.FILTER)
+			.add(textQuery.get(), Occur.MUST)
+			.build();
+
+		final List<FieldDoc> matches;
+		try {
+			final var searcher = searcherManager.acquire();
+			try {
+				matches = Arrays.stream(searchAfter(searcher, luceneQuery, relevance, id, limit).scoreDocs)
+					.map(FieldDoc.class::cast)
+					.toList();
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		// The index only holds ids, the notes are read from the database. A note deleted since the last refresh is left out.
+		final var ids = matches.stream().map(LuceneNoteSearchEngine::toId).toList();
+		final var noteEntities = noteRepository.findAllById(ids).stream().collect(toMap(NoteEntity::getId, identity()));
+
+		return matches.stream()
+			.filter(match -> noteEntities.containsKey(toId(match)))
+			.map(match -> new NoteSearchResult(noteEntities.get(toId(match)), match.score))
+			.toList();
+	}
+
+	@Override
+	public void notesSaved(List<NoteEntity> noteEntities) {
+		// Documents are built right away, as the entities may change before the transaction commits.
+		final var documents = noteEntities.stream()
+			.collect(toMap(noteEntity -> new Term(FIELD_ID, noteEntity.getId().toString()), LuceneNoteSearchEngine::toDocument));
+
+		afterCommit(() -> {
+			for (final var document : documents.entrySet()) {
+				indexWriter.updateDocument(document.getKey(), document.getValue());
+			}
+		});
+	}
+
+	@Override
+	public void noteDeleted(UUID id) {
+		afterCommit(() -> indexWriter.deleteDocuments(new Term(FIELD_ID, id.toString())));
+	}
+
+	/**
+	 * Rebuilds the index from the note table. Notes are read by one thread and indexed in batches by
+	 * notes.search.lucene.rebuild-threads threads in parallel.
+	 */
+	public void rebuild() {
+		LOGGER.info("Rebuilding search index");
+		final var started = System.currentTimeMillis();
+		final var executor = Executors.newFixedThreadPool(rebuildThreads, new CustomizableThreadFactory("search-index-rebuild-"));
+		// Bounds the number of read but not yet indexed batches, so that reading can not run away from indexing.
+		final var permits = new Semaphore(rebuildThreads * 2);
+		final var batches = new ArrayList<Future<Long>>();
+
+		try {
+			indexWriter.deleteAll();
+
+			transactionTemplate.executeWithoutResult(status -> {
+				try (final var noteEntities = noteRepository.streamAll()) {
+					final var batch = new ArrayList<Document>(REBUILD_BATCH_SIZE);
+					noteEntities.forEach(noteEntity -> {
+						batch.add(toDocument(noteEntity));
+						entityManager.detach(noteEntity);
+						if (batch.size() == REBUILD_BATCH_SIZE) {
+							batches.add(index(executor, permits, List.copyOf(batch)));
+							batch.clear();
+						}
+					});
+					if (!batch.isEmpty()) {
+						batches.add(index(executor, permits, List.copyOf(batch)));
+					}
+				}
+			});
+
+			for (final var batch : batches) {
+				batch.get();
+			}
+
+			indexWriter.commit();
+			searcherManager.maybeRefresh();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Rebuilding search index was interrupted", e);
+		} catch (final ExecutionException e) {
+			throw new IllegalStateException("Rebuilding search index failed", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		LOGGER.info("Rebuilt search index with {} notes in {} ms", indexWriter.getDocStats().numDocs, System.currentTimeMillis() - started);
+	}
+
+	/**
+	 * Makes the changes applied since the last refresh searchable, without committing them to disk.
+	 */
+	@Scheduled(fixedDelayString = "${notes.search.lucene.refresh-interval}")
+	public void refresh() throws IOException {
+		searcherManager.maybeRefresh();
+	}
+
+	/**
+	 * Makes the changes applied since the last commit durable.
+	 */
+	@Scheduled(fixedDelayString = "${notes.search.lucene.commit-interval}")
+	public void commit() throws IOException {
+		indexWriter.commit();
+	}
+
+	private Optional<Query> toTextQuery(String query) {
+		final var builder = new BooleanQuery.Builder();
+		Stream.of(FIELD_SUBJECT, FIELD_BODY)
+			.map(field -> queryBuilder.createBooleanQuery(field, query, Occur.SHOULD))
+			// Null when the query holds nothing but stopwords.
+			.filter(Objects::nonNull)
+			.forEach(fieldQuery -> builder.add(fieldQuery, Occur.SHOULD));
+
+		final var textQuery = builder.build();
+		return textQuery.clauses().isEmpty() ? Optional.empty() : Optional.of(textQuery);
+	}
+
+	private static TopFieldDocs searchAfter(IndexSearcher searcher, Query query, Double relevance, UUID id, int limit) throws IOException {
+		if (nonNull(relevance) && nonNull(id)) {
+			// Ids are unique, so only the note at the position itself has the same sort values. Placing the position after every
+			// document excludes it, as the document number is the last tie-breaker.
+			final var afterDoc = Math.max(0, searcher.getIndexReader().maxDoc() - 1);
+			final var after = new FieldDoc(afterDoc, relevance.floatValue(), new Object[] { relevance.floatValue(), new BytesRef(id.toString()) });
+			return searcher.searchAfter(after, query, limit, SORT, true);
+		}
+
+		return searcher.search(query, limit, SORT, true);
+	}
+
+	private Future<Long> index(ExecutorService executor, Semaphore permits, List<Document> documents) {
+		permits.acquireUninterruptibly();
+		return executor.submit(() -> {
+			try {
+				return indexWriter.addDocuments(documents);
+			} finally {
+				permits.release();
+			}
+		});
+	}
+
+	private void markCleanShutdown(boolean cleanShutdown) throws IOException {
+		indexWriter.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, String.valueOf(cleanShutdown)).entrySet());
+		indexWriter.commit();
+	}
+
+	private static void afterCommit(IndexChange change) {
+		Transactions.afterCommit(() -> apply(change));
+	}
+
+	private static void apply(IndexChange change) {
+		try {
+			change.apply();
+		} catch (final IOException | RuntimeException e) {
+			// The change is committed in the database, hence it is not failed because the index could not be updated.
+			LOGGER.warn("Updating search index failed, the index is out of sync until rebuilt", e);
+		}
+	}
+
+	private static UUID toId(FieldDoc match) {
+		return UUID.fromString(((BytesRef) match.fields[1]).utf8ToString());
+	}
+
+	private static Document toDocument(NoteEntity noteEntity) {
+		final var id = noteEntity.getId().toString();
+		final var document = new Document();
+		document.add(new StringField(FIELD_ID, id, Store.NO));
+		document.add(new SortedDocValuesField(FIELD_ID, new BytesRef(id)));
+		Optional.ofNullable(noteEntity.getPartyId()).ifPresent(partyId -> document.add(new StringField(FIELD_PARTY_ID, partyId.toString(), Store.NO)));
+		Optional.ofNullable(noteEntity.getSubject()).ifPresent(subject -> document.add(new TextField(FIELD_SUBJECT, subject, Store.NO)));
+		Optional.ofNullable(noteEntity.getBody()).ifPresent(body -> document.add(new TextField(FIELD_BODY, body, Store.NO)));
+		return document;
+	}
+
+	@FunctionalInterface
+	private interface IndexChange {
+		void apply() throws IOException;
+	}
+}
@@ -0,0 +1,30 @@
+package se.sundsvall.notes.integration.search;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+
+/**
+ * Searches through the fulltext index of the note table. The default engine, which is always in sync with the notes and
+ * needs nothing outside the database.
+ */
+@Component
+@ConditionalOnProperty(name = "notes.search.engine", havingValue = "mariadb", matchIfMissing = true)
+public class MariaDbNoteSearchEngine implements NoteSearchEngine {
+
+	private final NoteRepository noteRepository;
+
+	public MariaDbNoteSearchEngine(NoteRepository noteRepository) {
+		this.noteRepository = noteRepository;
+	}
+
+	@Override
+	public List<NoteSearchResult> search(UUID partyId, String query, Double relevance, UUID id, int limit) {
+		return noteRepository.search(partyId, query, relevance, id, limit);
+	}
+}
@@ -0,0 +1,41 @@
+package se.sundsvall.notes.integration.search;
+
+import java.util.List;
+import java.util.UUID;
+
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+
+/**
+ * Searches the subject and body of notes. The implementation is selected by the property notes.search.engine.
+ */
+public interface NoteSearchEngine {
+
+	/**
+	 * Searches the notes of a party. Matches are ordered by relevance, most relevant first, and then by id. Passing the
+	 * relevance and id of the last match of a page returns the page that follows it.
+	 *
+	 * @param  partyId   the party whose notes are searched
+	 * @param  query     the words to search for
+	 * @param  relevance relevance of the match to continue after, or null for the first page
+	 * @param  id        id of the match to continue after, or null for the first page
+	 * @param  limit     the maximum number of matches to return
+	 * @return           the matching notes with their relevance
+	 */
+	List<NoteSearchResult> search(UUID partyId, String query, Double relevance, UUID id, int limit);
+
+	/**
+	 * Called when notes have been created or updated. When called within a transaction, an engine keeping an index of its
+	 * own must not apply the change before the transaction has committed.
+	 *
+	 * @param noteEntities the notes as they are after the change
+	 */
+	default void notesSaved(List<NoteEntity> noteEntities) {}
+
+	/**
+	 * Called when a note has been deleted, with the same transaction semantics as {@link #notesSaved(List)}.
+	 *
+	 * @param id the id of the deleted note
+	 */
+	default void noteDeleted(UUID id) {}
+}
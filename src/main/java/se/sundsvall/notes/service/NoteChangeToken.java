@@ -0,0 +1,38 @@
+package se.sundsvall.notes.service;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.zalando.problem.Status.BAD_REQUEST;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_INVALID_CHANGE_TOKEN;
+
+import java.util.Base64;
+
+import org.zalando.problem.Problem;
+
+/**
+ * Watermark in the change sequence shared by notes and note tombstones, i.e. the position of the last change a client
+ * has received.
+ *
+ * The token is exposed to clients as an opaque, url safe string and must not be interpreted by them.
+ */
+public class NoteChangeToken {
+
+	private NoteChangeToken() {}
+
+	public static String encode(long changeSeq) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(changeSeq).getBytes(UTF_8));
+	}
+
+	public static long decode(String token) {
+		try {
+			final var changeSeq = Long.parseLong(new String(Base64.getUrlDecoder().decode(token), UTF_8));
+			if (changeSeq < 0) {
+				throw new NumberFormatException();
+			}
+
+			return changeSeq;
+		} catch (final RuntimeException e) {
+			throw Problem.valueOf(BAD_REQUEST, format(ERROR_INVALID_CHANGE_TOKEN, token));
+		}
+	}
+}
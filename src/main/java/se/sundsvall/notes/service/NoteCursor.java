@@ -0,0 +1,58 @@
+package se.sundsvall.notes.service;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static org.zalando.problem.Status.BAD_REQUEST;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_INVALID_CURSOR;
+
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.zalando.problem.Problem;
+
+/**
+ * Position in an ordered list of notes, used for keyset pagination on (created, id).
+ *
+ * The cursor is exposed to clients as an opaque, url safe string and must not be interpreted by them.
+ */
+public class NoteCursor {
+
+	private static final String DELIMITER = "|";
+
+	private final OffsetDateTime created;
+	private final UUID id;
+
+	private NoteCursor(OffsetDateTime created, UUID id) {
+		this.created = created;
+		this.id = id;
+	}
+
+	public static String encode(OffsetDateTime created, UUID id) {
+		if (isNull(created) || isNull(id)) {
+			return null;
+		}
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(created.toString().concat(DELIMITER).concat(id.toString()).getBytes(UTF_8));
+	}
+
+	public static NoteCursor decode(String cursor) {
+		try {
+			final var decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+			final var index = decoded.indexOf(DELIMITER);
+
+			return new NoteCursor(OffsetDateTime.parse(decoded.substring(0, index)), UUID.fromString(decoded.substring(index + 1)));
+		} catch (final RuntimeException e) {
+			throw Problem.valueOf(BAD_REQUEST, format(ERROR_INVALID_CURSOR, cursor));
+		}
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+}
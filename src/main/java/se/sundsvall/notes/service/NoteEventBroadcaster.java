@@ -0,0 +1,346 @@
+package se.sundsvall.notes.service;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.zalando.problem.Status.SERVICE_UNAVAILABLE;
+import static se.sundsvall.notes.integration.db.Transactions.afterCommit;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_TOO_MANY_SUBSCRIBERS;
+import static se.sundsvall.notes.service.mapper.NoteMapper.fromUuid;
+import static se.sundsvall.notes.service.mapper.NoteMapper.toNoteEvent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+import org.zalando.problem.Problem;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.api.model.NoteEvent;
+
+/**
+ * Pushes note change events as Server-Sent Events to the subscribers of a party.
+ *
+ * Events are published after the transaction of the change has committed, numbered in publishing order and kept in a
+ * ring buffer of the latest events of each party, so that a reconnecting subscriber can resume after the id in
+ * Last-Event-ID. Buffers are kept for the most recently changed or resumed parties only. A subscriber resuming from an
+ * id no longer held, e.g. after a restart, gets a reset event and should re-read the notes of the party.
+ *
+ * Events not yet sent to a subscriber are held in a bounded buffer. A subscriber too slow to keep its buffer from filling
+ * up is disconnected, rather than being allowed to hold back publishing or grow memory, and may resume from the last
+ * event it received. As sending blocks while a client is not reading, each subscriber may need a sender thread of its
+ * own, hence subscribers are limited to the number of sender threads and further subscriptions are rejected.
+ *
+ * Events are only pushed to subscribers connected to the instance on which the change was made.
+ */
+@Component
+public class NoteEventBroadcaster {
+
+	static final String EVENT_CREATED = "created";
+	static final String EVENT_UPDATED = "updated";
+	static final String EVENT_DELETED = "deleted";
+	static final String EVENT_RESET = "reset";
+
+	private static final String HEARTBEAT = "heartbeat";
+
+	private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	private final Map<UUID, ResumeWindow> resumeWindows = new LinkedHashMap<>(16, 0.75f, true);
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private final Object lock = new Object();
+	private final Executor sender;
+	private final Duration timeout;
+	private final int maxSubscribers;
+	private final int resumeWindowSize;
+	private final int resumeWindowParties;
+	private final int subscriberBufferSize;
+	private final Counter droppedSubscribers;
+	private final Counter rejectedSubscribers;
+	private ScheduledExecutorService heartbeatScheduler;
+	private long sequence;
+	// Id of the latest event of any party whose resume window has been discarded, events up to it may be missing.
+	private long discardedEventId;
+
+	@Autowired
+	public NoteEventBroadcaster(MeterRegistry meterRegistry,
+		@Value("${notes.events.timeout}") Duration timeout,
+		@Value("${notes.events.heartbeat-interval}") Duration heartbeatInterval,
+		@Value("${notes.events.max-sender-threads}") int maxSenderThreads,
+		@Value("${notes.events.resume-window-size}") int resumeWindowSize,
+		@Value("${notes.events.resume-window-parties}") int resumeWindowParties,
+		@Value("${notes.events.subscriber-buffer-size}") int subscriberBufferSize) {
+
+		this(meterRegistry, senderPool(maxSenderThreads), timeout, maxSenderThreads, resumeWindowSize, resumeWindowParties, subscriberBufferSize);
+
+		this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("note-events-heartbeat-"));
+		this.heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), MILLISECONDS);
+	}
+
+	NoteEventBroadcaster(MeterRegistry meterRegistry, Executor sender, Duration timeout, int maxSubscribers, int resumeWindowSize, int resumeWindowParties, int subscriberBufferSize) {
+		this.sender = sender;
+		this.timeout = timeout;
+		this.maxSubscribers = maxSubscribers;
+		this.resumeWindowSize = resumeWindowSize;
+		this.resumeWindowParties = resumeWindowParties;
+		this.subscriberBufferSize = subscriberBufferSize;
+		this.droppedSubscribers = meterRegistry.counter("notes.events.subscribers.dropped");
+		this.rejectedSubscribers = meterRegistry.counter("notes.events.subscribers.rejected");
+
+		meterRegistry.gauge("notes.events.subscribers", subscriberCount);
+	}
+
+	/**
+	 * Subscribes to the change events of a party.
+	 *
+	 * @param  partyId     the party to subscribe to
+	 * @param  lastEventId id of the last event received by a previous subscription, or null for only new events
+	 * @return             the emitter sending the events
+	 * @throws Problem      503 when the maximum number of subscribers is reached
+	 */
+	public SseEmitter subscribe(UUID partyId, Long lastEventId) {
+		return subscribe(partyId, lastEventId, new SseEmitter(timeout.toMillis()));
+	}
+
+	SseEmitter subscribe(UUID partyId, Long lastEventId, SseEmitter emitter) {
+		final var subscriber = new Subscriber(partyId, emitter);
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+
+		// Resuming and registering under the publishing lock means that no event is missed or sent twice in between.
+		synchronized (lock) {
+			if (subscriberCount.get() >= maxSubscribers) {
+				rejectedSubscribers.increment();
+				throw Problem.valueOf(SERVICE_UNAVAILABLE, format(ERROR_TOO_MANY_SUBSCRIBERS, maxSubscribers));
+			}
+			if (nonNull(lastEventId)) {
+				resume(subscriber, lastEventId);
+			}
+			if (!subscriber.closed) {
+				subscribers.compute(partyId, (key, partySubscribers) -> {
+					final var updatedSubscribers = isNull(partySubscribers) ? ConcurrentHashMap.<Subscriber>newKeySet() : partySubscribers;
+					updatedSubscribers.add(subscriber);
+					return updatedSubscribers;
+				});
+				subscriberCount.incrementAndGet();
+			}
+		}
+
+		return emitter;
+	}
+
+	/**
+	 * Publishes a change event to the subscribers of the party. When called within a transaction the event is published
+	 * once the transaction has committed, and not at all if it rolls back.
+	 *
+	 * @param type    the type of change, i.e. created, updated or deleted
+	 * @param noteId  the changed note
+	 * @param partyId the party of the changed note
+	 * @param note    the note after the change, or null if deleted
+	 */
+	public void publish(String type, String noteId, UUID partyId, Note note) {
+		if (isNull(partyId)) {
+			return;
+		}
+
+		final var noteEvent = toNoteEvent(type, noteId, partyId, note);
+
+		afterCommit(() -> broadcast(partyId, noteEvent));
+	}
+
+	void heartbeat() {
+		// A comment is ignored by clients, but makes a disconnected client fail the send and free its subscription.
+		subscribers.values().forEach(partySubscribers -> partySubscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment(HEARTBEAT))));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		Optional.ofNullable(heartbeatScheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+		subscribers.values().forEach(partySubscribers -> partySubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+		if (sender instanceof ExecutorService executorService) {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void broadcast(UUID partyId, NoteEvent noteEvent) {
+		synchronized (lock) {
+			final var event = new PublishedEvent(++sequence, noteEvent);
+			resumeWindows.computeIfAbsent(partyId, key -> new ResumeWindow(discardedEventId)).add(event);
+			if (resumeWindows.size() > resumeWindowParties) {
+				discardLeastRecentlyUsedResumeWindow();
+			}
+
+			Optional.ofNullable(subscribers.get(partyId))
+				.ifPresent(partySubscribers -> partySubscribers.forEach(subscriber -> subscriber.offer(event.toSseEvent())));
+		}
+	}
+
+	private void discardLeastRecentlyUsedResumeWindow() {
+		final var iterator = resumeWindows.values().iterator();
+		discardedEventId = max(discardedEventId, iterator.next().lastEventId());
+		iterator.remove();
+	}
+
+	private void resume(Subscriber subscriber, long lastEventId) {
+		final var resumeWindow = resumeWindows.get(subscriber.partyId);
+		final var firstResumableEventId = isNull(resumeWindow) ? discardedEventId : resumeWindow.discardedEventId;
+		if (lastEventId < firstResumableEventId || lastEventId > sequence) {
+			subscriber.offer(SseEmitter.event()
+				.id(String.valueOf(sequence))
+				.name(EVENT_RESET)
+				.data(NoteEvent.create().withType(EVENT_RESET).withPartyId(fromUuid(subscriber.partyId)), APPLICATION_JSON));
+			return;
+		}
+
+		Optional.ofNullable(resumeWindow).ifPresent(window -> window.events.stream()
+			.filter(event -> event.id() > lastEventId)
+			.forEach(event -> subscriber.offer(event.toSseEvent())));
+	}
+
+	private void remove(Subscriber subscriber) {
+		subscriber.close();
+		subscribers.computeIfPresent(subscriber.partyId, (key, partySubscribers) -> {
+			if (partySubscribers.remove(subscriber)) {
+				subscriberCount.decrementAndGet();
+			}
+			return partySubscribers.isEmpty() ? null : partySubscribers;
+		});
+	}
+
+	private void drop(Subscriber subscriber) {
+		remove(subscriber);
+		droppedSubscribers.increment();
+
+		// Completing waits for an ongoing send, hence it is left to the sender rather than done by the publisher.
+		sender.execute(subscriber.emitter::complete);
+	}
+
+	private static ExecutorService senderPool(int maxSenderThreads) {
+		// Subscribers are limited to the number of threads, hence a send only queues for a thread still finishing the send
+		// of a removed subscriber.
+		final var senderPool = new ThreadPoolExecutor(maxSenderThreads, maxSenderThreads, 60, SECONDS, new LinkedBlockingQueue<>(), daemonThreadFactory("note-events-"));
+		senderPool.allowCoreThreadTimeOut(true);
+		return senderPool;
+	}
+
+	private static CustomizableThreadFactory daemonThreadFactory(String threadNamePrefix) {
+		final var threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	private record PublishedEvent(long id, NoteEvent noteEvent) {
+
+		SseEventBuilder toSseEvent() {
+			return SseEmitter.event()
+				.id(String.valueOf(id))
+				.name(noteEvent.getType())
+				.data(noteEvent, APPLICATION_JSON);
+		}
+	}
+
+	/**
+	 * The latest events of a party, and the id of the latest event of the party no longer held.
+	 */
+	private final class ResumeWindow {
+
+		private final Deque<PublishedEvent> events = new ArrayDeque<>();
+		private long discardedEventId;
+
+		private ResumeWindow(long discardedEventId) {
+			this.discardedEventId = discardedEventId;
+		}
+
+		private void add(PublishedEvent event) {
+			events.addLast(event);
+			if (events.size() > resumeWindowSize) {
+				discardedEventId = events.removeFirst().id();
+			}
+		}
+
+		private long lastEventId() {
+			return events.getLast().id();
+		}
+	}
+
+	private final class Subscriber {
+
+		private final UUID partyId;
+		private final SseEmitter emitter;
+		private final BlockingQueue<SseEventBuilder> buffer;
+		private final AtomicBoolean sending = new AtomicBoolean();
+		private volatile boolean closed;
+
+		private Subscriber(UUID partyId, SseEmitter emitter) {
+			this.partyId = partyId;
+			this.emitter = emitter;
+			this.buffer = new ArrayBlockingQueue<>(subscriberBufferSize);
+		}
+
+		private void offer(SseEventBuilder event) {
+			if (closed) {
+				return;
+			}
+			if (!buffer.offer(event)) {
+				drop(this);
+				return;
+			}
+			if (sending.compareAndSet(false, true)) {
+				sender.execute(this::send);
+			}
+		}
+
+		private void send() {
+			try {
+				SseEventBuilder event;
+				while (!closed && nonNull(event = buffer.poll())) {
+					emitter.send(event);
+				}
+			} catch (final IOException | IllegalStateException e) {
+				// The client has gone, or the emitter has completed.
+				remove(this);
+			} finally {
+				sending.set(false);
+			}
+
+			// An event offered after the last poll, but before sending was reset, would otherwise be left unsent.
+			if (!closed && !buffer.isEmpty() && sending.compareAndSet(false, true)) {
+				sender.execute(this::send);
+			}
+		}
+
+		private void close() {
+			closed = true;
+			buffer.clear();
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package se.sundsvall.notes.service;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * Optional filters on the notes of a party, built from the query parameters of GET /notes. A filter that is null is not
+ * applied.
+ */
+public class NoteFilter {
+
+	private OffsetDateTime createdFrom;
+
+	private OffsetDateTime createdTo;
+
+	private OffsetDateTime modifiedSince;
+
+	private String createdBy;
+
+	public static NoteFilter create() {
+		return new NoteFilter();
+	}
+
+	public OffsetDateTime getCreatedFrom() {
+		return createdFrom;
+	}
+
+	public void setCreatedFrom(OffsetDateTime createdFrom) {
+		this.createdFrom = createdFrom;
+	}
+
+	public NoteFilter withCreatedFrom(OffsetDateTime createdFrom) {
+		this.createdFrom = createdFrom;
+		return this;
+	}
+
+	public OffsetDateTime getCreatedTo() {
+		return createdTo;
+	}
+
+	public void setCreatedTo(OffsetDateTime createdTo) {
+		this.createdTo = createdTo;
+	}
+
+	public NoteFilter withCreatedTo(OffsetDateTime createdTo) {
+		this.createdTo = createdTo;
+		return this;
+	}
+
+	public OffsetDateTime getModifiedSince() {
+		return modifiedSince;
+	}
+
+	public void setModifiedSince(OffsetDateTime modifiedSince) {
+		this.modifiedSince = modifiedSince;
+	}
+
+	public NoteFilter withModifiedSince(OffsetDateTime modifiedSince) {
+		this.modifiedSince = modifiedSince;
+		return this;
+	}
+
+	public String getCreatedBy() {
+		return createdBy;
+	}
+
+	public void setCreatedBy(String createdBy) {
+		this.createdBy = createdBy;
+	}
+
+	public NoteFilter withCreatedBy(String createdBy) {
+		this.createdBy = createdBy;
+		return this;
+	}
+
+	@Override
+	public int hashCode() { return Objects.hash(createdBy, createdFrom, createdTo, modifiedSince); }
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		NoteFilter other = (NoteFilter) obj;
+		return Objects.equals(createdBy, other.createdBy) && Objects.equals(createdFrom, other.createdFrom) && Objects.equals(createdTo, other.createdTo) && Objects.equals(modifiedSince, other.modifiedSince);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("NoteFilter [createdFrom=").append(createdFrom).append(", createdTo=").append(createdTo).append(", modifiedSince=").append(modifiedSince).append(", createdBy=").append(createdBy)
+			.append("]");
+		return builder.toString();
+	}
+}
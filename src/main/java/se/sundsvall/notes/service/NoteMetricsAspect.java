@@ -0,0 +1,223 @@
+package se.sundsvall.notes.service;
+
+import static java.util.Objects.isNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.zalando.problem.StatusType;
+import org.zalando.problem.ThrowableProblem;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+
+/**
+ * Times every call to NoteService and NoteRepository, tagged with the called method and its outcome.
+ *
+ * The outcome of a service call is found when it returns, not_found when it fails with 404, rejected when it fails with
+ * any other client error and error otherwise. The outcome of a repository call is not_found when it returns nothing,
+ * i.e. an empty optional or collection, zero affected rows or false, found when it returns anything else and error when
+ * it fails. Streaming repository calls are timed until the stream is returned, not until it has been consumed.
+ *
+ * The number of rows returned by the paged and keyset queries of the repository, i.e. its find and search methods
+ * returning collections, is recorded as a distribution summary, as is the size in bytes of note bodies. Bodies read are
+ * recorded from the entities returned by find methods and consumed from stream methods. Bodies written are recorded from
+ * the entities passed to save methods and, as updates do not go through save, from the update requests passed to the
+ * service.
+ *
+ * Meters are registered once per name and tags and then reused, as looking them up in the registry on every call costs
+ * more than the measurement itself.
+ *
+ * Advice is applied outside of caching and transactions, so that cache hits and commits are included in the timings.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class NoteMetricsAspect {
+
+	static final String SERVICE_TIMER = "notes.service";
+	static final String REPOSITORY_TIMER = "notes.repository";
+	static final String REPOSITORY_ROWS = "notes.repository.rows";
+	static final String BODY_BYTES = "notes.body.bytes";
+
+	static final String OUTCOME_FOUND = "found";
+	static final String OUTCOME_NOT_FOUND = "not_found";
+	static final String OUTCOME_REJECTED = "rejected";
+	static final String OUTCOME_ERROR = "error";
+
+	static final String DIRECTION_READ = "read";
+	static final String DIRECTION_WRITTEN = "written";
+
+	private static final List<String> QUERY_PREFIXES = List.of("find", "search");
+	private static final List<String> READ_PREFIXES = List.of("find", "stream");
+	private static final String SAVE_PREFIX = "save";
+
+	private final MeterRegistry meterRegistry;
+	private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+	private final Map<String, DistributionSummary> repositoryRows = new ConcurrentHashMap<>();
+	private final DistributionSummary bodyBytesRead;
+	private final DistributionSummary bodyBytesWritten;
+
+	public NoteMetricsAspect(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.bodyBytesRead = bodyBytes(DIRECTION_READ);
+		this.bodyBytesWritten = bodyBytes(DIRECTION_WRITTEN);
+	}
+
+	@Around("execution(public * se.sundsvall.notes.service.NoteService.*(..))")
+	public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+		for (final var arg : joinPoint.getArgs()) {
+			if (arg instanceof UpdateNoteRequest updateNoteRequest) {
+				recordBody(bodyBytesWritten, updateNoteRequest.getBody());
+			}
+		}
+
+		return time(SERVICE_TIMER, joinPoint, result -> OUTCOME_FOUND);
+	}
+
+	@Around("target(se.sundsvall.notes.integration.db.NoteRepository)")
+	public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		final var method = joinPoint.getSignature().getName();
+		if (method.startsWith(SAVE_PREFIX)) {
+			for (final var arg : joinPoint.getArgs()) {
+				recordBodies(bodyBytesWritten, arg);
+			}
+		}
+
+		final var returned = time(REPOSITORY_TIMER, joinPoint, result -> {
+			if (hasPrefix(method, QUERY_PREFIXES) && result instanceof Collection<?> rows) {
+				repositoryRows.computeIfAbsent(method, this::repositoryRows).record(rows.size());
+			}
+			if (hasPrefix(method, READ_PREFIXES)) {
+				recordBodies(bodyBytesRead, result);
+			}
+
+			return isVoid(joinPoint) || isFound(result) ? OUTCOME_FOUND : OUTCOME_NOT_FOUND;
+		});
+
+		if (hasPrefix(method, READ_PREFIXES) && returned instanceof Stream<?> stream) {
+			return stream.peek(row -> recordBodies(bodyBytesRead, row));
+		}
+		return returned;
+	}
+
+	private Object time(String name, ProceedingJoinPoint joinPoint, Function<Object, String> outcome) throws Throwable {
+		final var sample = Timer.start(meterRegistry);
+		var result = OUTCOME_ERROR;
+		try {
+			final var returned = joinPoint.proceed();
+			result = outcome.apply(returned);
+			return returned;
+		} catch (final ThrowableProblem problem) {
+			result = toOutcome(problem);
+			throw problem;
+		} finally {
+			sample.stop(timers.computeIfAbsent(new TimerKey(name, joinPoint.getSignature().getName(), result), this::timer));
+		}
+	}
+
+	private Timer timer(TimerKey key) {
+		return Timer.builder(key.name())
+			.tag("method", key.method())
+			.tag("outcome", key.outcome())
+			.register(meterRegistry);
+	}
+
+	private DistributionSummary repositoryRows(String method) {
+		return DistributionSummary.builder(REPOSITORY_ROWS)
+			.description("Rows returned by the paged and keyset queries of NoteRepository")
+			.tag("method", method)
+			.register(meterRegistry);
+	}
+
+	private DistributionSummary bodyBytes(String direction) {
+		return DistributionSummary.builder(BODY_BYTES)
+			.baseUnit("bytes")
+			.tag("direction", direction)
+			.register(meterRegistry);
+	}
+
+	private void recordBodies(DistributionSummary summary, Object value) {
+		if (value instanceof NoteEntity noteEntity) {
+			recordBody(summary, noteEntity.getBody());
+		} else if (value instanceof Optional<?> optional) {
+			optional.ifPresent(present -> recordBodies(summary, present));
+		} else if (value instanceof Iterable<?> iterable) {
+			iterable.forEach(element -> recordBodies(summary, element));
+		}
+	}
+
+	private static void recordBody(DistributionSummary summary, String body) {
+		if (!isNull(body)) {
+			summary.record(utf8Length(body));
+		}
+	}
+
+	private static boolean hasPrefix(String method, List<String> prefixes) {
+		return prefixes.stream().anyMatch(method::startsWith);
+	}
+
+	private static String toOutcome(ThrowableProblem problem) {
+		final var statusCode = Optional.ofNullable(problem.getStatus()).map(StatusType::getStatusCode).orElse(500);
+		if (statusCode == 404) {
+			return OUTCOME_NOT_FOUND;
+		}
+		return statusCode >= 400 && statusCode < 500 ? OUTCOME_REJECTED : OUTCOME_ERROR;
+	}
+
+	private static boolean isVoid(ProceedingJoinPoint joinPoint) {
+		return joinPoint.getSignature() instanceof MethodSignature methodSignature && methodSignature.getReturnType() == void.class;
+	}
+
+	private static boolean isFound(Object result) {
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent();
+		}
+		if (result instanceof Collection<?> collection) {
+			return !collection.isEmpty();
+		}
+		if (result instanceof Number number) {
+			return number.longValue() != 0;
+		}
+		if (result instanceof Boolean found) {
+			return found;
+		}
+		return !isNull(result);
+	}
+
+	private static long utf8Length(String value) {
+		// Counted rather than encoded, so that no copy of the body is made.
+		var length = 0L;
+		for (var i = 0; i < value.length(); i++) {
+			final var c = value.charAt(i);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c)) {
+				length += 4;
+				i++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
+	private record TimerKey(String name, String method, String outcome) {}
+}
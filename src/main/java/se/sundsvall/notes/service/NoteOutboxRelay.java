@@ -0,0 +1,87 @@
+package se.sundsvall.notes.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import se.sundsvall.notes.integration.db.NoteOutboxRepository;
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+import se.sundsvall.notes.integration.publisher.OutboxPublisher;
+
+/**
+ * Relays note change events from the note_outbox table to the configured {@link OutboxPublisher}.
+ *
+ * Events are read in id order, i.e. the order they were written, in batches. Each batch is published and deleted in one
+ * transaction, so a batch that fails to publish is kept and retried on the next poll. Downstream systems hence receive
+ * every event at least once.
+ *
+ * Events are only published in order within the transaction that wrote them. Events of different transactions, e.g.
+ * two updates of the same note, may be published in any order, see
+ * {@link NoteOutboxRepository#findNextBatchForUpdate(int)}. Consumers should hence ignore an updated event whose note
+ * version is lower than the version they already hold, and treat a deleted event as final.
+ */
+@Component
+@ConditionalOnProperty(name = "notes.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class NoteOutboxRelay {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(NoteOutboxRelay.class);
+
+	private final NoteOutboxRepository noteOutboxRepository;
+	private final OutboxPublisher outboxPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final Counter relayedEvents;
+	private final Counter failedBatches;
+	private final Timer batchTimer;
+
+	public NoteOutboxRelay(NoteOutboxRepository noteOutboxRepository, OutboxPublisher outboxPublisher, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Value("${notes.outbox.relay.batch-size}") int batchSize) {
+
+		this.noteOutboxRepository = noteOutboxRepository;
+		this.outboxPublisher = outboxPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.relayedEvents = meterRegistry.counter("notes.outbox.relayed");
+		this.failedBatches = meterRegistry.counter("notes.outbox.relay.failures");
+		this.batchTimer = meterRegistry.timer("notes.outbox.relay.batch");
+	}
+
+	/**
+	 * Relays batch after batch until the outbox holds less than a full batch.
+	 */
+	@Scheduled(fixedDelayString = "${notes.outbox.relay.poll-interval}")
+	public void relay() {
+		try {
+			while (relayBatch() == batchSize) {
+				// Keep draining while there is a backlog.
+			}
+		} catch (final RuntimeException e) {
+			failedBatches.increment();
+			LOGGER.warn("Relaying note events failed, will be retried on next poll", e);
+		}
+	}
+
+	int relayBatch() {
+		final var relayed = batchTimer.record(() -> transactionTemplate.execute(status -> {
+			final var events = noteOutboxRepository.findNextBatchForUpdate(batchSize);
+			if (events.isEmpty()) {
+				return 0;
+			}
+
+			outboxPublisher.publish(events);
+			noteOutboxRepository.deleteAllByIdInBatch(events.stream().map(NoteOutboxEntity::getId).toList());
+			return events.size();
+		}));
+
+		relayedEvents.increment(relayed);
+		return relayed;
+	}
+}
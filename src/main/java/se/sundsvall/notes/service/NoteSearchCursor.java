@@ -0,0 +1,62 @@
+package se.sundsvall.notes.service;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static org.zalando.problem.Status.BAD_REQUEST;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_INVALID_CURSOR;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import org.zalando.problem.Problem;
+
+/**
+ * Position in a list of notes matching a search, used for keyset pagination on (relevance descending, id).
+ *
+ * The cursor is exposed to clients as an opaque, url safe string and must not be interpreted by them.
+ */
+public class NoteSearchCursor {
+
+	private static final String DELIMITER = "|";
+
+	private final double relevance;
+	private final UUID id;
+
+	private NoteSearchCursor(double relevance, UUID id) {
+		this.relevance = relevance;
+		this.id = id;
+	}
+
+	public static String encode(Double relevance, UUID id) {
+		if (isNull(relevance) || isNull(id)) {
+			return null;
+		}
+
+		// Double.toString gives the shortest representation that parses back to the same value, hence the position is exact.
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(relevance.toString().concat(DELIMITER).concat(id.toString()).getBytes(UTF_8));
+	}
+
+	public static NoteSearchCursor decode(String cursor) {
+		try {
+			final var decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+			final var index = decoded.indexOf(DELIMITER);
+			final var relevance = Double.parseDouble(decoded.substring(0, index));
+			if (!Double.isFinite(relevance)) {
+				throw new NumberFormatException();
+			}
+
+			return new NoteSearchCursor(relevance, UUID.fromString(decoded.substring(index + 1)));
+		} catch (final RuntimeException e) {
+			throw Problem.valueOf(BAD_REQUEST, format(ERROR_INVALID_CURSOR, cursor));
+		}
+	}
+
+	public double getRelevance() {
+		return relevance;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+}
@@ -1,58 +1,524 @@
 package se.sundsvall.notes.service;
 
 import static java.lang.String.format;
-import static org.apache.commons.lang3.BooleanUtils.isNotTrue;
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.zalando.problem.Status.BAD_REQUEST;
+import static org.zalando.problem.Status.INTERNAL_SERVER_ERROR;
 import static org.zalando.problem.Status.NOT_FOUND;
+import static org.zalando.problem.Status.PRECONDITION_FAILED;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.hasCreatedBy;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.hasPartyId;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.isAfter;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.isCreatedFrom;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.isCreatedTo;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.isModifiedSince;
+import static se.sundsvall.notes.integration.db.Transactions.afterCommit;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_CREATED;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_DELETED;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_UPDATED;
+import static se.sundsvall.notes.service.ServiceConstants.CACHE_NOTES;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_NOTE_EVENT_SERIALIZATION;
 import static se.sundsvall.notes.service.ServiceConstants.ERROR_NOTE_NOT_FOUND;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_NOTE_VERSION_MISMATCH;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_TOO_MANY_IDS;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_TOO_MANY_NOTES;
+import static se.sundsvall.notes.service.ServiceConstants.VIEW_SUMMARY;
+import static se.sundsvall.notes.service.mapper.NoteMapper.fromUuid;
+import static se.sundsvall.notes.service.mapper.NoteMapper.toDeletedNote;
 import static se.sundsvall.notes.service.mapper.NoteMapper.toNote;
 import static se.sundsvall.notes.service.mapper.NoteMapper.toNoteEntity;
+import static se.sundsvall.notes.service.mapper.NoteMapper.toNoteEvent;
+import static se.sundsvall.notes.service.mapper.NoteMapper.toNoteOutboxEntity;
+import static se.sundsvall.notes.service.mapper.NoteMapper.toNoteSummaries;
 import static se.sundsvall.notes.service.mapper.NoteMapper.toNotes;
+import static se.sundsvall.notes.service.mapper.NoteMapper.toUuid;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.zalando.problem.Problem;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.DeletedNote;
+import se.sundsvall.notes.api.model.FindNoteChangesResponse;
+import se.sundsvall.notes.api.model.FindNotesByIdsResponse;
+import se.sundsvall.notes.api.model.FindNotesResponse;
 import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.api.model.NoteEvent;
+import se.sundsvall.notes.api.model.PagingMetaData;
 import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.integration.db.NoteOutboxRepository;
 import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.NoteTombstoneRepository;
+import se.sundsvall.notes.integration.db.PartyChangeRepository;
 import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+import se.sundsvall.notes.integration.search.NoteSearchEngine;
+import se.sundsvall.notes.service.mapper.NoteMapper;
 
 @Service
 public class NoteService {
 
+	private static final int NOTE_CHANGE_STRIPES = 64;
+
 	@Autowired
 	private NoteRepository noteRepository;
+
+	@Autowired
+	private PartyChangeRepository partyChangeRepository;
+
+	@Autowired
+	private NoteOutboxRepository noteOutboxRepository;
+
+	@Autowired
+	private NoteTombstoneRepository noteTombstoneRepository;
+
+	@Autowired
+	private NoteSearchEngine noteSearchEngine;
+
+	@Autowired
+	private PartyNotesCache partyNotesCache;
+
+	@Autowired
+	private NoteEventBroadcaster noteEventBroadcaster;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${notes.find-by-ids.maximum-ids}")
+	private int maximumIds;
+
+	@Value("${notes.create-batch.maximum-notes}")
+	private int maximumNotes;
+
+	@Value("${notes.changes.settle-time}")
+	private Duration settleTime;
+
+	// Number of committed changes per stripe of note ids, see cacheNote.
+	private final AtomicLongArray noteChanges = new AtomicLongArray(NOTE_CHANGE_STRIPES);
 	
+	@Transactional
 	public String createNote(CreateNoteRequest createNoteRequest) {
-		return noteRepository.save(toNoteEntity(createNoteRequest)).getId();
+		final var noteEntity = noteRepository.save(toNoteEntity(createNoteRequest));
+		partyChanged(noteEntity.getPartyId());
+		noteSearchEngine.notesSaved(List.of(noteEntity));
+		notesChanged(List.of(toNoteEvent(EVENT_CREATED, fromUuid(noteEntity.getId()), noteEntity.getPartyId(), toNote(noteEntity))));
+		return fromUuid(noteEntity.getId());
+	}
+
+	@Transactional
+	public List<String> createNotes(List<CreateNoteRequest> createNoteRequests) {
+		if (createNoteRequests.size() > maximumNotes) {
+			throw Problem.valueOf(BAD_REQUEST, format(ERROR_TOO_MANY_NOTES, createNoteRequests.size(), maximumNotes));
+		}
+
+		// All notes are persisted in one transaction and flushed as JDBC batches on commit (see hibernate.jdbc.batch_size).
+		final var noteEntities = noteRepository.saveAll(createNoteRequests.stream()
+			.map(NoteMapper::toNoteEntity)
+			.toList());
+
+		// Parties are changed in a fixed order, so that concurrent batches lock their party_change rows in the same order.
+		noteEntities.stream()
+			.map(NoteEntity::getPartyId)
+			.distinct()
+			.sorted()
+			.forEach(this::partyChanged);
+
+		noteSearchEngine.notesSaved(noteEntities);
+		notesChanged(noteEntities.stream()
+			.map(noteEntity -> toNoteEvent(EVENT_CREATED, fromUuid(noteEntity.getId()), noteEntity.getPartyId(), toNote(noteEntity)))
+			.toList());
+
+		return noteEntities.stream()
+			.map(NoteEntity::getId)
+			.map(NoteMapper::fromUuid)
+			.toList();
 	}
 	
-	public Note updateNote(String id, UpdateNoteRequest updateNoteRequest) {
-		NoteEntity noteEntity = noteRepository.findById(id)
+	@Transactional
+	public Note updateNote(String id, UpdateNoteRequest updateNoteRequest, Integer expectedVersion) {
+		if (noteRepository.updateById(toUuid(id), updateNoteRequest.getSubject(), updateNoteRequest.getBody(), updateNoteRequest.getModifiedBy(), expectedVersion) == 0) {
+			if (nonNull(expectedVersion) && noteRepository.existsById(toUuid(id))) {
+				throw Problem.valueOf(PRECONDITION_FAILED, format(ERROR_NOTE_VERSION_MISMATCH, id, expectedVersion));
+			}
+			throw Problem.valueOf(NOT_FOUND, format(ERROR_NOTE_NOT_FOUND, id));
+		}
+
+		// The updated note is read within the same transaction, hence it is exactly what the update left behind.
+		final var noteEntity = noteRepository.findById(toUuid(id))
 				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, format(ERROR_NOTE_NOT_FOUND, id)));
-				
-		noteRepository.save(toNoteEntity(noteEntity, updateNoteRequest));
-		return toNote(noteEntity);
+
+		noteChanged(noteEntity.getId());
+		partyChanged(noteEntity.getPartyId());
+		noteSearchEngine.notesSaved(List.of(noteEntity));
+
+		final var note = toNote(noteEntity);
+		notesChanged(List.of(toNoteEvent(EVENT_UPDATED, id, noteEntity.getPartyId(), note)));
+		return note;
 	}
 	
 	public Note getNoteById(String id) {
-		NoteEntity noteEntity = noteRepository.findById(id)
+		final var cache = noteCache();
+		final var cached = cache.map(c -> c.get(toUuid(id), Note.class));
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		final var changesBeforeRead = noteChanges(toUuid(id));
+		NoteEntity noteEntity = noteRepository.findById(toUuid(id))
 				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, format(ERROR_NOTE_NOT_FOUND, id)));
-		
-		return toNote(noteEntity);
+
+		final var note = toNote(noteEntity);
+		cache.ifPresent(c -> cacheNote(c, noteEntity.getId(), note, changesBeforeRead));
+		return note;
 	}
 	
-	public List<Note> getNotesByPartyId(String partyId) {
-		return toNotes(noteRepository.findByPartyIdOrderByCreated(partyId));
+	public FindNotesByIdsResponse getNotesByIds(List<UUID> ids) {
+		if (ids.size() > maximumIds) {
+			throw Problem.valueOf(BAD_REQUEST, format(ERROR_TOO_MANY_IDS, ids.size(), maximumIds));
+		}
+
+		final var requestedIds = ids.stream().distinct().toList();
+		final var cache = noteCache();
+		final var notes = new LinkedHashMap<UUID, Note>();
+		final var uncachedIds = new ArrayList<UUID>();
+
+		requestedIds.forEach(id -> cache.map(c -> c.get(id, Note.class))
+			.ifPresentOrElse(note -> notes.put(id, note), () -> uncachedIds.add(id)));
+
+		// Everything not found in the note cache is read with one IN-query, and added to the cache.
+		if (!uncachedIds.isEmpty()) {
+			final var changesBeforeRead = uncachedIds.stream().collect(toMap(identity(), this::noteChanges));
+			noteRepository.findAllById(uncachedIds).forEach(noteEntity -> {
+				final var note = toNote(noteEntity);
+				cache.ifPresent(c -> cacheNote(c, noteEntity.getId(), note, changesBeforeRead.get(noteEntity.getId())));
+				notes.put(noteEntity.getId(), note);
+			});
+		}
+
+		return FindNotesByIdsResponse.create()
+			.withNotes(requestedIds.stream()
+				.filter(notes::containsKey)
+				.map(notes::get)
+				.toList())
+			.withMissingIds(requestedIds.stream()
+				.filter(id -> !notes.containsKey(id))
+				.map(NoteMapper::fromUuid)
+				.toList());
 	}
-	
+
+	/**
+	 * Returns a token that changes whenever a note of the party is created, updated or deleted. Reading it costs one
+	 * primary key lookup and no notes are loaded.
+	 *
+	 * @param  partyId the party
+	 * @return         the change token of the party, 0 if the notes of the party have never been changed through the service
+	 */
+	public long getPartyChangeToken(String partyId) {
+		return partyChangeRepository.findVersionByPartyId(toUuid(partyId)).orElse(0L);
+	}
+
+	/**
+	 * Returns a page of the notes of a party. Pages are cached per change token, hence the token must have been read
+	 * before the call. A page cached under a token is then never older than the token, even when the write that changed
+	 * the token has committed but not yet evicted the pages of the party.
+	 *
+	 * @param  partyId     the party whose notes are returned
+	 * @param  changeToken the change token of the party, as returned by {@link #getPartyChangeToken(String)}
+	 * @param  filter      the filter of the notes
+	 * @param  limit       the maximum number of notes to return
+	 * @param  cursor      the cursor from a previous page, or null for the first page
+	 * @param  view        full for complete notes, summary for notes without body
+	 * @return             the page of notes
+	 */
+	public FindNotesResponse getNotesByPartyId(String partyId, long changeToken, NoteFilter filter, int limit, String cursor, String view) {
+		return partyNotesCache.get(toUuid(partyId), format("%s:%s:%s:%s:%s", changeToken, view, limit, cursor, filter), () -> findNotesByPartyId(partyId, filter, limit, cursor, view));
+	}
+
+	/**
+	 * Searches the subject and body of the notes of a party. Notes are ordered by relevance, most relevant first, and
+	 * returned in pages.
+	 *
+	 * @param  partyId the party whose notes are searched
+	 * @param  query   the words to search for
+	 * @param  limit   the maximum number of notes to return
+	 * @param  cursor  the cursor from a previous page, or null for the first page
+	 * @return         the page of matching notes
+	 */
+	public FindNotesResponse searchNotes(String partyId, String query, int limit, String cursor) {
+		final var position = Optional.ofNullable(cursor).map(NoteSearchCursor::decode);
+
+		// One extra row is fetched to find out if there is a next page, without issuing a count query.
+		final var results = noteSearchEngine.search(toUuid(partyId), query,
+			position.map(NoteSearchCursor::getRelevance).orElse(null),
+			position.map(NoteSearchCursor::getId).orElse(null),
+			limit + 1);
+
+		final var hasNext = results.size() > limit;
+		final var page = hasNext ? results.subList(0, limit) : results;
+		final var last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+		return FindNotesResponse.create()
+			.withNotes(page.stream()
+				.map(NoteSearchResult::noteEntity)
+				.map(NoteMapper::toNote)
+				.toList())
+			.withMetaData(PagingMetaData.create()
+				.withLimit(limit)
+				.withCount(page.size())
+				.withNext(hasNext ? NoteSearchCursor.encode(last.relevance(), last.noteEntity().getId()) : null));
+	}
+
+	private FindNotesResponse findNotesByPartyId(String partyId, NoteFilter filter, int limit, String cursor, String view) {
+		// One extra row is fetched to find out if there is a next page, without issuing a count query.
+		final var pageRequest = PageRequest.of(0, limit + 1);
+		final var position = Optional.ofNullable(cursor).map(NoteCursor::decode);
+		final List<Note> notes;
+		if (isFiltered(filter)) {
+			notes = findFilteredNotes(toUuid(partyId), filter, position, limit + 1, VIEW_SUMMARY.equals(view));
+		} else {
+			notes = VIEW_SUMMARY.equals(view) ? findNoteSummaries(toUuid(partyId), position, pageRequest) : findNotes(toUuid(partyId), position, pageRequest);
+		}
+
+		final var hasNext = notes.size() > limit;
+		final var page = hasNext ? notes.subList(0, limit) : notes;
+		final var last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+		return FindNotesResponse.create()
+			.withNotes(page)
+			.withMetaData(PagingMetaData.create()
+				.withLimit(limit)
+				.withCount(page.size())
+				.withNext(hasNext ? NoteCursor.encode(last.getCreated(), toUuid(last.getId())) : null));
+	}
+
+	private List<Note> findNotes(UUID partyId, Optional<NoteCursor> position, PageRequest pageRequest) {
+		return toNotes(position
+			.map(p -> noteRepository.findByPartyIdAfter(partyId, p.getCreated(), p.getId(), pageRequest))
+			.orElseGet(() -> noteRepository.findByPartyIdOrderByCreatedAscIdAsc(partyId, pageRequest)));
+	}
+
+	private List<Note> findNoteSummaries(UUID partyId, Optional<NoteCursor> position, PageRequest pageRequest) {
+		return toNoteSummaries(position
+			.map(p -> noteRepository.findSummaryByPartyIdAfter(partyId, p.getCreated(), p.getId(), pageRequest))
+			.orElseGet(() -> noteRepository.findSummaryByPartyIdOrderByCreatedAscIdAsc(partyId, pageRequest)));
+	}
+
+	/**
+	 * Reads the notes of a party matching the filter, in the same (created, id) order as the unfiltered reads so that the
+	 * same cursor applies. The filters are served by the indexes on (party_id, created, id), (party_id, created_by,
+	 * created, id) and (party_id, modified).
+	 */
+	private List<Note> findFilteredNotes(UUID partyId, NoteFilter filter, Optional<NoteCursor> position, int limit, boolean summary) {
+		final var specification = Specification.where(hasPartyId(partyId))
+			.and(isCreatedFrom(filter.getCreatedFrom()))
+			.and(isCreatedTo(filter.getCreatedTo()))
+			.and(isModifiedSince(filter.getModifiedSince()))
+			.and(hasCreatedBy(filter.getCreatedBy()))
+			.and(position.map(p -> isAfter(p.getCreated(), p.getId())).orElse(null));
+
+		return summary ? toNoteSummaries(noteRepository.findSummariesOrderedByCreated(specification, limit)) : toNotes(noteRepository.findAllOrderedByCreated(specification, limit));
+	}
+
+	private static boolean isFiltered(NoteFilter filter) {
+		return nonNull(filter) && (nonNull(filter.getCreatedFrom()) || nonNull(filter.getCreatedTo()) || nonNull(filter.getModifiedSince()) || nonNull(filter.getCreatedBy()));
+	}
+
+	/**
+	 * Returns the notes created, updated or deleted after the token, in the order of the change sequence shared by notes
+	 * and note tombstones. A note changed several times is returned once, as it is now.
+	 *
+	 * A change sequence value is taken when a change is written, but the change is not visible until its transaction has
+	 * committed, hence a change may become visible after changes with higher values. Changes younger than the settle time
+	 * are therefore held back, together with all changes after them, so that the token never passes a change that is yet
+	 * to be committed.
+	 *
+	 * @param  since the token from a previous response, or null to start from the first change
+	 * @param  limit the maximum number of changes to return
+	 * @return       the changes and the token to pass in the next request
+	 */
+	@Transactional(readOnly = true)
+	public FindNoteChangesResponse getNoteChanges(String since, int limit) {
+		final var watermark = Optional.ofNullable(since).map(NoteChangeToken::decode).orElse(0L);
+		final var settled = now().minus(settleTime);
+
+		// Both sequences are read as range scans of their change_seq index, with one extra row to find out if there are more.
+		final var pageRequest = PageRequest.of(0, limit + 1);
+		final var noteEntities = noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(watermark, pageRequest);
+		final var noteTombstones = noteTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(watermark, pageRequest);
+
+		final var notes = new ArrayList<Note>();
+		final var deletedNotes = new ArrayList<DeletedNote>();
+		var token = watermark;
+		var noteIndex = 0;
+		var tombstoneIndex = 0;
+		while (notes.size() + deletedNotes.size() < limit && (noteIndex < noteEntities.size() || tombstoneIndex < noteTombstones.size())) {
+			final var noteEntity = noteIndex < noteEntities.size() ? noteEntities.get(noteIndex) : null;
+			final var noteTombstone = tombstoneIndex < noteTombstones.size() ? noteTombstones.get(tombstoneIndex) : null;
+
+			if (nonNull(noteEntity) && (isNull(noteTombstone) || noteEntity.getChangeSeq() < noteTombstone.getChangeSeq())) {
+				if (changed(noteEntity).isAfter(settled)) {
+					break;
+				}
+				notes.add(toNote(noteEntity));
+				token = noteEntity.getChangeSeq();
+				noteIndex++;
+			} else {
+				if (noteTombstone.getDeleted().isAfter(settled)) {
+					break;
+				}
+				deletedNotes.add(toDeletedNote(noteTombstone));
+				token = noteTombstone.getChangeSeq();
+				tombstoneIndex++;
+			}
+		}
+
+		return FindNoteChangesResponse.create()
+			.withNotes(notes)
+			.withDeletedNotes(deletedNotes)
+			.withToken(NoteChangeToken.encode(token))
+			.withHasMore(notes.size() + deletedNotes.size() == limit && (noteIndex < noteEntities.size() || tombstoneIndex < noteTombstones.size()));
+	}
+
+	private static OffsetDateTime changed(NoteEntity noteEntity) {
+		return Optional.ofNullable(noteEntity.getModified()).orElse(noteEntity.getCreated());
+	}
+
+	/**
+	 * Passes all notes for a party, or all notes if partyId is null, to the consumer one at a time, ordered by (created,
+	 * id). Each entity is detached once passed on, so memory use does not grow with the number of notes.
+	 *
+	 * @param partyId      the party to export notes for, or null for all parties
+	 * @param noteConsumer consumer of the exported notes
+	 */
+	@Transactional(readOnly = true)
+	public void exportNotes(String partyId, Consumer<Note> noteConsumer) {
+		try (final var noteEntities = Optional.ofNullable(partyId)
+			.map(NoteMapper::toUuid)
+			.map(noteRepository::streamByPartyId)
+			.orElseGet(noteRepository::streamAll)) {
+
+			noteEntities.forEach(noteEntity -> {
+				noteConsumer.accept(toNote(noteEntity));
+				entityManager.detach(noteEntity);
+			});
+		}
+	}
+
+	@Transactional
 	public void deleteNoteById(String id) {
-		if (isNotTrue(noteRepository.existsById(id))) {
+		final var partyIds = noteRepository.deleteByIdReturningPartyId(toUuid(id));
+		if (partyIds.isEmpty()) {
 			throw Problem.valueOf(NOT_FOUND, format(ERROR_NOTE_NOT_FOUND, id));
 		}
-		noteRepository.deleteById(id);
+
+		final var deleted = now().truncatedTo(MILLIS);
+		partyIds.forEach(partyId -> noteTombstoneRepository.insert(toUuid(id), partyId, deleted));
+		noteChanged(toUuid(id));
+		partyIds.forEach(this::partyChanged);
+		noteSearchEngine.noteDeleted(toUuid(id));
+		notesChanged(partyIds.stream()
+			.map(partyId -> toNoteEvent(EVENT_DELETED, id, partyId, null))
+			.toList());
+	}
+
+	public SseEmitter subscribeToEvents(String partyId, Long lastEventId) {
+		return noteEventBroadcaster.subscribe(toUuid(partyId), lastEventId);
+	}
+
+	private Optional<Cache> noteCache() {
+		return Optional.ofNullable(cacheManager.getCache(CACHE_NOTES));
+	}
+
+	private long noteChanges(UUID id) {
+		return noteChanges.get(Math.floorMod(id.hashCode(), NOTE_CHANGE_STRIPES));
+	}
+
+	/**
+	 * Puts a note read from the database into the note cache, unless a change to a note of the same stripe has committed
+	 * since before the read, as the note read may then be older than the change. A change committing between the check
+	 * and the put evicts before the put, hence the check is repeated after the put.
+	 */
+	private void cacheNote(Cache cache, UUID id, Note note, long changesBeforeRead) {
+		if (noteChanges(id) != changesBeforeRead) {
+			return;
+		}
+
+		cache.putIfAbsent(id, note);
+		if (noteChanges(id) != changesBeforeRead) {
+			cache.evict(id);
+		}
+	}
+
+	/**
+	 * Evicts the note from the note cache once the transaction of the change has committed, so that a concurrent read
+	 * cannot repopulate the cache with the state before the change.
+	 */
+	private void noteChanged(UUID id) {
+		afterCommit(() -> {
+			noteChanges.incrementAndGet(Math.floorMod(id.hashCode(), NOTE_CHANGE_STRIPES));
+			noteCache().ifPresent(cache -> cache.evict(id));
+		});
+	}
+
+	private void partyChanged(UUID partyId) {
+		if (isNull(partyId)) {
+			return;
+		}
+
+		partyChangeRepository.incrementVersion(partyId);
+		partyNotesCache.evict(partyId);
+	}
+
+	/**
+	 * Writes the events to the outbox, within the transaction of the change, and publishes them to the subscribers of the
+	 * change feed once the transaction has committed.
+	 */
+	private void notesChanged(List<NoteEvent> noteEvents) {
+		noteOutboxRepository.saveAll(noteEvents.stream()
+			.map(noteEvent -> toNoteOutboxEntity(noteEvent, toPayload(noteEvent)))
+			.toList());
+
+		noteEvents.forEach(noteEvent -> noteEventBroadcaster.publish(noteEvent.getType(), noteEvent.getNoteId(), toUuid(noteEvent.getPartyId()), noteEvent.getNote()));
+	}
+
+	private String toPayload(NoteEvent noteEvent) {
+		try {
+			return objectMapper.writeValueAsString(noteEvent);
+		} catch (final JsonProcessingException e) {
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, format(ERROR_NOTE_EVENT_SERIALIZATION, noteEvent.getType(), noteEvent.getNoteId()));
+		}
 	}
 }
@@ -0,0 +1,157 @@
+package se.sundsvall.notes.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static se.sundsvall.notes.integration.db.Transactions.afterCommit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import se.sundsvall.notes.api.model.FindNotesResponse;
+import se.sundsvall.notes.api.model.Note;
+
+/**
+ * Cache of mapped note pages, keyed by partyId. All pages of a party are held in one entry so that a write can evict
+ * exactly the affected party.
+ *
+ * Entries are weighed by the approximate size in bytes of the notes they hold. Parties heavier than the configured
+ * per-party weight are never cached, so that a few huge parties cannot push everyone else out.
+ */
+@Component
+public class PartyNotesCache {
+
+	static final String CACHE_NAME = "partyNotes";
+
+	private static final int NOTE_OVERHEAD_WEIGHT = 256;
+	private static final int GENERATION_STRIPES = 256;
+
+	private final Cache<UUID, Map<String, FindNotesResponse>> cache;
+	// Number of evictions per stripe of parties, see get.
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+	private final long maximumPartyWeight;
+
+	public PartyNotesCache(MeterRegistry meterRegistry,
+		@Value("${notes.cache.party-notes.maximum-weight}") long maximumWeight,
+		@Value("${notes.cache.party-notes.maximum-party-weight}") long maximumPartyWeight,
+		@Value("${notes.cache.party-notes.expire-after-write}") Duration expireAfterWrite) {
+
+		this.maximumPartyWeight = maximumPartyWeight;
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(maximumWeight)
+			.weigher((UUID partyId, Map<String, FindNotesResponse> pages) -> (int) Math.min(Integer.MAX_VALUE, weigh(pages)))
+			.expireAfterWrite(expireAfterWrite)
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * Returns the cached page for the party, or loads, caches and returns it if not present.
+	 *
+	 * The load is made without holding any lock, so that loads of the same party, or of parties sharing a bin of the
+	 * underlying map, do not wait for each other's database round trips. A loaded page is only cached if no eviction of
+	 * the party, or of a party of the same generation stripe, has been made since the load started. Hence a page read
+	 * before a write can never be left in the cache after the write has evicted it.
+	 *
+	 * @param  partyId the party owning the page
+	 * @param  pageKey key identifying the page among all pages of the party
+	 * @param  loader  loads the page on a cache miss
+	 * @return         the page
+	 */
+	public FindNotesResponse get(UUID partyId, String pageKey, Supplier<FindNotesResponse> loader) {
+		final var cached = Optional.ofNullable(cache.getIfPresent(partyId))
+			.map(pages -> pages.get(pageKey));
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		final var generation = generation(partyId);
+		final var loaded = loader.get();
+
+		// Checked within compute, as evict bumps the generation before it invalidates, and the invalidation waits for compute.
+		cache.asMap().compute(partyId, (key, pages) -> {
+			if (generation(partyId) != generation || (nonNull(pages) && pages.containsKey(pageKey))) {
+				return pages;
+			}
+
+			final var updatedPages = isNull(pages) ? new HashMap<String, FindNotesResponse>() : new HashMap<>(pages);
+			updatedPages.put(pageKey, loaded);
+
+			// Keep what is already cached for the party if adding the page would make it too heavy.
+			return weigh(updatedPages) > maximumPartyWeight ? pages : Map.copyOf(updatedPages);
+		});
+
+		return loaded;
+	}
+
+	/**
+	 * Evicts all cached pages of the party. When called within a transaction the eviction is deferred until the
+	 * transaction has committed, so that a concurrent read cannot repopulate the cache with uncommitted state.
+	 *
+	 * @param partyId the party to evict
+	 */
+	public void evict(UUID partyId) {
+		if (isNull(partyId)) {
+			return;
+		}
+
+		afterCommit(() -> invalidate(partyId));
+	}
+
+	/**
+	 * Evicts the cached pages of all parties at once, e.g. after notes have been changed other than through NoteService.
+	 */
+	public void evictAll() {
+		for (var stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+			generations.incrementAndGet(stripe);
+		}
+		cache.invalidateAll();
+	}
+
+	private void invalidate(UUID partyId) {
+		generations.incrementAndGet(stripe(partyId));
+		cache.invalidate(partyId);
+	}
+
+	private long generation(UUID partyId) {
+		return generations.get(stripe(partyId));
+	}
+
+	private static int stripe(UUID partyId) {
+		return Math.floorMod(partyId.hashCode(), GENERATION_STRIPES);
+	}
+
+	static long weigh(Map<String, FindNotesResponse> pages) {
+		return pages.values().stream()
+			.map(FindNotesResponse::getNotes)
+			.filter(Objects::nonNull)
+			.flatMap(List::stream)
+			.mapToLong(PartyNotesCache::weighNote)
+			.sum();
+	}
+
+	private static long weighNote(Note note) {
+		return NOTE_OVERHEAD_WEIGHT + length(note.getSubject()) + length(note.getBody());
+	}
+
+	private static long length(String value) {
+		// Two bytes per char is the worst case for the in-memory representation of a string.
+		return isNull(value) ? 0 : 2L * value.length();
+	}
+}
@@ -5,4 +5,15 @@ public class ServiceConstants {
 	private ServiceConstants() {}
 
 	static final String ERROR_NOTE_NOT_FOUND = "Note with id '%s' not found";
+	static final String ERROR_NOTE_VERSION_MISMATCH = "Note with id '%s' has been modified since version %s";
+	static final String ERROR_NOTE_EVENT_SERIALIZATION = "Event '%s' for note with id '%s' could not be serialized";
+	static final String ERROR_INVALID_CURSOR = "Cursor '%s' is not valid";
+	static final String ERROR_INVALID_CHANGE_TOKEN = "Token '%s' is not valid";
+	static final String ERROR_TOO_MANY_IDS = "Too many ids, %s requested but maximum is %s";
+	static final String ERROR_TOO_MANY_NOTES = "Too many notes, %s requested but maximum is %s";
+	static final String ERROR_TOO_MANY_SUBSCRIBERS = "Too many subscribers to note events, maximum is %s";
+
+	static final String CACHE_NOTES = "notes";
+
+	static final String VIEW_SUMMARY = "summary";
 }
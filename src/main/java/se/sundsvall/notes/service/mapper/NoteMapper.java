@@ -5,11 +5,16 @@ import static java.util.Objects.isNull;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.DeletedNote;
 import se.sundsvall.notes.api.model.Note;
-import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.api.model.NoteEvent;
 import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+import se.sundsvall.notes.integration.db.model.NoteSummaryProjection;
+import se.sundsvall.notes.integration.db.model.NoteTombstoneEntity;
 
 public class NoteMapper {
 
@@ -23,21 +28,10 @@ public class NoteMapper {
 		return NoteEntity.create()
 			.withBody(createNoteRequest.getBody())
 			.withCreatedBy(createNoteRequest.getCreatedBy())
-			.withPartyId(createNoteRequest.getPartyId())
+			.withPartyId(toUuid(createNoteRequest.getPartyId()))
 			.withSubject(createNoteRequest.getSubject());
 	}
 
-	public static NoteEntity toNoteEntity(NoteEntity noteEntity, UpdateNoteRequest updateNoteRequest) {
-		if (isNull(updateNoteRequest)) {
-			return noteEntity;
-		}
-
-		return noteEntity
-			.withBody(updateNoteRequest.getBody())
-			.withModifiedBy(updateNoteRequest.getModifiedBy())
-			.withSubject(updateNoteRequest.getSubject());
-	}
-
 	public static Note toNote(NoteEntity noteEntity) {
 		if (isNull(noteEntity)) {
 			return null;
@@ -47,11 +41,12 @@ public class NoteMapper {
 			.withBody(noteEntity.getBody())
 			.withCreated(noteEntity.getCreated())
 			.withCreatedBy(noteEntity.getCreatedBy())
-			.withId(noteEntity.getId())
+			.withId(fromUuid(noteEntity.getId()))
 			.withModified(noteEntity.getModified())
 			.withModifiedBy(noteEntity.getModifiedBy())
-			.withPartyId(noteEntity.getPartyId())
-			.withSubject(noteEntity.getSubject());
+			.withPartyId(fromUuid(noteEntity.getPartyId()))
+			.withSubject(noteEntity.getSubject())
+			.withVersion(noteEntity.getVersion());
 	}
 
 	public static List<Note> toNotes(List<NoteEntity> noteEntities) {
@@ -59,4 +54,64 @@ public class NoteMapper {
 			.map(NoteMapper::toNote)
 			.toList();
 	}
+
+	public static Note toNoteSummary(NoteSummaryProjection noteSummary) {
+		if (isNull(noteSummary)) {
+			return null;
+		}
+
+		return Note.create()
+			.withCreated(noteSummary.getCreated())
+			.withCreatedBy(noteSummary.getCreatedBy())
+			.withId(fromUuid(noteSummary.getId()))
+			.withModified(noteSummary.getModified())
+			.withModifiedBy(noteSummary.getModifiedBy())
+			.withPartyId(fromUuid(noteSummary.getPartyId()))
+			.withSubject(noteSummary.getSubject());
+	}
+
+	public static List<Note> toNoteSummaries(List<NoteSummaryProjection> noteSummaries) {
+		return Optional.ofNullable(noteSummaries).orElse(emptyList()).stream()
+			.map(NoteMapper::toNoteSummary)
+			.toList();
+	}
+
+	public static NoteEvent toNoteEvent(String type, String noteId, UUID partyId, Note note) {
+		return NoteEvent.create()
+			.withType(type)
+			.withNoteId(noteId)
+			.withPartyId(fromUuid(partyId))
+			.withNote(note);
+	}
+
+	public static NoteOutboxEntity toNoteOutboxEntity(NoteEvent noteEvent, String payload) {
+		if (isNull(noteEvent)) {
+			return null;
+		}
+
+		return NoteOutboxEntity.create()
+			.withEventType(noteEvent.getType())
+			.withNoteId(toUuid(noteEvent.getNoteId()))
+			.withPartyId(toUuid(noteEvent.getPartyId()))
+			.withPayload(payload);
+	}
+
+	public static DeletedNote toDeletedNote(NoteTombstoneEntity noteTombstone) {
+		if (isNull(noteTombstone)) {
+			return null;
+		}
+
+		return DeletedNote.create()
+			.withDeleted(noteTombstone.getDeleted())
+			.withId(fromUuid(noteTombstone.getNoteId()))
+			.withPartyId(fromUuid(noteTombstone.getPartyId()));
+	}
+
+	public static UUID toUuid(String value) {
+		return isNull(value) ? null : UUID.fromString(value);
+	}
+
+	public static String fromUuid(UUID value) {
+		return isNull(value) ? null : value.toString();
+	}
 }
@@ -0,0 +1,8 @@
+-- Replace the party_id index with a composite index that also covers the (created, id) ordering used when reading notes for a party
+create index note_party_id_created_id_index on note (party_id, created, id);
+
+drop index note_party_id_index on note;
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('002','Replaced party_id index with composite index on party_id, created and id', NOW());
@@ -0,0 +1,26 @@
+-- Store note id and party_id as binary(16) instead of canonical uuid strings
+alter table note
+    add column id_binary binary(16),
+    add column party_id_binary binary(16);
+
+update note set id_binary = unhex(replace(id, '-', '')), party_id_binary = unhex(replace(party_id, '-', ''));
+
+drop index note_party_id_created_id_index on note;
+
+alter table note drop primary key;
+
+alter table note
+    drop column id,
+    drop column party_id;
+
+alter table note
+    change column id_binary id binary(16) not null first,
+    change column party_id_binary party_id binary(16) after id;
+
+alter table note add primary key (id);
+
+create index note_party_id_created_id_index on note (party_id, created, id);
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('003','Converted id and party_id of note table to binary(16)', NOW());
@@ -0,0 +1,6 @@
+-- Add version column to note, used for optimistic locking and as ETag
+alter table note add column version integer not null default 0;
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('004','Added version column to note table', NOW());
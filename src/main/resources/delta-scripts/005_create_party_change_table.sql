@@ -0,0 +1,10 @@
+-- Create party_change table, holding a change counter per party used as ETag for the notes of the party
+create table party_change (
+	party_id binary(16) not null,
+	version bigint not null,
+	primary key (party_id)
+) engine=InnoDB;
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('005','Created party_change table', NOW());
@@ -0,0 +1,14 @@
+-- Create note_outbox table, holding note change events until relayed to downstream systems
+create table note_outbox (
+	id binary(16) not null,
+	created datetime(6),
+	event_type varchar(255),
+	note_id binary(16),
+	party_id binary(16),
+	payload longtext,
+	primary key (id)
+) engine=InnoDB;
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('006','Created note_outbox table', NOW());
@@ -0,0 +1,6 @@
+-- Add fulltext index on note subject and body, used by GET /notes/search
+create fulltext index note_subject_body_fulltext_index on note (subject, body);
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('007','Added fulltext index on subject and body of note table', NOW());
@@ -0,0 +1,8 @@
+-- Add indexes serving the createdBy and modifiedSince filters of GET /notes, the createdBy index also covers the (created, id) ordering
+create index note_party_id_created_by_created_id_index on note (party_id, created_by, created, id);
+
+create index note_party_id_modified_index on note (party_id, modified);
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('008','Added indexes on party_id, created_by, created and id and on party_id and modified of note table', NOW());
@@ -0,0 +1,22 @@
+-- Add the change sequence shared by notes and note tombstones, serving GET /notes/changes
+create sequence note_change_seq start with 1 increment by 1;
+
+alter table note add column change_seq bigint default (nextval(note_change_seq));
+
+-- Existing notes are numbered in creation order
+update note set change_seq = nextval(note_change_seq) order by created, id;
+
+create index note_change_seq_index on note (change_seq);
+
+-- Create note_tombstone table, recording deleted notes for GET /notes/changes
+create table note_tombstone (
+	change_seq bigint not null,
+	deleted datetime(6),
+	note_id binary(16),
+	party_id binary(16),
+	primary key (change_seq)
+) engine=InnoDB;
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('009','Added change_seq to note table and created note_tombstone table', NOW());
@@ -0,0 +1,11 @@
+-- Add last_changed, the latest of created and modified, serving the modifiedSince filter of GET /notes. Modified is
+-- null until a note is updated, hence an index on it can not serve notes that have only been created.
+alter table note add column last_changed datetime(6) as (coalesce(modified, created)) persistent;
+
+create index note_party_id_last_changed_index on note (party_id, last_changed);
+
+drop index note_party_id_modified_index on note;
+
+
+-- Necessary line in order to document the change. 
+insert into schema_history (schema_version,comment,applied) VALUES ('010','Added last_changed to note table, replacing the index on party_id and modified', NOW());
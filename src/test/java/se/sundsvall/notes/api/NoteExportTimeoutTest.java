@@ -0,0 +1,80 @@
+package se.sundsvall.notes.api;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import se.sundsvall.notes.Application;
+import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.service.NoteService;
+
+/**
+ * Verifies that an export streaming for longer than the async timeout of the servlet container is not cut off, as the
+ * configured spring.mvc.async.request-timeout applies instead.
+ */
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("junit")
+class NoteExportTimeoutTest {
+
+	private static final long CONTAINER_ASYNC_TIMEOUT_MILLIS = 1000;
+
+	@TestConfiguration
+	static class ContainerAsyncTimeoutConfiguration {
+
+		@Bean
+		WebServerFactoryCustomizer<TomcatServletWebServerFactory> containerAsyncTimeoutCustomizer() {
+			return factory -> factory.addConnectorCustomizers(connector -> connector.setAsyncTimeout(CONTAINER_ASYNC_TIMEOUT_MILLIS));
+		}
+	}
+
+	@MockBean
+	private NoteService noteService;
+
+	@LocalServerPort
+	private int port;
+
+	@BeforeEach
+	void setUp() {
+		RestAssured.port = port;
+	}
+
+	@Test
+	void exportSlowerThanContainerAsyncTimeout() {
+
+		// Mock
+		doAnswer(invocation -> {
+			final Consumer<Note> consumer = invocation.getArgument(1);
+			consumer.accept(Note.create().withId("id1"));
+			Thread.sleep(3 * CONTAINER_ASYNC_TIMEOUT_MILLIS);
+			consumer.accept(Note.create().withId("id2"));
+			return null;
+		}).when(noteService).exportNotes(isNull(), any());
+
+		final var response = given()
+			.when()
+			.get("/notes/export")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.extract().asString();
+
+		// Verification
+		assertThat(response).isEqualTo("{\"id\":\"id1\"}\n{\"id\":\"id2\"}\n");
+	}
+}
@@ -5,9 +5,12 @@ import static io.restassured.http.ContentType.JSON;
 import static org.apache.commons.lang3.StringUtils.repeat;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -158,6 +161,87 @@ class NoteResourceFailuresTest {
 		assertThat(response.getDetail()).contains("Required request body is missing");
 	}
 
+	@Test
+	void createNotesInvalidItem() {
+
+		// Parameter values
+		final var createNoteRequests = List.of(
+			CreateNoteRequest.create()
+				.withBody("Test note")
+				.withCreatedBy("createdBy")
+				.withPartyId(UUID.randomUUID().toString())
+				.withSubject("subject"),
+			CreateNoteRequest.create()
+				.withBody("Test note")
+				.withCreatedBy("createdBy")
+				.withPartyId("invalid") // Invalid partyId
+				.withSubject("subject"));
+
+		final var response = given()
+			.contentType(JSON)
+			.body(createNoteRequests)
+			.when()
+			.post("/notes/batch")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("createNotes.body[1].partyId");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("not a valid UUID");
+	}
+
+	@Test
+	void createNotesEmptyList() {
+
+		final var response = given()
+			.contentType(JSON)
+			.body(List.of())
+			.when()
+			.post("/notes/batch")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("createNotes.body");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("must not be empty");
+	}
+
+	@Test
+	void createNotesTooManyNotes() {
+
+		// Parameter values
+		final var createNoteRequests = IntStream.range(0, 1001)
+			.mapToObj(i -> CreateNoteRequest.create()
+				.withBody("Test note")
+				.withCreatedBy("createdBy")
+				.withPartyId(UUID.randomUUID().toString())
+				.withSubject("subject"))
+			.toList();
+
+		final var response = given()
+			.contentType(JSON)
+			.body(createNoteRequests)
+			.when()
+			.post("/notes/batch")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(Problem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Bad Request");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getDetail()).isEqualTo("Too many notes, 1001 requested but maximum is 1000");
+	}
+
 	@Test
 	void updateNoteInvalidId() {
 
@@ -193,6 +277,34 @@ class NoteResourceFailuresTest {
 		final var id = UUID.randomUUID().toString();
 		final var updateNoteRequest = UpdateNoteRequest.create();
 
+		final var response = given()
+			.contentType(JSON)
+			.pathParam("id", id)
+			.body(updateNoteRequest)
+			.when()
+			.patch("/notes/{id}")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("modifiedBy");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("must not be blank");
+	}
+
+	@Test
+	void updateNoteBlankProperties() {
+
+		// Parameter values
+		final var id = UUID.randomUUID().toString();
+		final var updateNoteRequest = UpdateNoteRequest.create()
+			.withBody(" ")
+			.withModifiedBy(" ")
+			.withSubject(" ");
+
 		final var response = given()
 			.contentType(JSON)
 			.pathParam("id", id)
@@ -261,6 +373,31 @@ class NoteResourceFailuresTest {
 		assertThat(response.getDetail()).contains("Required request body is missing");
 	}
 
+	@Test
+	void updateNoteInvalidIfMatch() {
+
+		// Parameter values
+		final var id = UUID.randomUUID().toString();
+		final var updateNoteRequest = UpdateNoteRequest.create()
+			.withModifiedBy("modifiedBy");
+
+		final var response = given()
+			.contentType(JSON)
+			.pathParam("id", id)
+			.header(IF_MATCH, "W/\"1\"")
+			.body(updateNoteRequest)
+			.when()
+			.patch("/notes/{id}")
+			.then().assertThat()
+			.statusCode(HttpStatus.PRECONDITION_FAILED.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(Problem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Precondition Failed");
+		assertThat(response.getDetail()).isEqualTo("If-Match 'W/\"1\"' does not match any version of the note");
+	}
+
 	@Test
 	void getNoteByIdInvalidId() {
 
@@ -284,6 +421,45 @@ class NoteResourceFailuresTest {
 		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("not a valid UUID");
 	}
 
+	@Test
+	void getNotesByIdsInvalidId() {
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("id", "invalid")
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(Problem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Bad Request");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	@Test
+	void getNotesByIdsTooManyIds() {
+
+		final var ids = IntStream.range(0, 101).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("id", ids)
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(Problem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Bad Request");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getDetail()).isEqualTo("Too many ids, 101 requested but maximum is 100");
+	}
+
 	@Test
 	void getNotesByPartyIdInvalidPartyId() {
 
@@ -307,6 +483,201 @@ class NoteResourceFailuresTest {
 		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("not a valid UUID");
 	}
 
+	@Test
+	void getNotesByPartyIdInvalidLimit() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("partyId", partyId)
+			.queryParam("limit", 0)
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("getNotesByPartyId.limit");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("must be greater than or equal to 1");
+	}
+
+	@Test
+	void getNotesByPartyIdTooLargeLimit() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("partyId", partyId)
+			.queryParam("limit", 1001)
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("getNotesByPartyId.limit");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("must be less than or equal to 1000");
+	}
+
+	@Test
+	void getNotesByPartyIdInvalidCursor() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("partyId", partyId)
+			.queryParam("cursor", "invalid")
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(Problem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Bad Request");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getDetail()).isEqualTo("Cursor 'invalid' is not valid");
+	}
+
+	@Test
+	void getNotesByPartyIdInvalidView() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("partyId", partyId)
+			.queryParam("view", "invalid")
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("getNotesByPartyId.view");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("must match \"full|summary\"");
+	}
+
+	@Test
+	void getNotesByPartyIdInvalidCreatedFrom() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("partyId", partyId)
+			.queryParam("createdFrom", "invalid")
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(Problem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Bad Request");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	@Test
+	void getNoteEventsInvalidPartyId() {
+
+		final var response = given()
+			.queryParam("partyId", "invalid")
+			.when()
+			.get("/notes/events")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("getNoteEvents.partyId");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("not a valid UUID");
+	}
+
+	@Test
+	void searchNotesInvalidPartyId() {
+
+		final var response = given()
+			.queryParam("partyId", "invalid")
+			.queryParam("q", "invoice")
+			.when()
+			.get("/notes/search")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("searchNotes.partyId");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("not a valid UUID");
+	}
+
+	@Test
+	void searchNotesBlankQuery() {
+
+		final var response = given()
+			.queryParam("partyId", UUID.randomUUID().toString())
+			.queryParam("q", " ")
+			.when()
+			.get("/notes/search")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("searchNotes.query");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("must not be blank");
+	}
+
+	@Test
+	void getNoteChangesLimitTooLarge() {
+
+		final var response = given()
+			.queryParam("limit", 1001)
+			.when()
+			.get("/notes/changes")
+			.then().assertThat()
+			.statusCode(HttpStatus.BAD_REQUEST.value())
+			.contentType(equalTo(APPLICATION_PROBLEM_JSON_VALUE))
+			.extract().as(ConstraintViolationProblem.class);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(response.getViolations()).extracting(Violation::getField).containsExactly("getNoteChanges.limit");
+		assertThat(response.getViolations()).extracting(Violation::getMessage).containsExactly("must be less than or equal to 1000");
+	}
+
 	@Test
 	void deleteNoteByIdInvalidId() {
 
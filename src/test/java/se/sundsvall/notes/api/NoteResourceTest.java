@@ -6,15 +6,29 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.ALL_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,12 +37,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.web.server.LocalServerPort;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.restassured.RestAssured;
 import se.sundsvall.notes.Application;
 import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.CreateNotesResponse;
+import se.sundsvall.notes.api.model.DeletedNote;
+import se.sundsvall.notes.api.model.FindNoteChangesResponse;
+import se.sundsvall.notes.api.model.FindNotesByIdsResponse;
+import se.sundsvall.notes.api.model.FindNotesResponse;
 import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.api.model.PagingMetaData;
 import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.service.NoteFilter;
 import se.sundsvall.notes.service.NoteService;
 
 @SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -75,6 +97,41 @@ class NoteResourceTest {
 		verify(noteService).createNote(createNoteRequest);
 	}
 
+	@Test
+	void createNotes() {
+		final var ids = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+		// Parameter values
+		final var createNoteRequests = List.of(
+			CreateNoteRequest.create()
+				.withBody("Test note 1")
+				.withCreatedBy("createdBy")
+				.withPartyId(UUID.randomUUID().toString())
+				.withSubject("Test subject 1"),
+			CreateNoteRequest.create()
+				.withBody("Test note 2")
+				.withCreatedBy("createdBy")
+				.withPartyId(UUID.randomUUID().toString())
+				.withSubject("Test subject 2"));
+
+		// Mock
+		when(noteService.createNotes(any())).thenReturn(ids);
+
+		final var response = given()
+			.contentType(JSON)
+			.body(createNoteRequests)
+			.when()
+			.post("/notes/batch")
+			.then().assertThat()
+			.statusCode(HttpStatus.CREATED.value())
+			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.extract().as(CreateNotesResponse.class);
+
+		// Verification
+		assertThat(response.getIds()).isEqualTo(ids);
+		verify(noteService).createNotes(createNoteRequests);
+	}
+
 	@Test
 	void updateNote() {
 		final var id = UUID.randomUUID().toString();
@@ -87,23 +144,47 @@ class NoteResourceTest {
 
 		
 		// Mock
-		Note note = Note.create().withId(id);
-		when(noteService.updateNote(id, updateNoteRequest)).thenReturn(note);
+		Note note = Note.create().withId(id).withVersion(4);
+		when(noteService.updateNote(id, updateNoteRequest, 3)).thenReturn(note);
 		
 		final var response = given()
 			.contentType(JSON)
 			.pathParam("id", id)
+			.header(IF_MATCH, "\"3\"")
 			.body(updateNoteRequest)
 			.when()
 			.patch("/notes/{id}")
 			.then().assertThat()
 			.statusCode(HttpStatus.OK.value())
 			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.header(ETAG, "\"4\"")
 			.extract().as(Note.class);
 
 		// Verification
-		assertThat(response).isNotNull().isEqualTo(note);
-		verify(noteService).updateNote(id, updateNoteRequest);
+		assertThat(response).isNotNull().isEqualTo(note.withVersion(null));
+		verify(noteService).updateNote(id, updateNoteRequest, 3);
+	}
+
+	@Test
+	void updateNoteWithoutIfMatch() {
+		final var id = UUID.randomUUID().toString();
+		final var updateNoteRequest = UpdateNoteRequest.create().withModifiedBy("modifiedBy");
+
+		// Mock
+		when(noteService.updateNote(id, updateNoteRequest, null)).thenReturn(Note.create().withId(id).withVersion(1));
+
+		given()
+			.contentType(JSON)
+			.pathParam("id", id)
+			.body(updateNoteRequest)
+			.when()
+			.patch("/notes/{id}")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.header(ETAG, "\"1\"");
+
+		// Verification
+		verify(noteService).updateNote(id, updateNoteRequest, null);
 	}
 
 	@Test
@@ -132,7 +213,7 @@ class NoteResourceTest {
 		final var id = UUID.randomUUID().toString();
 
 		// Mock
-		Note note = Note.create().withId(id);
+		Note note = Note.create().withId(id).withVersion(1);
 		when(noteService.getNoteById(id)).thenReturn(note);
 		
 		final var response = given()
@@ -143,13 +224,65 @@ class NoteResourceTest {
 			.then().assertThat()
 			.statusCode(HttpStatus.OK.value())
 			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.header(ETAG, "\"1\"")
 			.extract().as(Note.class);
 
 		// Verification
-		assertThat(response).isNotNull().isEqualTo(note);
+		assertThat(response).isNotNull().isEqualTo(note.withVersion(null));
 		verify(noteService).getNoteById(id);
 	}
 
+	@Test
+	void getNoteByIdNotModified() {
+
+		// Parameter values
+		final var id = UUID.randomUUID().toString();
+
+		// Mock
+		when(noteService.getNoteById(id)).thenReturn(Note.create().withId(id).withVersion(2));
+
+		given()
+			.pathParam("id", id)
+			.header(IF_NONE_MATCH, "\"2\"")
+			.when()
+			.get("/notes/{id}")
+			.then().assertThat()
+			.statusCode(HttpStatus.NOT_MODIFIED.value())
+			.header(ETAG, "\"2\"")
+			.body(emptyString());
+
+		// Verification
+		verify(noteService).getNoteById(id);
+	}
+
+	@Test
+	void getNotesByIds() {
+
+		// Parameter values
+		final var id = UUID.randomUUID();
+		final var missingId = UUID.randomUUID();
+
+		// Mock
+		final var findNotesByIdsResponse = FindNotesByIdsResponse.create()
+			.withNotes(List.of(Note.create().withId(id.toString())))
+			.withMissingIds(List.of(missingId.toString()));
+		when(noteService.getNotesByIds(List.of(id, missingId))).thenReturn(findNotesByIdsResponse);
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("id", id.toString(), missingId.toString())
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.extract().as(FindNotesByIdsResponse.class);
+
+		// Verification
+		assertThat(response).isNotNull().isEqualTo(findNotesByIdsResponse);
+		verify(noteService).getNotesByIds(List.of(id, missingId));
+	}
+
 	@Test
 	void getNotesByPartyId() {
 
@@ -158,21 +291,306 @@ class NoteResourceTest {
 		final var id = UUID.randomUUID().toString();
 
 		// Mock
-		Note note = Note.create().withId(id);
-		when(noteService.getNotesByPartyId(partyId)).thenReturn(List.of(note));
-		
+		final var findNotesResponse = FindNotesResponse.create()
+			.withNotes(List.of(Note.create().withId(id)))
+			.withMetaData(PagingMetaData.create().withLimit(100).withCount(1));
+		when(noteService.getPartyChangeToken(partyId)).thenReturn(5L);
+		when(noteService.getNotesByPartyId(partyId, 5L, NoteFilter.create(), 100, null, "full")).thenReturn(findNotesResponse);
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("partyId", partyId)
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.header(ETAG, "\"5\"")
+			.extract().as(FindNotesResponse.class);
+
+		// Verification
+		assertThat(response).isNotNull().isEqualTo(findNotesResponse);
+		verify(noteService).getNotesByPartyId(partyId, 5L, NoteFilter.create(), 100, null, "full");
+	}
+
+	@Test
+	void getNotesByPartyIdNotModified() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+
+		// Mock
+		when(noteService.getPartyChangeToken(partyId)).thenReturn(5L);
+
+		given()
+			.queryParam("partyId", partyId)
+			.header(IF_NONE_MATCH, "\"5\"")
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.NOT_MODIFIED.value())
+			.header(ETAG, "\"5\"")
+			.body(emptyString());
+
+		// Verification
+		verify(noteService).getPartyChangeToken(partyId);
+		verify(noteService, never()).getNotesByPartyId(any(), anyLong(), any(), anyInt(), any(), any());
+	}
+
+	@Test
+	void getNotesByPartyIdWithLimitAndCursor() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID().toString();
+		final var cursor = "cursor";
+		final var next = "next";
+
+		// Mock
+		final var findNotesResponse = FindNotesResponse.create()
+			.withNotes(List.of(Note.create().withId(id)))
+			.withMetaData(PagingMetaData.create().withLimit(1).withCount(1).withNext(next));
+		when(noteService.getNotesByPartyId(partyId, 0L, NoteFilter.create(), 1, cursor, "full")).thenReturn(findNotesResponse);
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("partyId", partyId)
+			.queryParam("limit", 1)
+			.queryParam("cursor", cursor)
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.extract().as(FindNotesResponse.class);
+
+		// Verification
+		assertThat(response).isNotNull().isEqualTo(findNotesResponse);
+		assertThat(response.getMetaData().getNext()).isEqualTo(next);
+		verify(noteService).getNotesByPartyId(partyId, 0L, NoteFilter.create(), 1, cursor, "full");
+	}
+
+	@Test
+	void getNotesByPartyIdSummary() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID().toString();
+
+		// Mock
+		final var findNotesResponse = FindNotesResponse.create()
+			.withNotes(List.of(Note.create().withId(id).withSubject("subject")))
+			.withMetaData(PagingMetaData.create().withLimit(100).withCount(1));
+		when(noteService.getNotesByPartyId(partyId, 0L, NoteFilter.create(), 100, null, "summary")).thenReturn(findNotesResponse);
+
+		final var response = given()
+			.contentType(JSON)
+			.queryParam("partyId", partyId)
+			.queryParam("view", "summary")
+			.when()
+			.get("/notes")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.extract().as(FindNotesResponse.class);
+
+		// Verification
+		assertThat(response).isNotNull().isEqualTo(findNotesResponse);
+		verify(noteService).getNotesByPartyId(partyId, 0L, NoteFilter.create(), 100, null, "summary");
+	}
+
+	@Test
+	void getNotesByPartyIdWithFilters() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID().toString();
+		final var filter = NoteFilter.create()
+			.withCreatedFrom(OffsetDateTime.parse("2022-01-01T00:00:00Z"))
+			.withCreatedTo(OffsetDateTime.parse("2022-02-01T00:00:00Z"))
+			.withModifiedSince(OffsetDateTime.parse("2022-01-15T12:30:00Z"))
+			.withCreatedBy("John Doe");
+
+		// Mock
+		final var findNotesResponse = FindNotesResponse.create()
+			.withNotes(List.of(Note.create().withId(id)))
+			.withMetaData(PagingMetaData.create().withLimit(100).withCount(1));
+		when(noteService.getNotesByPartyId(partyId, 0L, filter, 100, null, "full")).thenReturn(findNotesResponse);
+
 		final var response = given()
 			.contentType(JSON)
 			.queryParam("partyId", partyId)
+			.queryParam("createdFrom", "2022-01-01T00:00:00Z")
+			.queryParam("createdTo", "2022-02-01T00:00:00Z")
+			.queryParam("modifiedSince", "2022-01-15T12:30:00Z")
+			.queryParam("createdBy", "John Doe")
 			.when()
 			.get("/notes")
 			.then().assertThat()
 			.statusCode(HttpStatus.OK.value())
 			.contentType(equalTo(APPLICATION_JSON_VALUE))
-			.extract().as(Note[].class);
+			.extract().as(FindNotesResponse.class);
+
+		// Verification
+		assertThat(response).isNotNull().isEqualTo(findNotesResponse);
+		verify(noteService).getNotesByPartyId(partyId, 0L, filter, 100, null, "full");
+	}
+
+	@Test
+	void searchNotes() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID().toString();
+		final var cursor = "cursor";
+
+		// Mock
+		final var findNotesResponse = FindNotesResponse.create()
+			.withNotes(List.of(Note.create().withId(id)))
+			.withMetaData(PagingMetaData.create().withLimit(1).withCount(1).withNext("next"));
+		when(noteService.searchNotes(partyId, "invoice", 1, cursor)).thenReturn(findNotesResponse);
+
+		final var response = given()
+			.queryParam("partyId", partyId)
+			.queryParam("q", "invoice")
+			.queryParam("limit", 1)
+			.queryParam("cursor", cursor)
+			.when()
+			.get("/notes/search")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.extract().as(FindNotesResponse.class);
+
+		// Verification
+		assertThat(response).isNotNull().isEqualTo(findNotesResponse);
+		verify(noteService).searchNotes(partyId, "invoice", 1, cursor);
+	}
+
+	@Test
+	void getNoteChanges() {
+
+		// Parameter values
+		final var id = UUID.randomUUID().toString();
+		final var deletedId = UUID.randomUUID().toString();
+
+		// Mock
+		final var findNoteChangesResponse = FindNoteChangesResponse.create()
+			.withNotes(List.of(Note.create().withId(id)))
+			.withDeletedNotes(List.of(DeletedNote.create().withId(deletedId)))
+			.withToken("MTQ")
+			.withHasMore(true);
+		when(noteService.getNoteChanges("MTI", 2)).thenReturn(findNoteChangesResponse);
+
+		final var response = given()
+			.queryParam("since", "MTI")
+			.queryParam("limit", 2)
+			.when()
+			.get("/notes/changes")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(equalTo(APPLICATION_JSON_VALUE))
+			.extract().as(FindNoteChangesResponse.class);
+
+		// Verification
+		assertThat(response).isNotNull().isEqualTo(findNoteChangesResponse);
+		verify(noteService).getNoteChanges("MTI", 2);
+	}
+
+	@Test
+	void getNoteChangesWithDefaults() {
+
+		// Mock
+		when(noteService.getNoteChanges(null, 100)).thenReturn(FindNoteChangesResponse.create());
+
+		given()
+			.when()
+			.get("/notes/changes")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value());
+
+		// Verification
+		verify(noteService).getNoteChanges(null, 100);
+	}
+
+	@Test
+	void getNoteEvents() throws Exception {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+
+		// Mock
+		final var emitter = new SseEmitter();
+		emitter.send(SseEmitter.event().id("43").name("deleted").data("{}"));
+		emitter.complete();
+		when(noteService.subscribeToEvents(partyId, 42L)).thenReturn(emitter);
+
+		final var response = given()
+			.queryParam("partyId", partyId)
+			.header("Last-Event-ID", "42")
+			.when()
+			.get("/notes/events")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(startsWith(TEXT_EVENT_STREAM_VALUE))
+			.extract().asString();
+
+		// Verification
+		assertThat(response).isEqualTo("id:43\nevent:deleted\ndata:{}\n\n");
+		verify(noteService).subscribeToEvents(partyId, 42L);
+	}
+
+	@Test
+	void exportNotesByPartyId() {
+
+		// Parameter values
+		final var partyId = UUID.randomUUID().toString();
+		final var id1 = UUID.randomUUID().toString();
+		final var id2 = UUID.randomUUID().toString();
+
+		// Mock
+		doAnswer(invocation -> {
+			final Consumer<Note> consumer = invocation.getArgument(1);
+			consumer.accept(Note.create().withId(id1).withPartyId(partyId));
+			consumer.accept(Note.create().withId(id2).withPartyId(partyId));
+			return null;
+		}).when(noteService).exportNotes(eq(partyId), any());
+
+		final var response = given()
+			.queryParam("partyId", partyId)
+			.when()
+			.get("/notes/export")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(equalTo(APPLICATION_NDJSON_VALUE))
+			.extract().asString();
+
+		// Verification
+		assertThat(response.lines()).hasSize(2);
+		assertThat(response.lines().toList().get(0)).contains(id1);
+		assertThat(response.lines().toList().get(1)).contains(id2);
+		verify(noteService).exportNotes(eq(partyId), any());
+	}
+
+	@Test
+	void exportAllNotes() {
+
+		// Mock
+		doAnswer(invocation -> {
+			invocation.<Consumer<Note>>getArgument(1).accept(Note.create().withId("id"));
+			return null;
+		}).when(noteService).exportNotes(isNull(), any());
+
+		final var response = given()
+			.when()
+			.get("/notes/export")
+			.then().assertThat()
+			.statusCode(HttpStatus.OK.value())
+			.contentType(equalTo(APPLICATION_NDJSON_VALUE))
+			.extract().asString();
 
 		// Verification
-		assertThat(response).isNotNull().hasSize(1).containsExactly(note);
-		verify(noteService).getNotesByPartyId(partyId);
+		assertThat(response).isEqualTo("{\"id\":\"id\"}\n");
+		verify(noteService).exportNotes(isNull(), any());
 	}
 }
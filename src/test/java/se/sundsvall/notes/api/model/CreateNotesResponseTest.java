@@ -0,0 +1,44 @@
+package se.sundsvall.notes.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CreateNotesResponseTest {
+
+	@Test
+	void testBean() {
+		assertThat(CreateNotesResponse.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var ids = List.of("id1", "id2");
+
+		final var createNotesResponse = CreateNotesResponse.create()
+			.withIds(ids);
+
+		assertThat(createNotesResponse).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(createNotesResponse.getIds()).isEqualTo(ids);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(CreateNotesResponse.create()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,59 @@
+package se.sundsvall.notes.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class DeletedNoteTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(DeletedNote.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = "id";
+		final var partyId = "partyId";
+		final var deleted = OffsetDateTime.now();
+
+		final var deletedNote = DeletedNote.create()
+			.withId(id)
+			.withPartyId(partyId)
+			.withDeleted(deleted);
+
+		assertThat(deletedNote).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(deletedNote.getId()).isEqualTo(id);
+		assertThat(deletedNote.getPartyId()).isEqualTo(partyId);
+		assertThat(deletedNote.getDeleted()).isEqualTo(deleted);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DeletedNote.create()).hasAllNullFieldsOrProperties();
+	}
+}
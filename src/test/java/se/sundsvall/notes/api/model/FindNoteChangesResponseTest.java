@@ -0,0 +1,53 @@
+package se.sundsvall.notes.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FindNoteChangesResponseTest {
+
+	@Test
+	void testBean() {
+		assertThat(FindNoteChangesResponse.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var notes = List.of(Note.create());
+		final var deletedNotes = List.of(DeletedNote.create());
+		final var token = "token";
+
+		final var findNoteChangesResponse = FindNoteChangesResponse.create()
+			.withNotes(notes)
+			.withDeletedNotes(deletedNotes)
+			.withToken(token)
+			.withHasMore(true);
+
+		assertThat(findNoteChangesResponse).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(findNoteChangesResponse.getNotes()).isEqualTo(notes);
+		assertThat(findNoteChangesResponse.getDeletedNotes()).isEqualTo(deletedNotes);
+		assertThat(findNoteChangesResponse.getToken()).isEqualTo(token);
+		assertThat(findNoteChangesResponse.isHasMore()).isTrue();
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(FindNoteChangesResponse.create()).hasAllNullFieldsOrPropertiesExcept("hasMore");
+		assertThat(FindNoteChangesResponse.create().isHasMore()).isFalse();
+	}
+}
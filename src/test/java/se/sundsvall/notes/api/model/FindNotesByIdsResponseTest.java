@@ -0,0 +1,47 @@
+package se.sundsvall.notes.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FindNotesByIdsResponseTest {
+
+	@Test
+	void testBean() {
+		assertThat(FindNotesByIdsResponse.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var notes = List.of(Note.create());
+		final var missingIds = List.of("missingId");
+
+		final var findNotesByIdsResponse = FindNotesByIdsResponse.create()
+			.withNotes(notes)
+			.withMissingIds(missingIds);
+
+		assertThat(findNotesByIdsResponse).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(findNotesByIdsResponse.getNotes()).isEqualTo(notes);
+		assertThat(findNotesByIdsResponse.getMissingIds()).isEqualTo(missingIds);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(FindNotesByIdsResponse.create()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.notes.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FindNotesResponseTest {
+
+	@Test
+	void testBean() {
+		assertThat(FindNotesResponse.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var notes = List.of(Note.create());
+		final var metaData = PagingMetaData.create();
+
+		final var findNotesResponse = FindNotesResponse.create()
+			.withNotes(notes)
+			.withMetaData(metaData);
+
+		assertThat(findNotesResponse).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(findNotesResponse.getNotes()).isEqualTo(notes);
+		assertThat(findNotesResponse.getMetaData()).isEqualTo(metaData);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(FindNotesResponse.create()).hasAllNullFieldsOrProperties();
+	}
+}
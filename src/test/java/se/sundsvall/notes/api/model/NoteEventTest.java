@@ -0,0 +1,51 @@
+package se.sundsvall.notes.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class NoteEventTest {
+
+	@Test
+	void testBean() {
+		assertThat(NoteEvent.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var type = "updated";
+		final var noteId = "noteId";
+		final var partyId = "partyId";
+		final var note = Note.create();
+
+		final var noteEvent = NoteEvent.create()
+			.withType(type)
+			.withNoteId(noteId)
+			.withPartyId(partyId)
+			.withNote(note);
+
+		assertThat(noteEvent).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(noteEvent.getType()).isEqualTo(type);
+		assertThat(noteEvent.getNoteId()).isEqualTo(noteId);
+		assertThat(noteEvent.getPartyId()).isEqualTo(partyId);
+		assertThat(noteEvent.getNote()).isEqualTo(note);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(NoteEvent.create()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -46,6 +46,7 @@ class NoteTest {
 		final var modifiedBy = "modifiedBy";
 		final var partyId = UUID.randomUUID().toString();
 		final var subject = "subject";
+		final var version = 1;
 
 		final var note = Note.create()
 			.withBody(body)
@@ -55,7 +56,8 @@ class NoteTest {
 			.withModified(modified)
 			.withModifiedBy(modifiedBy)
 			.withPartyId(partyId)
-			.withSubject(subject);
+			.withSubject(subject)
+			.withVersion(version);
 
 		assertThat(note).isNotNull().hasNoNullFieldsOrProperties();
 		assertThat(note.getBody()).isEqualTo(body);
@@ -66,6 +68,7 @@ class NoteTest {
 		assertThat(note.getModifiedBy()).isEqualTo(modifiedBy);
 		assertThat(note.getPartyId()).isEqualTo(partyId);
 		assertThat(note.getSubject()).isEqualTo(subject);
+		assertThat(note.getVersion()).isEqualTo(version);
 	}
 
 	@Test
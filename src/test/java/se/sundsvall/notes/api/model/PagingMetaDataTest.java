@@ -0,0 +1,48 @@
+package se.sundsvall.notes.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PagingMetaDataTest {
+
+	@Test
+	void testBean() {
+		assertThat(PagingMetaData.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var limit = 100;
+		final var count = 10;
+		final var next = "next";
+
+		final var pagingMetaData = PagingMetaData.create()
+			.withLimit(limit)
+			.withCount(count)
+			.withNext(next);
+
+		assertThat(pagingMetaData).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(pagingMetaData.getLimit()).isEqualTo(limit);
+		assertThat(pagingMetaData.getCount()).isEqualTo(count);
+		assertThat(pagingMetaData.getNext()).isEqualTo(next);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(PagingMetaData.create()).hasAllNullFieldsOrPropertiesExcept("limit", "count");
+	}
+}
@@ -2,11 +2,16 @@ package se.sundsvall.notes.apptest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.INSERT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.assertStatements;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
@@ -15,12 +20,16 @@ import se.sundsvall.dept44.test.AbstractAppTest;
 import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
 import se.sundsvall.notes.Application;
 import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.SqlStatementRecorder;
+import se.sundsvall.notes.integration.db.SqlStatementRecorderExtension;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
 
 /**
  * Create note apptests.
  */
 @WireMockAppTestSuite(files = "classpath:/apptest/CreateNoteAppTest/", classes = Application.class)
 @ActiveProfiles("junit")
+@ExtendWith(SqlStatementRecorderExtension.class)
 class CreateNoteAppTest extends AbstractAppTest {
 
 	@Autowired
@@ -29,9 +38,10 @@ class CreateNoteAppTest extends AbstractAppTest {
 	@Test
 	void test1_createNote() throws Exception {
 
-		final var partyId = "ffd20e9d-5987-417a-b8cd-a4617ac83a88";
+		final var partyId = UUID.fromString("ffd20e9d-5987-417a-b8cd-a4617ac83a88");
 
-		assertThat(noteRepository.findByPartyIdOrderByCreated(partyId)).isEmpty();
+		assertThat(findNotes(partyId)).isEmpty();
+		SqlStatementRecorder.reset();
 
 		setupCall()
 			.withServicePath("/notes")
@@ -41,6 +51,35 @@ class CreateNoteAppTest extends AbstractAppTest {
 			.withExpectedResponseHeader(LOCATION, List.of("^http://(.*)/notes/(.*)$"))
 			.sendRequestAndVerifyResponse();
 
-		assertThat(noteRepository.findByPartyIdOrderByCreated(partyId)).hasSize(1);
+		// One insert of the note, without a select before it, one upsert of the party change token and one insert into the
+		// outbox.
+		assertStatements(INSERT, INSERT, INSERT);
+
+		assertThat(findNotes(partyId)).hasSize(1);
+	}
+
+	@Test
+	void test2_createNotes() throws Exception {
+
+		final var partyId1 = UUID.fromString("0d64c132-3aea-11ec-8d3d-0242ac130003");
+		final var partyId2 = UUID.fromString("4a5b2f14-3aea-11ec-8d3d-0242ac130003");
+
+		assertThat(findNotes(partyId1)).isEmpty();
+		assertThat(findNotes(partyId2)).isEmpty();
+
+		setupCall()
+			.withServicePath("/notes/batch")
+			.withHttpMethod(HttpMethod.POST)
+			.withRequest("request.json")
+			.withExpectedResponseStatus(HttpStatus.CREATED)
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
+
+		assertThat(findNotes(partyId1)).extracting(NoteEntity::getSubject).containsExactlyInAnyOrder("Subject 1", "Subject 3");
+		assertThat(findNotes(partyId2)).extracting(NoteEntity::getSubject).containsExactly("Subject 2");
+	}
+
+	private List<NoteEntity> findNotes(UUID partyId) {
+		return noteRepository.findByPartyIdOrderByCreatedAscIdAsc(partyId, PageRequest.of(0, 10));
 	}
 }
@@ -1,8 +1,14 @@
 package se.sundsvall.notes.apptest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.DELETE;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.INSERT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.assertStatements;
+
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -13,6 +19,8 @@ import se.sundsvall.dept44.test.AbstractAppTest;
 import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
 import se.sundsvall.notes.Application;
 import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.SqlStatementRecorder;
+import se.sundsvall.notes.integration.db.SqlStatementRecorderExtension;
 
 /**
  * Delete note apptests.
@@ -21,6 +29,7 @@ import se.sundsvall.notes.integration.db.NoteRepository;
  */
 @WireMockAppTestSuite(files = "classpath:/apptest/DeleteNoteAppTest/", classes = Application.class)
 @ActiveProfiles("junit")
+@ExtendWith(SqlStatementRecorderExtension.class)
 @Sql(scripts = {
 	"/db/scripts/truncate.sql",
 	"/db/scripts/DeleteNoteAppTest.sql"
@@ -35,7 +44,8 @@ class DeleteNoteAppTest extends AbstractAppTest {
 
 		final var id = "2103ac13-1691-4017-b6c6-78fa75ff68fb";
 
-		assertThat(noteRepository.findById(id)).isPresent();
+		assertThat(noteRepository.findById(UUID.fromString(id))).isPresent();
+		SqlStatementRecorder.reset();
 
 		setupCall()
 			.withServicePath("/notes/".concat(id))
@@ -43,14 +53,18 @@ class DeleteNoteAppTest extends AbstractAppTest {
 			.withExpectedResponseStatus(HttpStatus.NO_CONTENT)
 			.sendRequestAndVerifyResponse();
 
-		assertThat(noteRepository.findById(id)).isNotPresent();
+		// One delete, one insert of the tombstone, one upsert of the party change token and one insert into the outbox.
+		assertStatements(DELETE, INSERT, INSERT, INSERT);
+
+		assertThat(noteRepository.findById(UUID.fromString(id))).isNotPresent();
 	}
 
 	@Test
 	void test2_deleteByIdNotFound() throws Exception {
 
 		final var id = "33305f2f-59a4-44bc-b77d-64d99725f416"; // Id does not exist in DB.
-		assertThat(noteRepository.findById(id)).isNotPresent();
+		assertThat(noteRepository.findById(UUID.fromString(id))).isNotPresent();
+		SqlStatementRecorder.reset();
 
 		setupCall()
 			.withServicePath("/notes/".concat(id))
@@ -58,5 +72,7 @@ class DeleteNoteAppTest extends AbstractAppTest {
 			.withExpectedResponseStatus(HttpStatus.NOT_FOUND)
 			.withExpectedResponse("response.json")
 			.sendRequestAndVerifyResponse();
+
+		assertStatements(DELETE);
 	}
 }
@@ -1,6 +1,14 @@
 package se.sundsvall.notes.apptest;
 
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.SELECT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.assertStatements;
+
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
@@ -9,6 +17,8 @@ import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.dept44.test.AbstractAppTest;
 import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
 import se.sundsvall.notes.Application;
+import se.sundsvall.notes.integration.db.SqlStatementRecorder;
+import se.sundsvall.notes.integration.db.SqlStatementRecorderExtension;
 
 /**
  * Read note apptests.
@@ -17,7 +27,9 @@ import se.sundsvall.notes.Application;
  */
 @WireMockAppTestSuite(files = "classpath:/apptest/ReadNoteAppTest/", classes = Application.class)
 @ActiveProfiles("junit")
+@ExtendWith(SqlStatementRecorderExtension.class)
 @Sql(scripts = {
+	"/db/scripts/create-fulltext-index.sql",
 	"/db/scripts/truncate.sql",
 	"/db/scripts/ReadNoteAppTest.sql"
 })
@@ -35,12 +47,17 @@ class ReadNoteAppTest extends AbstractAppTest {
 
 	@Test
 	void test2_readAllFilterByPartyId() throws Exception {
+		SqlStatementRecorder.reset();
+
 		setupCall()
 			.withServicePath("/notes?partyId=a37b06cc-edda-459d-860c-9f8cd1e24b00")
 			.withHttpMethod(HttpMethod.GET)
 			.withExpectedResponseStatus(HttpStatus.OK)
 			.withExpectedResponse("response.json")
 			.sendRequestAndVerifyResponse();
+
+		// One select of the party change token and one of the page, no matter the number of notes.
+		assertStatements(SELECT, SELECT);
 	}
 
 	@Test
@@ -62,4 +79,70 @@ class ReadNoteAppTest extends AbstractAppTest {
 			.withExpectedResponse("response.json")
 			.sendRequestAndVerifyResponse();
 	}
+
+	@Test
+	void test5_readAllFilterByPartyIdPaged() throws Exception {
+		setupCall()
+			.withServicePath("/notes?partyId=a37b06cc-edda-459d-860c-9f8cd1e24b00&limit=2")
+			.withHttpMethod(HttpMethod.GET)
+			.withExpectedResponseStatus(HttpStatus.OK)
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
+	}
+
+	@Test
+	void test6_readByIds() throws Exception {
+		setupCall()
+			.withServicePath("/notes?id=3f253188-7dc2-479f-8872-619ad2d71b5c&id=14c8fd87-2a57-4e38-bcd5-6fff9ca6880e&id=134aedef-2d33-410b-8654-207e9644fc3d") // Second id does not exist in DB.
+			.withHttpMethod(HttpMethod.GET)
+			.withExpectedResponseStatus(HttpStatus.OK)
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
+	}
+
+	@Test
+	void test7_readAllFilterByPartyIdSummary() throws Exception {
+		setupCall()
+			.withServicePath("/notes?partyId=a37b06cc-edda-459d-860c-9f8cd1e24b00&view=summary")
+			.withHttpMethod(HttpMethod.GET)
+			.withExpectedResponseStatus(HttpStatus.OK)
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
+	}
+
+	@Test
+	void test8_readAllFilterByPartyIdNotModified() throws Exception {
+		SqlStatementRecorder.reset();
+
+		setupCall()
+			.withServicePath("/notes?partyId=a37b06cc-edda-459d-860c-9f8cd1e24b00")
+			.withHttpMethod(HttpMethod.GET)
+			.withHeader(IF_NONE_MATCH, "\"0\"") // No note of the party has been changed through the service.
+			.withExpectedResponseStatus(HttpStatus.NOT_MODIFIED)
+			.withExpectedResponseHeader(ETAG, List.of("\"0\""))
+			.sendRequestAndVerifyResponse();
+
+		// Only the party change token is read.
+		assertStatements(SELECT);
+	}
+
+	@Test
+	void test9_searchByPartyId() throws Exception {
+		setupCall()
+			.withServicePath("/notes/search?partyId=a37b06cc-edda-459d-860c-9f8cd1e24b00&q=subject2")
+			.withHttpMethod(HttpMethod.GET)
+			.withExpectedResponseStatus(HttpStatus.OK)
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
+	}
+
+	@Test
+	void test10_readAllFilterByPartyIdAndCreated() throws Exception {
+		setupCall()
+			.withServicePath("/notes?partyId=a37b06cc-edda-459d-860c-9f8cd1e24b00&createdFrom=2022-01-15T00:00:00Z&createdTo=2022-03-01T00:00:00Z")
+			.withHttpMethod(HttpMethod.GET)
+			.withExpectedResponseStatus(HttpStatus.OK)
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
+	}
 }
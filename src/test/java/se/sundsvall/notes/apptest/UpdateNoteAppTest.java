@@ -1,6 +1,16 @@
 package se.sundsvall.notes.apptest;
 
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.INSERT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.SELECT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.UPDATE;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.assertStatements;
+
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
@@ -9,6 +19,8 @@ import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.dept44.test.AbstractAppTest;
 import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
 import se.sundsvall.notes.Application;
+import se.sundsvall.notes.integration.db.SqlStatementRecorder;
+import se.sundsvall.notes.integration.db.SqlStatementRecorderExtension;
 
 /**
  * Update note apptests.
@@ -17,6 +29,7 @@ import se.sundsvall.notes.Application;
  */
 @WireMockAppTestSuite(files = "classpath:/apptest/UpdateNoteAppTest/", classes = Application.class)
 @ActiveProfiles("junit")
+@ExtendWith(SqlStatementRecorderExtension.class)
 @Sql(scripts = {
 	"/db/scripts/truncate.sql",
 	"/db/scripts/UpdateNoteAppTest.sql"
@@ -25,6 +38,7 @@ class UpdateNoteAppTest extends AbstractAppTest {
 
 	@Test
 	void test1_updateById() throws Exception {
+		SqlStatementRecorder.reset();
 
 		setupCall()
 			.withServicePath("/notes/8825bfae-11bc-4436-b1be-e4f0f225c048")
@@ -33,10 +47,15 @@ class UpdateNoteAppTest extends AbstractAppTest {
 			.withExpectedResponseStatus(HttpStatus.OK)
 			.withExpectedResponse("response.json")
 			.sendRequestAndVerifyResponse();
+
+		// One update, one select of the updated note, one upsert of the party change token and one insert into the outbox.
+		assertStatements(UPDATE, SELECT, INSERT, INSERT);
 	}
 
 	@Test
 	void test2_updateByIdNotFound() throws Exception {
+		SqlStatementRecorder.reset();
+
 		setupCall()
 			.withServicePath("/notes/9eceeeb1-f939-441c-858f-da3deb05e578") // Id does not exist in DB.
 			.withHttpMethod(HttpMethod.PATCH)
@@ -44,5 +63,46 @@ class UpdateNoteAppTest extends AbstractAppTest {
 			.withExpectedResponseStatus(HttpStatus.NOT_FOUND)
 			.withExpectedResponse("response.json")
 			.sendRequestAndVerifyResponse();
+
+		assertStatements(UPDATE);
+	}
+
+	@Test
+	void test3_updateSubjectOnlyById() throws Exception {
+
+		setupCall()
+			.withServicePath("/notes/8825bfae-11bc-4436-b1be-e4f0f225c048")
+			.withHttpMethod(HttpMethod.PATCH)
+			.withRequest("request.json")
+			.withExpectedResponseStatus(HttpStatus.OK)
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
+	}
+
+	@Test
+	void test4_updateByIdWithIfMatch() throws Exception {
+
+		setupCall()
+			.withServicePath("/notes/8825bfae-11bc-4436-b1be-e4f0f225c048")
+			.withHttpMethod(HttpMethod.PATCH)
+			.withHeader(IF_MATCH, "\"0\"")
+			.withRequest("request.json")
+			.withExpectedResponseStatus(HttpStatus.OK)
+			.withExpectedResponseHeader(ETAG, List.of("\"1\""))
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
+	}
+
+	@Test
+	void test5_updateByIdVersionMismatch() throws Exception {
+
+		setupCall()
+			.withServicePath("/notes/8825bfae-11bc-4436-b1be-e4f0f225c048")
+			.withHttpMethod(HttpMethod.PATCH)
+			.withHeader(IF_MATCH, "\"3\"") // Note in DB has version 0.
+			.withRequest("request.json")
+			.withExpectedResponseStatus(HttpStatus.PRECONDITION_FAILED)
+			.withExpectedResponse("response.json")
+			.sendRequestAndVerifyResponse();
 	}
 }
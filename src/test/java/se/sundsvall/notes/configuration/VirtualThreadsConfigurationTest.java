@@ -0,0 +1,99 @@
+package se.sundsvall.notes.configuration;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.verify;
+import static se.sundsvall.notes.configuration.VirtualThreadsConfiguration.isVirtualThreadsSupported;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadsConfigurationTest {
+
+	private final VirtualThreadsConfiguration configuration = new VirtualThreadsConfiguration();
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withUserConfiguration(VirtualThreadsConfiguration.class);
+
+	@Mock
+	private ProtocolHandler protocolHandler;
+
+	@Captor
+	private ArgumentCaptor<Executor> executorCaptor;
+
+	@Test
+	void isSupportedFromJava21() {
+		assertThat(isVirtualThreadsSupported()).isEqualTo(Runtime.version().feature() >= 21);
+	}
+
+	@Test
+	void enabledOnlyWhenSupportedByRuntime() {
+		contextRunner.withPropertyValues("notes.virtual-threads.enabled=true")
+			.run(context -> assertThat(context.containsBean("virtualThreadsProtocolHandlerCustomizer")).isEqualTo(isVirtualThreadsSupported()));
+	}
+
+	@Test
+	void disabledByDefault() {
+		contextRunner.run(context -> assertThat(context).doesNotHaveBean(VirtualThreadsConfiguration.class));
+	}
+
+	@Test
+	void protocolHandlerRunsRequestsOnVirtualThreads() throws Exception {
+		assumeTrue(isVirtualThreadsSupported());
+
+		configuration.virtualThreadsProtocolHandlerCustomizer().customize(protocolHandler);
+
+		verify(protocolHandler).setExecutor(executorCaptor.capture());
+
+		final var thread = new CompletableFuture<Thread>();
+		executorCaptor.getValue().execute(() -> thread.complete(Thread.currentThread()));
+
+		assertThat(isVirtual(thread.get(5, SECONDS))).isTrue();
+		assertThat(thread.get().getName()).startsWith("tomcat-handler-");
+	}
+
+	@Test
+	void applicationTaskExecutorRunsTasksOnVirtualThreads() throws Exception {
+		assumeTrue(isVirtualThreadsSupported());
+
+		final var thread = configuration.applicationTaskExecutor().submit(Thread::currentThread).get(5, SECONDS);
+
+		assertThat(isVirtual(thread)).isTrue();
+		assertThat(thread.getName()).startsWith("task-");
+	}
+
+	@Test
+	void taskSchedulerRunsScheduledTasksOnVirtualThreads() throws Exception {
+		assumeTrue(isVirtualThreadsSupported());
+
+		final var taskScheduler = new ThreadPoolTaskScheduler();
+		configuration.virtualThreadsTaskSchedulerCustomizer().customize(taskScheduler);
+		taskScheduler.initialize();
+
+		try {
+			final var thread = taskScheduler.submit(Thread::currentThread).get(5, SECONDS);
+
+			assertThat(isVirtual(thread)).isTrue();
+			assertThat(thread.getName()).startsWith("scheduling-");
+		} finally {
+			taskScheduler.shutdown();
+		}
+	}
+
+	// Thread.isVirtual() is not available when compiling for Java 17.
+	private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+		return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+	}
+}
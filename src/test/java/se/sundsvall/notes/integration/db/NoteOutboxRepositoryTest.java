@@ -0,0 +1,64 @@
+package se.sundsvall.notes.integration.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.notes.Application;
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+
+import javax.transaction.Transactional;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Note outbox repository tests.
+ */
+@SpringBootTest(classes = {Application.class }, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+		"/db/scripts/truncate.sql"
+})
+@Transactional
+class NoteOutboxRepositoryTest {
+
+	@Autowired
+	private NoteOutboxRepository noteOutboxRepository;
+
+	@Test
+	void persist() {
+		final var noteOutboxEntity = NoteOutboxEntity.create()
+				.withEventType("created")
+				.withNoteId(UUID.randomUUID())
+				.withPartyId(UUID.randomUUID())
+				.withPayload("{}");
+
+		final var persistedEntity = noteOutboxRepository.saveAndFlush(noteOutboxEntity);
+
+		assertThat(persistedEntity.getId()).isNotNull();
+		assertThat(persistedEntity.getId().version()).isEqualTo(7);
+		assertThat(persistedEntity.getCreated()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
+	}
+
+	@Test
+	void findNextBatchForUpdate() {
+		final var noteIds = IntStream.range(0, 5)
+				.mapToObj(i -> noteOutboxRepository.saveAndFlush(NoteOutboxEntity.create().withEventType("created").withNoteId(UUID.randomUUID()).withPayload("{}")))
+				.map(NoteOutboxEntity::getNoteId)
+				.toList();
+
+		// Events are read in the order they were written.
+		assertThat(noteOutboxRepository.findNextBatchForUpdate(3)).extracting(NoteOutboxEntity::getNoteId).containsExactlyElementsOf(noteIds.subList(0, 3));
+	}
+
+	@Test
+	void findNextBatchForUpdateEmpty() {
+		assertThat(noteOutboxRepository.findNextBatchForUpdate(3)).isEmpty();
+	}
+}
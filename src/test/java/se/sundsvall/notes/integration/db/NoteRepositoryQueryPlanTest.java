@@ -0,0 +1,66 @@
+package se.sundsvall.notes.integration.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import se.sundsvall.notes.Application;
+
+/**
+ * Verifies that reads of notes for a party are served by the composite (party_id, created, id) index, and reads filtered
+ * by creator by the composite (party_id, created_by, created, id) index, without a filesort. Reads filtered by
+ * modification time are served by the (party_id, last_changed) index.
+ *
+ * @see src/test/resources/db/scripts/NoteRepositoryQueryPlanTest.sql for data setup.
+ */
+@SpringBootTest(classes = { Application.class }, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/NoteRepositoryQueryPlanTest.sql"
+})
+class NoteRepositoryQueryPlanTest {
+
+	private static final String INDEX_NAME = "note_party_id_created_id_index";
+	private static final String CREATED_BY_INDEX_NAME = "note_party_id_created_by_created_id_index";
+	private static final String LAST_CHANGED_INDEX_NAME = "note_party_id_last_changed_index";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void findByPartyIdOrderedByCreatedAndId() {
+		final var plan = jdbcTemplate.queryForMap("explain select * from note where party_id = unhex('00000000000000000000000000000001') order by created, id limit 101");
+
+		assertThat(plan.get("key")).isEqualTo(INDEX_NAME);
+		assertThat(String.valueOf(plan.get("Extra"))).doesNotContainIgnoringCase("filesort");
+	}
+
+	@Test
+	void findByPartyIdAfterPosition() {
+		final var plan = jdbcTemplate.queryForMap("explain select * from note where party_id = unhex('00000000000000000000000000000001') and (created > '2022-01-01 10:00:00.000' or (created = '2022-01-01 10:00:00.000' and id > unhex('00000000000000000000000000000000'))) order by created, id limit 101");
+
+		assertThat(plan.get("key")).isEqualTo(INDEX_NAME);
+		assertThat(String.valueOf(plan.get("Extra"))).doesNotContainIgnoringCase("filesort");
+	}
+
+	@Test
+	void findByPartyIdAndCreatedByOrderedByCreatedAndId() {
+		final var plan = jdbcTemplate.queryForMap("explain select * from note where party_id = unhex('00000000000000000000000000000001') and created_by = 'createdBy201' order by created, id limit 101");
+
+		assertThat(plan.get("key")).isEqualTo(CREATED_BY_INDEX_NAME);
+		assertThat(String.valueOf(plan.get("Extra"))).doesNotContainIgnoringCase("filesort");
+	}
+
+	@Test
+	void findByPartyIdModifiedSince() {
+		final var plan = jdbcTemplate.queryForMap("explain select id from note where party_id = unhex('00000000000000000000000000000001') and last_changed >= '2022-01-02 09:00:00.000'");
+
+		assertThat(plan.get("key")).isEqualTo(LAST_CHANGED_INDEX_NAME);
+	}
+}
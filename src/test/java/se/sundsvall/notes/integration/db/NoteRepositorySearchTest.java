@@ -0,0 +1,90 @@
+package se.sundsvall.notes.integration.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import se.sundsvall.notes.Application;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+
+/**
+ * Note repository fulltext search tests. Not transactional, as InnoDB only makes committed rows visible to fulltext
+ * searches.
+ *
+ * @see src/test/resources/db/scripts/NoteRepositorySearchTest.sql for data setup.
+ */
+@SpringBootTest(classes = { Application.class }, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/create-fulltext-index.sql",
+	"/db/scripts/truncate.sql",
+	"/db/scripts/NoteRepositorySearchTest.sql"
+})
+class NoteRepositorySearchTest {
+
+	private static final UUID PARTY_ID = UUID.fromString("7b1f4e2a-9c3d-4a5b-8e6f-0a1b2c3d4e5f");
+	private static final UUID ENTITY_1_ID = UUID.fromString("0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e01");
+	private static final UUID ENTITY_2_ID = UUID.fromString("0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e02");
+	private static final UUID ENTITY_3_ID = UUID.fromString("0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e03");
+	private static final UUID ENTITY_4_ID = UUID.fromString("0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e04");
+	private static final UUID ENTITY_5_ID = UUID.fromString("0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e05");
+
+	@Autowired
+	private NoteRepository noteRepository;
+
+	@Test
+	void searchOrderedByRelevance() {
+		final var results = noteRepository.search(PARTY_ID, "invoice", null, null, 10);
+
+		// The note of the other party also mentions invoice, but is not returned.
+		assertThat(results).extracting(result -> result.noteEntity().getId()).containsExactly(ENTITY_1_ID, ENTITY_2_ID);
+		assertThat(results.get(0).relevance()).isGreaterThan(results.get(1).relevance());
+		assertThat(results.get(0).noteEntity().getSubject()).isEqualTo("Invoice reminder");
+	}
+
+	@Test
+	void searchAnyWord() {
+		assertThat(noteRepository.search(PARTY_ID, "Delivery MEETING", null, null, 10))
+			.extracting(result -> result.noteEntity().getId())
+			.containsExactlyInAnyOrder(ENTITY_2_ID, ENTITY_3_ID);
+	}
+
+	@Test
+	void searchPaged() {
+		final var firstPage = noteRepository.search(PARTY_ID, "invoice", null, null, 1);
+		assertThat(firstPage).extracting(result -> result.noteEntity().getId()).containsExactly(ENTITY_1_ID);
+
+		final var last = firstPage.get(0);
+		final var secondPage = noteRepository.search(PARTY_ID, "invoice", last.relevance(), last.noteEntity().getId(), 1);
+		assertThat(secondPage).extracting(result -> result.noteEntity().getId()).containsExactly(ENTITY_2_ID);
+
+		final var end = secondPage.get(0);
+		assertThat(noteRepository.search(PARTY_ID, "invoice", end.relevance(), end.noteEntity().getId(), 1)).isEmpty();
+	}
+
+	@Test
+	void searchPagedWithEqualRelevance() {
+		final var firstPage = noteRepository.search(PARTY_ID, "complaint", null, null, 1);
+
+		// Notes with equal relevance are ordered by id.
+		assertThat(firstPage).extracting(result -> result.noteEntity().getId()).containsExactly(ENTITY_4_ID);
+
+		final var last = firstPage.get(0);
+		final var secondPage = noteRepository.search(PARTY_ID, "complaint", last.relevance(), last.noteEntity().getId(), 1);
+
+		assertThat(secondPage).extracting(result -> result.noteEntity().getId()).containsExactly(ENTITY_5_ID);
+		assertThat(secondPage).extracting(NoteSearchResult::relevance).containsExactly(last.relevance());
+	}
+
+	@Test
+	void searchNoMatch() {
+		assertThat(noteRepository.search(PARTY_ID, "nonexisting", null, null, 10)).isEmpty();
+		assertThat(noteRepository.search(UUID.randomUUID(), "invoice", null, null, 10)).isEmpty();
+	}
+}
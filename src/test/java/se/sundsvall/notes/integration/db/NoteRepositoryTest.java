@@ -1,12 +1,15 @@
 package se.sundsvall.notes.integration.db;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.notes.Application;
 import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSummaryProjection;
 
 import javax.transaction.Transactional;
 import java.time.OffsetDateTime;
@@ -15,6 +18,18 @@ import java.util.UUID;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.springframework.data.jpa.domain.Specification.where;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.hasCreatedBy;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.hasPartyId;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.isAfter;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.isCreatedFrom;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.isCreatedTo;
+import static se.sundsvall.notes.integration.db.NoteSpecifications.isModifiedSince;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.DELETE;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.INSERT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.SELECT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.UPDATE;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.assertStatements;
 
 /**
  * Note repository tests.
@@ -23,6 +38,7 @@ import static org.assertj.core.api.Assertions.within;
  */
 @SpringBootTest(classes = {Application.class }, webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @ActiveProfiles("junit")
+@ExtendWith(SqlStatementRecorderExtension.class)
 @Sql(scripts = {
 		"/db/scripts/truncate.sql",
 		"/db/scripts/NoteRepositoryTest.sql"
@@ -30,9 +46,15 @@ import static org.assertj.core.api.Assertions.within;
 @Transactional
 class NoteRepositoryTest {
 
-	private static final String ENTITY_1_ID = "a2f40fc7-7d70-404b-a294-85e4f7eff55e";
-	private static final String ENTITY_1_PARTY_ID = "fbfbd90c-4c47-11ec-81d3-0242ac130003";
-	private static final String ENTITY_2_ID = "2569abe8-eed4-46b6-9502-4cad428f9068";
+	private static final UUID ENTITY_1_ID = UUID.fromString("a2f40fc7-7d70-404b-a294-85e4f7eff55e");
+	private static final UUID ENTITY_1_PARTY_ID = UUID.fromString("fbfbd90c-4c47-11ec-81d3-0242ac130003");
+	private static final UUID ENTITY_2_ID = UUID.fromString("2569abe8-eed4-46b6-9502-4cad428f9068");
+	private static final UUID ENTITY_2_PARTY_ID = UUID.fromString("1ca2650f-4959-421e-af29-d341888fbaf5");
+	private static final UUID ENTITY_3_ID = UUID.fromString("47a05ad5-8b7c-4b3d-9cb4-b6ee0ed0c8b6");
+	private static final UUID ENTITY_3_PARTY_ID = UUID.fromString("5d2cc0b4-9a6f-4a68-b4c2-0d6fef5f5a8c");
+	private static final UUID ENTITY_4_ID = UUID.fromString("9a2b2a07-9de3-4d6a-8f8e-bd4c6bd0d0a1");
+	private static final UUID ENTITY_5_ID = UUID.fromString("c4f5a2d3-2b39-4a43-9a38-1f1c2f6a4b7e");
+	private static final UUID ENTITY_6_ID = UUID.fromString("e0b0fd6c-6c54-4f0a-a0a4-5e73e1fb4c11");
 
 	@Autowired
 	private NoteRepository noteRepository;
@@ -48,14 +70,14 @@ class NoteRepositoryTest {
 
 	@Test
 	void findByIdNotFound() {
-		final var noteEntityOptional = noteRepository.findById("does-not-exist");
+		final var noteEntityOptional = noteRepository.findById(UUID.randomUUID());
 
 		assertThat(noteEntityOptional).isNotPresent();
 	}
 
 	@Test
 	void findByPartyId() {
-		final var noteEntities = noteRepository.findByPartyIdOrderByCreated(ENTITY_1_PARTY_ID);
+		final var noteEntities = noteRepository.findByPartyIdOrderByCreatedAscIdAsc(ENTITY_1_PARTY_ID, PageRequest.of(0, 10));
 
 		assertThat(noteEntities).isNotNull().hasSize(1);
 		assertThat(noteEntities.get(0).getId()).isEqualTo(ENTITY_1_ID);
@@ -64,16 +86,132 @@ class NoteRepositoryTest {
 
 	@Test
 	void findByPartyIdNotFound() {
-		final var noteEntities = noteRepository.findByPartyIdOrderByCreated("does-not-exist");
+		final var noteEntities = noteRepository.findByPartyIdOrderByCreatedAscIdAsc(UUID.randomUUID(), PageRequest.of(0, 10));
 
 		assertThat(noteEntities).isNotNull().isEmpty();
 	}
 
 
+	@Test
+	void findByPartyIdPaged() {
+		final var firstPage = noteRepository.findByPartyIdOrderByCreatedAscIdAsc(ENTITY_3_PARTY_ID, PageRequest.of(0, 2));
+
+		// Entity 3 and 6 share the same created timestamp, hence id decides the order between them.
+		assertThat(firstPage).extracting(NoteEntity::getId).containsExactly(ENTITY_3_ID, ENTITY_6_ID);
+
+		final var last = firstPage.get(1);
+		final var secondPage = noteRepository.findByPartyIdAfter(ENTITY_3_PARTY_ID, last.getCreated(), last.getId(), PageRequest.of(0, 2));
+
+		assertThat(secondPage).extracting(NoteEntity::getId).containsExactly(ENTITY_4_ID, ENTITY_5_ID);
+
+		// One select per page, without a count query.
+		assertStatements(SELECT, SELECT);
+	}
+
+	@Test
+	void findSummaryByPartyIdPaged() {
+		final var firstPage = noteRepository.findSummaryByPartyIdOrderByCreatedAscIdAsc(ENTITY_3_PARTY_ID, PageRequest.of(0, 2));
+
+		assertThat(firstPage).extracting(NoteSummaryProjection::getId).containsExactly(ENTITY_3_ID, ENTITY_6_ID);
+		assertThat(firstPage).extracting(NoteSummaryProjection::getPartyId).containsOnly(ENTITY_3_PARTY_ID);
+		assertThat(firstPage).extracting(NoteSummaryProjection::getSubject).doesNotContainNull();
+
+		final var last = firstPage.get(1);
+		final var secondPage = noteRepository.findSummaryByPartyIdAfter(ENTITY_3_PARTY_ID, last.getCreated(), last.getId(), PageRequest.of(0, 2));
+
+		assertThat(secondPage).extracting(NoteSummaryProjection::getId).containsExactly(ENTITY_4_ID, ENTITY_5_ID);
+		assertStatements(SELECT, SELECT);
+	}
+
+	@Test
+	void findAllOrderedByCreatedWithCreatedRange() {
+		final var createdFrom = noteRepository.findById(ENTITY_4_ID).orElseThrow().getCreated();
+		final var createdTo = noteRepository.findById(ENTITY_5_ID).orElseThrow().getCreated();
+
+		final var noteEntities = noteRepository.findAllOrderedByCreated(where(hasPartyId(ENTITY_3_PARTY_ID)).and(isCreatedFrom(createdFrom)).and(isCreatedTo(createdTo)), 10);
+
+		// createdFrom is inclusive and createdTo exclusive.
+		assertThat(noteEntities).extracting(NoteEntity::getId).containsExactly(ENTITY_4_ID);
+	}
+
+	@Test
+	void findAllOrderedByCreatedWithCreatedBy() {
+		final var noteEntities = noteRepository.findAllOrderedByCreated(where(hasPartyId(ENTITY_3_PARTY_ID)).and(hasCreatedBy("createdBy6")), 10);
+
+		assertThat(noteEntities).extracting(NoteEntity::getId).containsExactly(ENTITY_6_ID);
+	}
+
+	@Test
+	void findAllOrderedByCreatedWithModifiedSince() {
+		final var entity1 = noteRepository.findById(ENTITY_1_ID).orElseThrow();
+		final var entity4 = noteRepository.findById(ENTITY_4_ID).orElseThrow();
+
+		// Entity 1 is created before, but modified after, modifiedSince.
+		assertThat(noteRepository.findAllOrderedByCreated(where(hasPartyId(ENTITY_1_PARTY_ID)).and(isModifiedSince(entity1.getCreated().plusDays(1))), 10))
+			.extracting(NoteEntity::getId).containsExactly(ENTITY_1_ID);
+		assertThat(noteRepository.findAllOrderedByCreated(where(hasPartyId(ENTITY_1_PARTY_ID)).and(isModifiedSince(entity1.getModified().plusSeconds(1))), 10))
+			.isEmpty();
+
+		// Entity 4 and 5 have never been modified, but are created at or after modifiedSince.
+		assertThat(entity1.getLastChanged()).isEqualTo(entity1.getModified());
+		assertThat(entity4.getModified()).isNull();
+		assertThat(entity4.getLastChanged()).isEqualTo(entity4.getCreated());
+		assertThat(noteRepository.findAllOrderedByCreated(where(hasPartyId(ENTITY_3_PARTY_ID)).and(isModifiedSince(entity4.getCreated())), 10))
+			.extracting(NoteEntity::getId).containsExactly(ENTITY_4_ID, ENTITY_5_ID);
+	}
+
+	@Test
+	void findAllOrderedByCreatedPaged() {
+		final var firstPage = noteRepository.findAllOrderedByCreated(where(hasPartyId(ENTITY_3_PARTY_ID)), 2);
+
+		assertThat(firstPage).extracting(NoteEntity::getId).containsExactly(ENTITY_3_ID, ENTITY_6_ID);
+
+		final var last = firstPage.get(1);
+		final var secondPage = noteRepository.findAllOrderedByCreated(where(hasPartyId(ENTITY_3_PARTY_ID)).and(isAfter(last.getCreated(), last.getId())), 2);
+
+		assertThat(secondPage).extracting(NoteEntity::getId).containsExactly(ENTITY_4_ID, ENTITY_5_ID);
+	}
+
+	@Test
+	void findSummariesOrderedByCreated() {
+		final var createdFrom = noteRepository.findById(ENTITY_4_ID).orElseThrow().getCreated();
+
+		final var noteSummaries = noteRepository.findSummariesOrderedByCreated(where(hasPartyId(ENTITY_3_PARTY_ID)).and(isCreatedFrom(createdFrom)), 10);
+
+		assertThat(noteSummaries).extracting(NoteSummaryProjection::getId).containsExactly(ENTITY_4_ID, ENTITY_5_ID);
+		assertThat(noteSummaries).extracting(NoteSummaryProjection::getPartyId).containsOnly(ENTITY_3_PARTY_ID);
+		assertThat(noteSummaries).extracting(NoteSummaryProjection::getSubject).containsExactly("subject4", "subject5");
+		assertThat(noteSummaries).extracting(NoteSummaryProjection::getCreatedBy).containsExactly("createdBy4", "createdBy5");
+		assertThat(noteSummaries).extracting(NoteSummaryProjection::getModified).containsOnlyNulls();
+	}
+
+	@Test
+	void streamByPartyId() {
+		try (final var noteEntities = noteRepository.streamByPartyId(ENTITY_3_PARTY_ID)) {
+			assertThat(noteEntities).extracting(NoteEntity::getId).containsExactly(ENTITY_3_ID, ENTITY_6_ID, ENTITY_4_ID, ENTITY_5_ID);
+		}
+	}
+
+	@Test
+	void streamAll() {
+		try (final var noteEntities = noteRepository.streamAll()) {
+			assertThat(noteEntities).extracting(NoteEntity::getId).contains(ENTITY_1_ID, ENTITY_2_ID, ENTITY_3_ID, ENTITY_4_ID, ENTITY_5_ID, ENTITY_6_ID);
+		}
+	}
+
+	@Test
+	void findByPartyIdAfterSameCreated() {
+		final var first = noteRepository.findById(ENTITY_3_ID).orElseThrow();
+
+		final var page = noteRepository.findByPartyIdAfter(ENTITY_3_PARTY_ID, first.getCreated(), first.getId(), PageRequest.of(0, 10));
+
+		assertThat(page).extracting(NoteEntity::getId).containsExactly(ENTITY_6_ID, ENTITY_4_ID, ENTITY_5_ID);
+	}
+
 	@Test
 	void persist() {
 		final var noteEntity = NoteEntity.create()
-				.withPartyId(UUID.randomUUID().toString())
+				.withPartyId(UUID.randomUUID())
 				.withCreated(OffsetDateTime.now())
 				.withCreatedBy("createdBy")
 				.withSubject("subject")
@@ -83,15 +221,21 @@ class NoteRepositoryTest {
 
 		assertThat(persistedEntity).isEqualTo(noteEntity);
 		assertThat(persistedEntity.getCreated()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
-		assertThat(isValidUUID(persistedEntity.getId())).isTrue();
+		assertThat(persistedEntity.getId()).isNotNull();
 		assertThat(persistedEntity.getModified()).isNull();
 		assertThat(persistedEntity.getModifiedBy()).isNull();
+		assertThat(persistedEntity.getVersion()).isZero();
+
+		// The note is inserted on flush, without being selected before.
+		assertStatements();
+		noteRepository.flush();
+		assertStatements(INSERT);
 	}
 
 	@Test
 	void update() {
 		final var noteEntity = NoteEntity.create()
-				.withPartyId(UUID.randomUUID().toString())
+				.withPartyId(UUID.randomUUID())
 				.withCreatedBy("createdBy")
 				.withSubject("subject")
 				.withBody("body");
@@ -100,7 +244,7 @@ class NoteRepositoryTest {
 
 		assertThat(persistedEntity).isEqualTo(noteEntity);
 		assertThat(persistedEntity.getCreated()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
-		assertThat(isValidUUID(persistedEntity.getId())).isTrue();
+		assertThat(persistedEntity.getId()).isNotNull();
 		assertThat(persistedEntity.getModified()).isNull();
 		assertThat(persistedEntity.getModifiedBy()).isNull();
 
@@ -111,11 +255,12 @@ class NoteRepositoryTest {
 
 		assertThat(updatedEntity).isEqualTo(noteEntity);
 		assertThat(updatedEntity.getCreated()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
-		assertThat(isValidUUID(updatedEntity.getId())).isTrue();
+		assertThat(updatedEntity.getId()).isEqualTo(persistedEntity.getId());
 		assertThat(updatedEntity.getModified()).isNotNull();
 		assertThat(updatedEntity.getModified()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
 		assertThat(updatedEntity.getModifiedBy()).isEqualTo("modifiedBy");
 		assertThat(updatedEntity.getSubject()).isEqualTo("modifiedSubject");
+		assertThat(updatedEntity.getVersion()).isOne();
 	}
 
 	@Test
@@ -127,13 +272,69 @@ class NoteRepositoryTest {
 		assertThat(noteRepository.findById(ENTITY_2_ID)).isNotPresent();
 	}
 
-	private boolean isValidUUID(String value) {
-		try {
-			UUID.fromString(String.valueOf(value));
-		} catch (Exception e) {
-			return false;
-		}
+	@Test
+	void deleteByIdReturningPartyId() {
+		assertThat(noteRepository.existsById(ENTITY_2_ID)).isTrue();
+
+		final var partyIds = noteRepository.deleteByIdReturningPartyId(ENTITY_2_ID);
+
+		assertThat(partyIds).containsExactly(ENTITY_2_PARTY_ID);
+		assertThat(noteRepository.findById(ENTITY_2_ID)).isNotPresent();
+		assertStatements(SELECT, DELETE, SELECT);
+	}
+
+	@Test
+	void deleteByIdReturningPartyIdNotFound() {
+		assertThat(noteRepository.deleteByIdReturningPartyId(UUID.randomUUID())).isEmpty();
+	}
 
-		return true;
+	@Test
+	void updateById() {
+		final var updated = noteRepository.updateById(ENTITY_2_ID, "modifiedSubject", null, "modifiedBy", null);
+		final var noteEntity = noteRepository.findById(ENTITY_2_ID).orElseThrow();
+
+		assertThat(updated).isOne();
+		assertThat(noteEntity.getSubject()).isEqualTo("modifiedSubject");
+		assertThat(noteEntity.getBody()).isEqualTo("body2");
+		assertThat(noteEntity.getModifiedBy()).isEqualTo("modifiedBy");
+		assertThat(noteEntity.getModified()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
+		assertThat(noteEntity.getVersion()).isOne();
+		assertStatements(UPDATE, SELECT);
+	}
+
+	@Test
+	void updateByIdTakesNextChangeSeq() {
+		noteRepository.updateById(ENTITY_1_ID, "modifiedSubject", null, "modifiedBy", null);
+
+		final var noteEntities = noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0, PageRequest.of(0, 100));
+
+		assertThat(noteEntities).hasSize(6);
+		assertThat(noteEntities.get(5).getId()).isEqualTo(ENTITY_1_ID);
+	}
+
+	@Test
+	void findByChangeSeqGreaterThan() {
+		final var noteEntities = noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0, PageRequest.of(0, 100));
+
+		assertThat(noteEntities).hasSize(6).extracting(NoteEntity::getChangeSeq).doesNotContainNull().doesNotHaveDuplicates().isSorted();
+		assertThat(noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(noteEntities.get(0).getChangeSeq(), PageRequest.of(0, 2)))
+			.containsExactlyElementsOf(noteEntities.subList(1, 3));
+	}
+
+	@Test
+	void updateByIdWithVersion() {
+		assertThat(noteRepository.updateById(ENTITY_2_ID, "modifiedSubject", null, "modifiedBy", 0)).isOne();
+		assertThat(noteRepository.findById(ENTITY_2_ID).orElseThrow().getVersion()).isOne();
+	}
+
+	@Test
+	void updateByIdVersionMismatch() {
+		assertThat(noteRepository.updateById(ENTITY_2_ID, "modifiedSubject", null, "modifiedBy", 1)).isZero();
+		assertThat(noteRepository.findById(ENTITY_2_ID).orElseThrow().getSubject()).isNotEqualTo("modifiedSubject");
+	}
+
+	@Test
+	void updateByIdNotFound() {
+		assertThat(noteRepository.updateById(UUID.randomUUID(), "subject", "body", "modifiedBy", null)).isZero();
 	}
 }
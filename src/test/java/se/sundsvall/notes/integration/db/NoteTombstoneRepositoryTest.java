@@ -0,0 +1,81 @@
+package se.sundsvall.notes.integration.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.notes.Application;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteTombstoneEntity;
+
+import javax.transaction.Transactional;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Note tombstone repository tests.
+ */
+@SpringBootTest(classes = {Application.class }, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+		"/db/scripts/truncate.sql"
+})
+@Transactional
+class NoteTombstoneRepositoryTest {
+
+	@Autowired
+	private NoteTombstoneRepository noteTombstoneRepository;
+
+	@Autowired
+	private NoteRepository noteRepository;
+
+	@Test
+	void insert() {
+		final var noteId = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var deleted = OffsetDateTime.now().truncatedTo(MILLIS);
+
+		noteTombstoneRepository.insert(noteId, partyId, deleted);
+
+		assertThat(noteTombstoneRepository.findAll()).singleElement().satisfies(noteTombstoneEntity -> {
+			assertThat(noteTombstoneEntity.getChangeSeq()).isNotNull();
+			assertThat(noteTombstoneEntity.getNoteId()).isEqualTo(noteId);
+			assertThat(noteTombstoneEntity.getPartyId()).isEqualTo(partyId);
+			assertThat(noteTombstoneEntity.getDeleted()).isEqualTo(deleted);
+		});
+	}
+
+	@Test
+	void changeSeqIsSharedWithNotes() {
+		noteTombstoneRepository.insert(UUID.randomUUID(), UUID.randomUUID(), OffsetDateTime.now());
+		noteRepository.saveAndFlush(NoteEntity.create().withPartyId(UUID.randomUUID()).withSubject("subject").withBody("body"));
+		noteTombstoneRepository.insert(UUID.randomUUID(), UUID.randomUUID(), OffsetDateTime.now());
+
+		final var noteTombstones = noteTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0, PageRequest.of(0, 10));
+		final var noteEntities = noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0, PageRequest.of(0, 10));
+
+		// The note takes its value from the same sequence, in between the two tombstones.
+		assertThat(noteTombstones).hasSize(2);
+		assertThat(noteEntities).singleElement().extracting(NoteEntity::getChangeSeq)
+			.isEqualTo(noteTombstones.get(0).getChangeSeq() + 1)
+			.isEqualTo(noteTombstones.get(1).getChangeSeq() - 1);
+	}
+
+	@Test
+	void findByChangeSeqGreaterThan() {
+		noteTombstoneRepository.insert(UUID.randomUUID(), UUID.randomUUID(), OffsetDateTime.now());
+		noteTombstoneRepository.insert(UUID.randomUUID(), UUID.randomUUID(), OffsetDateTime.now());
+		noteTombstoneRepository.insert(UUID.randomUUID(), UUID.randomUUID(), OffsetDateTime.now());
+
+		final var noteTombstones = noteTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0, PageRequest.of(0, 10));
+
+		assertThat(noteTombstones).hasSize(3).extracting(NoteTombstoneEntity::getChangeSeq).isSorted();
+		assertThat(noteTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(noteTombstones.get(0).getChangeSeq(), PageRequest.of(0, 1)))
+			.containsExactly(noteTombstones.get(1));
+	}
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.notes.integration.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.notes.Application;
+
+import javax.transaction.Transactional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Party change repository tests.
+ */
+@SpringBootTest(classes = {Application.class }, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+		"/db/scripts/truncate.sql"
+})
+@Transactional
+class PartyChangeRepositoryTest {
+
+	@Autowired
+	private PartyChangeRepository partyChangeRepository;
+
+	@Test
+	void findVersionByPartyIdNeverChanged() {
+		assertThat(partyChangeRepository.findVersionByPartyId(UUID.randomUUID())).isEmpty();
+	}
+
+	@Test
+	void incrementVersion() {
+		final var partyId = UUID.randomUUID();
+		final var otherPartyId = UUID.randomUUID();
+
+		partyChangeRepository.incrementVersion(partyId);
+		assertThat(partyChangeRepository.findVersionByPartyId(partyId)).hasValue(1L);
+
+		partyChangeRepository.incrementVersion(partyId);
+		partyChangeRepository.incrementVersion(otherPartyId);
+		assertThat(partyChangeRepository.findVersionByPartyId(partyId)).hasValue(2L);
+		assertThat(partyChangeRepository.findVersionByPartyId(otherPartyId)).hasValue(1L);
+	}
+}
@@ -0,0 +1,105 @@
+package se.sundsvall.notes.integration.db;
+
+import static java.lang.String.join;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL statements prepared by Hibernate, in order to assert the number and type of statements issued by an
+ * operation. Registered for the junit profile through hibernate.session_factory.statement_inspector in
+ * src/test/resources/config/application-junit.properties, which is only on the classpath of tests. Cached reads issue
+ * no statements, hence test classes asserting statements are extended with {@link SqlStatementRecorderExtension}, which
+ * clears the caches and resets the recorder before each test.
+ *
+ * Statements are recorded for all threads, as apptests are served by other threads than the test itself, hence tests
+ * using the recorder must not run concurrently with other tests of the same application context. Statements issued
+ * through JdbcTemplate or by @Sql scripts are not recorded, and a JDBC batch is recorded once no matter the number of
+ * rows in it.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	public enum StatementType {
+		SELECT,
+		INSERT,
+		UPDATE,
+		DELETE,
+		OTHER
+	}
+
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.add(sql);
+		return sql;
+	}
+
+	/**
+	 * Discards the statements recorded so far.
+	 */
+	public static void reset() {
+		STATEMENTS.clear();
+	}
+
+	/**
+	 * @return the statements recorded since the last reset, in the order they were prepared
+	 */
+	public static List<String> statements() {
+		return List.copyOf(STATEMENTS);
+	}
+
+	/**
+	 * @return the number of statements of the type recorded since the last reset
+	 */
+	public static long count(StatementType type) {
+		return STATEMENTS.stream()
+			.filter(sql -> typeOf(sql) == type)
+			.count();
+	}
+
+	/**
+	 * Asserts that exactly the expected statements, in any order, have been recorded since the last reset.
+	 *
+	 * @param expectedTypes the type of each expected statement, e.g. SELECT, SELECT for two selects
+	 */
+	public static void assertStatements(StatementType... expectedTypes) {
+		final var statements = statements();
+
+		assertThat(statements.stream().collect(groupingBy(SqlStatementRecorder::typeOf, counting())))
+			.as("Statements issued:%n%s", join(System.lineSeparator(), statements))
+			.isEqualTo(Arrays.stream(expectedTypes).collect(groupingBy(identity(), counting())));
+	}
+
+	static StatementType typeOf(String sql) {
+		final var keyword = stripComments(sql).split("[\\s(]", 2)[0].toUpperCase(Locale.ROOT);
+
+		return Arrays.stream(StatementType.values())
+			.filter(type -> type.name().equals(keyword))
+			.findFirst()
+			.orElse(StatementType.OTHER);
+	}
+
+	private static String stripComments(String sql) {
+		var stripped = sql.strip();
+		while (stripped.startsWith("/*") || stripped.startsWith("--")) {
+			final var blockComment = stripped.startsWith("/*");
+			final var end = blockComment ? stripped.indexOf("*/") : stripped.indexOf('\n');
+			if (end < 0) {
+				return "";
+			}
+			stripped = stripped.substring(end + (blockComment ? 2 : 1)).strip();
+		}
+		return stripped;
+	}
+}
@@ -0,0 +1,26 @@
+package se.sundsvall.notes.integration.db;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import se.sundsvall.notes.service.PartyNotesCache;
+
+/**
+ * Prepares each test of a Spring test class for asserting the statements recorded by {@link SqlStatementRecorder}.
+ * Cached reads issue no statements, hence the caches of the application context are cleared, so that reads cached by
+ * an earlier test do not change the statements asserted. The statements recorded so far are then discarded.
+ */
+public class SqlStatementRecorderExtension implements BeforeEachCallback {
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		final var applicationContext = SpringExtension.getApplicationContext(context);
+
+		applicationContext.getBeanProvider(CacheManager.class)
+			.ifAvailable(cacheManager -> cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear()));
+		applicationContext.getBeanProvider(PartyNotesCache.class).ifAvailable(PartyNotesCache::evictAll);
+		SqlStatementRecorder.reset();
+	}
+}
@@ -0,0 +1,55 @@
+package se.sundsvall.notes.integration.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TransactionsTest {
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void afterCommitOutsideTransactionRunsRightAway() {
+		final var runs = new AtomicInteger();
+
+		Transactions.afterCommit(runs::incrementAndGet);
+
+		assertThat(runs).hasValue(1);
+	}
+
+	@Test
+	void afterCommitWithinTransactionRunsOnCommit() {
+		final var runs = new AtomicInteger();
+
+		TransactionSynchronizationManager.initSynchronization();
+		Transactions.afterCommit(runs::incrementAndGet);
+
+		assertThat(runs).hasValue(0);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		assertThat(runs).hasValue(1);
+	}
+
+	@Test
+	void afterCommitWithinTransactionDoesNotRunOnRollback() {
+		final var runs = new AtomicInteger();
+
+		TransactionSynchronizationManager.initSynchronization();
+		Transactions.afterCommit(runs::incrementAndGet);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertThat(runs).hasValue(0);
+	}
+}
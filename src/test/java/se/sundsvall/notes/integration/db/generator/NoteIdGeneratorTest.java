@@ -0,0 +1,91 @@
+package se.sundsvall.notes.integration.db.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.notes.integration.db.generator.NoteIdGenerator.STRATEGY_PARAMETER;
+import static se.sundsvall.notes.integration.db.generator.NoteIdGenerator.STRATEGY_SETTING;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.service.ServiceRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import se.sundsvall.notes.integration.db.generator.NoteIdGenerator.Strategy;
+
+@ExtendWith(MockitoExtension.class)
+class NoteIdGeneratorTest {
+
+	@Mock
+	private ServiceRegistry serviceRegistryMock;
+
+	@Mock
+	private ConfigurationService configurationServiceMock;
+
+	@Test
+	void generateWithDefaultStrategy() {
+		final var generator = configure(Map.of());
+
+		final var id = (UUID) generator.generate(null, null);
+
+		assertThat(generator.getStrategy()).isEqualTo(Strategy.UUID7);
+		assertThat(id.version()).isEqualTo(7);
+	}
+
+	@Test
+	void generateWithUuid4Strategy() {
+		final var generator = configure(Map.of(STRATEGY_SETTING, "uuid4"));
+
+		final var id = (UUID) generator.generate(null, null);
+
+		assertThat(generator.getStrategy()).isEqualTo(Strategy.UUID4);
+		assertThat(id.version()).isEqualTo(4);
+	}
+
+	@Test
+	void generateWithUuid7Strategy() {
+		final var generator = configure(Map.of(STRATEGY_SETTING, "UUID7"));
+
+		final var id = (UUID) generator.generate(null, null);
+
+		assertThat(generator.getStrategy()).isEqualTo(Strategy.UUID7);
+		assertThat(id.version()).isEqualTo(7);
+	}
+
+	@Test
+	void generateWithStrategyParameter() {
+		final var params = new Properties();
+		params.setProperty(STRATEGY_PARAMETER, "uuid7");
+
+		final var generator = new NoteIdGenerator();
+		generator.configure(null, params, serviceRegistryMock);
+
+		assertThat(generator.getStrategy()).isEqualTo(Strategy.UUID7);
+		assertThat(((UUID) generator.generate(null, null)).version()).isEqualTo(7);
+		verifyNoInteractions(serviceRegistryMock);
+	}
+
+	@Test
+	void configureWithUnknownStrategy() {
+		assertThatThrownBy(() -> configure(Map.of(STRATEGY_SETTING, "unknown")))
+			.isInstanceOf(MappingException.class)
+			.hasMessage("Unknown value 'unknown' for setting 'notes.id-generator.strategy'");
+	}
+
+	private NoteIdGenerator configure(Map<String, Object> settings) {
+		when(serviceRegistryMock.getService(ConfigurationService.class)).thenReturn(configurationServiceMock);
+		when(configurationServiceMock.getSettings()).thenReturn(settings);
+
+		final var generator = new NoteIdGenerator();
+		generator.configure(null, new Properties(), serviceRegistryMock);
+		return generator;
+	}
+}
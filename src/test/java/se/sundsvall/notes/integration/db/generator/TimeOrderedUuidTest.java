@@ -0,0 +1,63 @@
+package se.sundsvall.notes.integration.db.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidTest {
+
+	@Test
+	void generate() {
+		final var instant = Instant.parse("2022-03-01T10:15:30.123Z");
+
+		final var uuid = TimeOrderedUuid.generate(Clock.fixed(instant, ZoneOffset.UTC));
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+		assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(instant.toEpochMilli());
+	}
+
+	@Test
+	void generateIsUnique() {
+		final var clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+		assertThat(TimeOrderedUuid.generate(clock)).isNotEqualTo(TimeOrderedUuid.generate(clock));
+	}
+
+	@Test
+	void generateSortsInCreationOrderAsBinary() {
+		final var instant = Instant.now();
+
+		final var first = TimeOrderedUuid.generate(Clock.fixed(instant, ZoneOffset.UTC));
+		final var second = TimeOrderedUuid.generate(Clock.fixed(instant.plusMillis(1), ZoneOffset.UTC));
+
+		// Unsigned byte by byte comparison, as made by MariaDB for binary(16) columns.
+		assertThat(Arrays.compareUnsigned(toBytes(first), toBytes(second))).isNegative();
+	}
+
+	@Test
+	void generateWithinSameMillisecondSortsInCreationOrderAsBinary() {
+		final var clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+		final var uuids = IntStream.range(0, 2048)
+			.mapToObj(i -> TimeOrderedUuid.generate(clock))
+			.toList();
+
+		assertThat(uuids).isSortedAccordingTo((first, second) -> Arrays.compareUnsigned(toBytes(first), toBytes(second)));
+	}
+
+	private static byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
@@ -23,6 +23,7 @@ class NoteEntityTest {
 	@BeforeAll
 	static void setup() {
 		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+		registerValueGenerator(UUID::randomUUID, UUID.class);
 	}
 
 	@Test
@@ -38,14 +39,16 @@ class NoteEntityTest {
 	@Test
 	void testBuilderMethods() {
 
-		final var id = UUID.randomUUID().toString();
-		final var partyId = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
 		final var created = OffsetDateTime.now();
 		final var createdBy = "createdBy";
 		final var modified = OffsetDateTime.now().plusDays(1);
 		final var modifiedBy = "modifiedBy";
 		final var subject = "subject";
 		final var body = "body";
+		final var version = 1;
+		final var changeSeq = 42L;
 		
 		final var noteEntity = NoteEntity.create()
 				.withId(id)
@@ -55,7 +58,9 @@ class NoteEntityTest {
 				.withModified(modified)
 				.withModifiedBy(modifiedBy)
 				.withSubject(subject)
-				.withBody(body);
+				.withBody(body)
+				.withVersion(version)
+				.withChangeSeq(changeSeq);
 
 		Assertions.assertThat(noteEntity).isNotNull().hasNoNullFieldsOrProperties();
 		Assertions.assertThat(noteEntity.getId()).isEqualTo(id);
@@ -66,6 +71,8 @@ class NoteEntityTest {
 		Assertions.assertThat(noteEntity.getModifiedBy()).isEqualTo(modifiedBy);
 		Assertions.assertThat(noteEntity.getSubject()).isEqualTo(subject);
 		Assertions.assertThat(noteEntity.getBody()).isEqualTo(body);
+		Assertions.assertThat(noteEntity.getVersion()).isEqualTo(version);
+		Assertions.assertThat(noteEntity.getChangeSeq()).isEqualTo(changeSeq);
 	}
 
 	@Test
@@ -0,0 +1,70 @@
+package se.sundsvall.notes.integration.db.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class NoteOutboxEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+		registerValueGenerator(UUID::randomUUID, UUID.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(NoteOutboxEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = UUID.randomUUID();
+		final var eventType = "created";
+		final var noteId = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var payload = "{}";
+		final var created = now();
+
+		final var noteOutboxEntity = NoteOutboxEntity.create()
+				.withId(id)
+				.withEventType(eventType)
+				.withNoteId(noteId)
+				.withPartyId(partyId)
+				.withPayload(payload)
+				.withCreated(created);
+
+		Assertions.assertThat(noteOutboxEntity).isNotNull().hasNoNullFieldsOrProperties();
+		Assertions.assertThat(noteOutboxEntity.getId()).isEqualTo(id);
+		Assertions.assertThat(noteOutboxEntity.getEventType()).isEqualTo(eventType);
+		Assertions.assertThat(noteOutboxEntity.getNoteId()).isEqualTo(noteId);
+		Assertions.assertThat(noteOutboxEntity.getPartyId()).isEqualTo(partyId);
+		Assertions.assertThat(noteOutboxEntity.getPayload()).isEqualTo(payload);
+		Assertions.assertThat(noteOutboxEntity.getCreated()).isEqualTo(created);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		Assertions.assertThat(NoteOutboxEntity.create()).hasAllNullFieldsOrProperties();
+	}
+}
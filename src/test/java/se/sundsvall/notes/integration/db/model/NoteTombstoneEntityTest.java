@@ -0,0 +1,64 @@
+package se.sundsvall.notes.integration.db.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class NoteTombstoneEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+		registerValueGenerator(UUID::randomUUID, UUID.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(NoteTombstoneEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var changeSeq = 42L;
+		final var noteId = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var deleted = now();
+
+		final var noteTombstoneEntity = NoteTombstoneEntity.create()
+				.withChangeSeq(changeSeq)
+				.withNoteId(noteId)
+				.withPartyId(partyId)
+				.withDeleted(deleted);
+
+		Assertions.assertThat(noteTombstoneEntity).isNotNull().hasNoNullFieldsOrProperties();
+		Assertions.assertThat(noteTombstoneEntity.getChangeSeq()).isEqualTo(changeSeq);
+		Assertions.assertThat(noteTombstoneEntity.getNoteId()).isEqualTo(noteId);
+		Assertions.assertThat(noteTombstoneEntity.getPartyId()).isEqualTo(partyId);
+		Assertions.assertThat(noteTombstoneEntity.getDeleted()).isEqualTo(deleted);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		Assertions.assertThat(NoteTombstoneEntity.create()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,54 @@
+package se.sundsvall.notes.integration.db.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class PartyChangeEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(UUID::randomUUID, UUID.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(PartyChangeEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var partyId = UUID.randomUUID();
+		final var version = 1L;
+
+		final var partyChangeEntity = PartyChangeEntity.create()
+				.withPartyId(partyId)
+				.withVersion(version);
+
+		Assertions.assertThat(partyChangeEntity).isNotNull().hasNoNullFieldsOrProperties();
+		Assertions.assertThat(partyChangeEntity.getPartyId()).isEqualTo(partyId);
+		Assertions.assertThat(partyChangeEntity.getVersion()).isEqualTo(version);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		Assertions.assertThat(PartyChangeEntity.create()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,62 @@
+package se.sundsvall.notes.integration.publisher;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+
+class FileOutboxPublisherTest {
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void publishAppendsOneLinePerEvent() throws IOException {
+		final var path = tempDir.resolve("outbox").resolve("note-events.jsonl");
+		final var event1 = NoteOutboxEntity.create().withId(UUID.randomUUID()).withPayload("{\"type\":\"created\"}");
+		final var event2 = NoteOutboxEntity.create().withId(UUID.randomUUID()).withPayload("{\"type\":\"deleted\"}");
+
+		final var publisher = new FileOutboxPublisher(path);
+		publisher.publish(List.of(event1));
+		publisher.publish(List.of(event2));
+
+		assertThat(Files.readAllLines(path)).containsExactly(
+			"{\"id\":\"" + event1.getId() + "\",\"event\":{\"type\":\"created\"}}",
+			"{\"id\":\"" + event2.getId() + "\",\"event\":{\"type\":\"deleted\"}}");
+	}
+
+	@Test
+	void concurrentPublishesAppendWholeBatches() throws Exception {
+		final var path = tempDir.resolve("note-events.jsonl");
+		final var publisher = new FileOutboxPublisher(path);
+		final var executor = Executors.newFixedThreadPool(8);
+
+		try {
+			final var futures = range(0, 32)
+				.mapToObj(batch -> executor.submit(() -> publisher.publish(range(0, 100)
+					.mapToObj(i -> NoteOutboxEntity.create().withId(UUID.randomUUID()).withPayload("{\"type\":\"created\"}"))
+					.toList())))
+				.toList();
+			for (final var future : futures) {
+				future.get(10, SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(Files.readAllLines(path))
+			.hasSize(3200)
+			.allMatch(line -> line.matches("\\{\"id\":\"[0-9a-f-]{36}\",\"event\":\\{\"type\":\"created\"}}"));
+	}
+}
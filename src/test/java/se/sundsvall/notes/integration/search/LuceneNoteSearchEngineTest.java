@@ -0,0 +1,228 @@
+package se.sundsvall.notes.integration.search;
+
+import static java.util.stream.StreamSupport.stream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneNoteSearchEngineTest {
+
+	private static final UUID PARTY_ID = UUID.randomUUID();
+	private static final UUID OTHER_PARTY_ID = UUID.randomUUID();
+
+	@TempDir
+	private Path indexPath;
+
+	@Mock
+	private NoteRepository noteRepository;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final Map<UUID, NoteEntity> notes = new HashMap<>();
+
+	private LuceneNoteSearchEngine noteSearchEngine;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+		lenient().when(noteRepository.findAllById(any())).thenAnswer(invocation -> stream(invocation.<Iterable<UUID>>getArgument(0).spliterator(), false)
+			.map(notes::get)
+			.filter(Objects::nonNull)
+			.toList());
+
+		noteSearchEngine = createNoteSearchEngine();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		noteSearchEngine.shutdown();
+	}
+
+	@Test
+	void searchWithSwedishStemming() throws IOException {
+		final var note = save(PARTY_ID, "Påminnelse", "Fakturorna skickades till kunden");
+		save(OTHER_PARTY_ID, "Påminnelse", "Fakturorna till en annan part");
+		save(PARTY_ID, "Leverans", "Kunden ringde om leveransen");
+
+		noteSearchEngine.refresh();
+
+		// Only the note of the party is found, and in another inflection than it was written.
+		assertThat(noteSearchEngine.search(PARTY_ID, "faktura", null, null, 10))
+			.extracting(NoteSearchResult::noteEntity)
+			.containsExactly(note);
+	}
+
+	@Test
+	void searchWithStopwordsOnly() throws IOException {
+		save(PARTY_ID, "Faktura", "Fakturan skickades till kunden");
+		noteSearchEngine.refresh();
+
+		assertThat(noteSearchEngine.search(PARTY_ID, "till och med", null, null, 10)).isEmpty();
+		verify(noteRepository, never()).findAllById(any());
+	}
+
+	@Test
+	void searchPaged() throws IOException {
+		save(PARTY_ID, "Påminnelse", "Påminnelse om obetald faktura");
+		save(PARTY_ID, "Faktura", "Faktura");
+		save(PARTY_ID, "Faktura", "Ny faktura skickad efter påminnelse om faktura");
+		noteSearchEngine.refresh();
+
+		final var all = noteSearchEngine.search(PARTY_ID, "faktura", null, null, 10);
+		assertThat(all).hasSize(3);
+		assertThat(all).extracting(NoteSearchResult::relevance).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+
+		// Paging one match at a time gives the same matches in the same order.
+		final var firstPage = noteSearchEngine.search(PARTY_ID, "faktura", null, null, 1);
+		final var secondPage = noteSearchEngine.search(PARTY_ID, "faktura", firstPage.get(0).relevance(), firstPage.get(0).noteEntity().getId(), 1);
+		final var thirdPage = noteSearchEngine.search(PARTY_ID, "faktura", secondPage.get(0).relevance(), secondPage.get(0).noteEntity().getId(), 1);
+		final var end = noteSearchEngine.search(PARTY_ID, "faktura", thirdPage.get(0).relevance(), thirdPage.get(0).noteEntity().getId(), 1);
+
+		assertThat(Stream.of(firstPage, secondPage, thirdPage).flatMap(List::stream).toList()).isEqualTo(all);
+		assertThat(end).isEmpty();
+	}
+
+	@Test
+	void searchWithEqualRelevanceOrderedById() throws IOException {
+		final var note1 = save(PARTY_ID, "Klagomål", "Klagomål registrerat");
+		final var note2 = save(PARTY_ID, "Klagomål", "Klagomål registrerat");
+		noteSearchEngine.refresh();
+
+		final var first = note1.getId().toString().compareTo(note2.getId().toString()) < 0 ? note1 : note2;
+		final var second = first == note1 ? note2 : note1;
+
+		final var firstPage = noteSearchEngine.search(PARTY_ID, "klagomål", null, null, 1);
+		assertThat(firstPage).extracting(NoteSearchResult::noteEntity).containsExactly(first);
+
+		final var secondPage = noteSearchEngine.search(PARTY_ID, "klagomål", firstPage.get(0).relevance(), first.getId(), 1);
+		assertThat(secondPage).extracting(NoteSearchResult::noteEntity).containsExactly(second);
+	}
+
+	@Test
+	void notesSavedUpdatesNote() throws IOException {
+		final var note = save(PARTY_ID, "Faktura", "Fakturan skickades");
+		noteSearchEngine.refresh();
+
+		noteSearchEngine.notesSaved(List.of(note.withSubject("Leverans").withBody("Leveransen är försenad")));
+		noteSearchEngine.refresh();
+
+		assertThat(noteSearchEngine.search(PARTY_ID, "faktura", null, null, 10)).isEmpty();
+		assertThat(noteSearchEngine.search(PARTY_ID, "leverans", null, null, 10)).extracting(NoteSearchResult::noteEntity).containsExactly(note);
+	}
+
+	@Test
+	void noteDeleted() throws IOException {
+		final var note = save(PARTY_ID, "Faktura", "Fakturan skickades");
+		noteSearchEngine.refresh();
+
+		noteSearchEngine.noteDeleted(note.getId());
+		noteSearchEngine.refresh();
+
+		assertThat(noteSearchEngine.search(PARTY_ID, "faktura", null, null, 10)).isEmpty();
+	}
+
+	@Test
+	void notesSavedWithinTransactionIndexedAfterCommit() throws IOException {
+		TransactionSynchronizationManager.initSynchronization();
+		final var note = save(PARTY_ID, "Faktura", "Fakturan skickades");
+		noteSearchEngine.refresh();
+
+		assertThat(noteSearchEngine.search(PARTY_ID, "faktura", null, null, 10)).isEmpty();
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		noteSearchEngine.refresh();
+
+		assertThat(noteSearchEngine.search(PARTY_ID, "faktura", null, null, 10)).extracting(NoteSearchResult::noteEntity).containsExactly(note);
+	}
+
+	@Test
+	void rebuild() {
+		final var note1 = note(PARTY_ID, "Faktura", "Fakturan skickades");
+		final var note2 = note(PARTY_ID, "Faktura", "Ny faktura");
+
+		// Mock
+		when(noteRepository.streamAll()).thenReturn(Stream.of(note1, note2));
+
+		// Call
+		noteSearchEngine.rebuild();
+
+		// Verification
+		assertThat(noteSearchEngine.search(PARTY_ID, "faktura", null, null, 10)).extracting(NoteSearchResult::noteEntity).containsExactlyInAnyOrder(note1, note2);
+		verify(entityManager).detach(note1);
+		verify(entityManager).detach(note2);
+	}
+
+	@Test
+	void indexIsKeptAfterCleanShutdown() throws IOException {
+		final var note = save(PARTY_ID, "Faktura", "Fakturan skickades");
+
+		noteSearchEngine.shutdown();
+		noteSearchEngine = createNoteSearchEngine();
+
+		// The index is reopened as it was left, without a rebuild.
+		assertThat(noteSearchEngine.search(PARTY_ID, "faktura", null, null, 10)).extracting(NoteSearchResult::noteEntity).containsExactly(note);
+		verifyNoInteractions(entityManager);
+	}
+
+	private LuceneNoteSearchEngine createNoteSearchEngine() throws IOException {
+		final var engine = new LuceneNoteSearchEngine(noteRepository, entityManager, transactionManager, indexPath, 2);
+		engine.init();
+		return engine;
+	}
+
+	private NoteEntity save(UUID partyId, String subject, String body) {
+		final var noteEntity = note(partyId, subject, body);
+		noteSearchEngine.notesSaved(List.of(noteEntity));
+		return noteEntity;
+	}
+
+	private NoteEntity note(UUID partyId, String subject, String body) {
+		final var noteEntity = NoteEntity.create()
+			.withId(UUID.randomUUID())
+			.withPartyId(partyId)
+			.withSubject(subject)
+			.withBody(body);
+		notes.put(noteEntity.getId(), noteEntity);
+		return noteEntity;
+	}
+}
@@ -0,0 +1,45 @@
+package se.sundsvall.notes.integration.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+
+@ExtendWith(MockitoExtension.class)
+class MariaDbNoteSearchEngineTest {
+
+	@Mock
+	private NoteRepository noteRepository;
+
+	@InjectMocks
+	private MariaDbNoteSearchEngine noteSearchEngine;
+
+	@Test
+	void search() {
+		final var partyId = UUID.randomUUID();
+		final var id = UUID.randomUUID();
+		final var results = List.of(new NoteSearchResult(NoteEntity.create().withId(UUID.randomUUID()), 0.5));
+
+		// Mock
+		when(noteRepository.search(partyId, "query", 0.9, id, 10)).thenReturn(results);
+
+		// Call
+		final var result = noteSearchEngine.search(partyId, "query", 0.9, id, 10);
+
+		// Verification
+		assertThat(result).isSameAs(results);
+		verify(noteRepository).search(partyId, "query", 0.9, id, 10);
+	}
+}
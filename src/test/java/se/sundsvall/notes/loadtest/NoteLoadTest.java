@@ -0,0 +1,387 @@
+package se.sundsvall.notes.loadtest;
+
+import static java.util.Collections.nCopies;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import se.sundsvall.notes.Application;
+import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.integration.db.generator.NoteIdGenerator.Strategy;
+
+/**
+ * Load test of the whole stack, i.e. HTTP, NotesResource, NoteService and a MariaDB test container.
+ *
+ * The database is seeded with notes spread evenly over parties, after which concurrent clients send a weighted mix of
+ * requests for a fixed time. Requests sent during warmup are not measured. Throughput, error count and latency
+ * percentiles per operation are written as JSON to the report file, and the test fails if any request failed.
+ *
+ * Each client runs on a thread of its own, hence a run with thousands of clients needs memory for as many thread stacks.
+ *
+ * Only run when the system property loadtest is true, run by: ./mvnw -Ploadtest test [-Dloadtest.notes=...]
+ *
+ * Settings, as system properties:
+ * <ul>
+ * <li>loadtest.notes - number of seeded notes, default 1000000</li>
+ * <li>loadtest.parties - number of parties the notes are spread over, default 50000</li>
+ * <li>loadtest.body-length - length of seeded and written bodies, default 512</li>
+ * <li>loadtest.clients - number of concurrent clients, default 16</li>
+ * <li>loadtest.virtual-threads - whether the service runs requests on virtual threads, which requires Java 21, default false</li>
+ * <li>loadtest.warmup - warmup time, default PT30S</li>
+ * <li>loadtest.duration - measured time, default PT60S</li>
+ * <li>loadtest.mix - weights of the operations, default readPage:50,readNote:30,create:10,update:10</li>
+ * <li>loadtest.report - report file, default target/loadtest/note-load-test.json</li>
+ * </ul>
+ */
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT, properties = {
+	// Statements are not recorded, as the recorder would hold on to every statement of the run.
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector=org.hibernate.resource.jdbc.internal.EmptyStatementInspector",
+	"spring.jpa.properties.hibernate.format_sql=false"
+})
+@ActiveProfiles("junit")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class NoteLoadTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(NoteLoadTest.class);
+
+	private static final int SEED_BATCH_SIZE = 500;
+	private static final int PAGE_LIMIT = 100;
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.enable(SerializationFeature.INDENT_OUTPUT);
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.build();
+
+	private final Settings settings = Settings.fromSystemProperties();
+
+	private UUID[] noteIds;
+	private UUID[] partyIds;
+	private String body;
+
+	@DynamicPropertySource
+	static void threadProperties(DynamicPropertyRegistry registry) {
+		registry.add("notes.virtual-threads.enabled", () -> Boolean.getBoolean("loadtest.virtual-threads"));
+	}
+
+	@Test
+	void mixedWorkload() throws Exception {
+		seed();
+
+		final var executor = Executors.newFixedThreadPool(settings.clients());
+		final var start = System.nanoTime();
+		final var measureFrom = start + settings.warmup().toNanos();
+		final var end = measureFrom + settings.duration().toNanos();
+
+		final List<Map<Operation, Latencies>> clientLatencies = new ArrayList<>();
+		try {
+			final var clients = new ArrayList<Callable<Map<Operation, Latencies>>>();
+			for (var i = 0; i < settings.clients(); i++) {
+				final var random = new SplittableRandom(i);
+				clients.add(() -> runClient(random, measureFrom, end));
+			}
+			for (final var result : executor.invokeAll(clients)) {
+				clientLatencies.add(result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		final var report = report(clientLatencies);
+		final var reportFile = Path.of(settings.report());
+		Files.createDirectories(reportFile.toAbsolutePath().getParent());
+		objectMapper.writeValue(reportFile.toFile(), report);
+		LOGGER.info("Load test report written to {}:\n{}", reportFile.toAbsolutePath(), objectMapper.writeValueAsString(report));
+
+		assertThat(clientLatencies.stream().flatMap(latencies -> latencies.values().stream()).mapToLong(Latencies::errors).sum()).isZero();
+	}
+
+	private void seed() {
+		final var seedStart = System.nanoTime();
+		final var random = new SplittableRandom(42);
+		final var created = OffsetDateTime.now().minusYears(1);
+
+		body = "x".repeat(settings.bodyLength());
+		partyIds = new UUID[settings.parties()];
+		Arrays.setAll(partyIds, i -> UUID.randomUUID());
+		noteIds = new UUID[settings.notes()];
+		Arrays.setAll(noteIds, i -> Strategy.UUID7.generate());
+
+		for (var offset = 0; offset < noteIds.length; offset += SEED_BATCH_SIZE) {
+			final var rows = Math.min(SEED_BATCH_SIZE, noteIds.length - offset);
+			final var args = new Object[rows * 6];
+			for (var row = 0; row < rows; row++) {
+				final var i = offset + row;
+				args[row * 6] = toBytes(noteIds[i]);
+				args[row * 6 + 1] = toBytes(partyIds[i % partyIds.length]);
+				args[row * 6 + 2] = Timestamp.from(created.plusSeconds(i).toInstant());
+				args[row * 6 + 3] = "loadtest";
+				args[row * 6 + 4] = "subject" + random.nextInt(1000);
+				args[row * 6 + 5] = body;
+			}
+			// Multi-row inserts, as the test container URL does not enable rewriting of JDBC batches.
+			jdbcTemplate.update("insert into note (id, party_id, created, created_by, subject, body) values " + String.join(",", nCopies(rows, "(?, ?, ?, ?, ?, ?)")), args);
+		}
+
+		LOGGER.info("Seeded {} notes over {} parties in {} s", settings.notes(), settings.parties(), Duration.ofNanos(System.nanoTime() - seedStart).toSeconds());
+	}
+
+	private Map<Operation, Latencies> runClient(SplittableRandom random, long measureFrom, long end) throws IOException, InterruptedException {
+		final var latencies = new EnumMap<Operation, Latencies>(Operation.class);
+		for (final var operation : Operation.values()) {
+			latencies.put(operation, new Latencies());
+		}
+
+		long start;
+		while ((start = System.nanoTime()) < end) {
+			final var operation = settings.pick(random);
+			final var request = request(operation, random);
+
+			final var succeeded = httpClient.send(request, BodyHandlers.discarding()).statusCode() / 100 == 2;
+			final var elapsed = System.nanoTime() - start;
+
+			if (start >= measureFrom) {
+				latencies.get(operation).record(elapsed, succeeded);
+			}
+		}
+		return latencies;
+	}
+
+	private HttpRequest request(Operation operation, SplittableRandom random) throws IOException {
+		final var builder = HttpRequest.newBuilder();
+		return switch (operation) {
+			case READ_PAGE -> builder.uri(uri("/notes?partyId=" + partyIds[random.nextInt(partyIds.length)] + "&limit=" + PAGE_LIMIT)).GET().build();
+			case READ_NOTE -> builder.uri(uri("/notes/" + noteIds[random.nextInt(noteIds.length)])).GET().build();
+			case CREATE -> builder.uri(uri("/notes"))
+				.header(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+				.POST(BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(CreateNoteRequest.create()
+					.withPartyId(partyIds[random.nextInt(partyIds.length)].toString())
+					.withSubject("subject")
+					.withBody(body)
+					.withCreatedBy("loadtest"))))
+				.build();
+			case UPDATE -> builder.uri(uri("/notes/" + noteIds[random.nextInt(noteIds.length)]))
+				.header(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+				.method("PATCH", BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(UpdateNoteRequest.create()
+					.withSubject("modifiedSubject")
+					.withBody(body)
+					.withModifiedBy("loadtest"))))
+				.build();
+		};
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private Map<String, Object> report(List<Map<Operation, Latencies>> clientLatencies) {
+		final var seconds = settings.duration().toNanos() / 1e9;
+		final var total = new Latencies();
+		final var operations = new LinkedHashMap<String, Object>();
+		for (final var operation : Operation.values()) {
+			final var latencies = new Latencies();
+			clientLatencies.forEach(client -> latencies.addAll(client.get(operation)));
+			total.addAll(latencies);
+			operations.put(operation.key, summarize(latencies, seconds));
+		}
+
+		final var report = new LinkedHashMap<String, Object>();
+		report.put("settings", settings.toMap());
+		report.put("total", summarize(total, seconds));
+		report.put("operations", operations);
+		return report;
+	}
+
+	private static Map<String, Object> summarize(Latencies latencies, double seconds) {
+		latencies.sort();
+
+		final var latencyMillis = new LinkedHashMap<String, Object>();
+		for (final var percentile : PERCENTILES) {
+			latencyMillis.put("p" + String.valueOf(percentile).replace(".0", ""), toMillis(latencies.percentile(percentile)));
+		}
+		latencyMillis.put("max", toMillis(latencies.percentile(100)));
+
+		final var summary = new LinkedHashMap<String, Object>();
+		summary.put("requests", latencies.size());
+		summary.put("errors", latencies.errors());
+		summary.put("throughput", Math.round(latencies.size() / seconds * 10) / 10.0);
+		summary.put("latencyMillis", latencyMillis);
+		return summary;
+	}
+
+	private static double toMillis(long nanos) {
+		return Math.round(nanos / (double) NANOSECONDS.convert(Duration.ofMillis(1)) * 100) / 100.0;
+	}
+
+	private static byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+
+	private enum Operation {
+		READ_PAGE("readPage"),
+		READ_NOTE("readNote"),
+		CREATE("create"),
+		UPDATE("update");
+
+		private final String key;
+
+		Operation(String key) {
+			this.key = key;
+		}
+
+		private static Operation fromKey(String key) {
+			return Arrays.stream(values())
+				.filter(operation -> operation.key.equals(key))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Unknown operation in loadtest.mix: " + key));
+		}
+	}
+
+	private record Settings(int notes, int parties, int bodyLength, int clients, boolean virtualThreads, Duration warmup, Duration duration, String mix, String report, Operation[] weightedOperations) {
+
+		private static Settings fromSystemProperties() {
+			final var mix = System.getProperty("loadtest.mix", "readPage:50,readNote:30,create:10,update:10");
+
+			// Each operation is repeated by its weight, so that an operation is picked by one random index.
+			final var weightedOperations = new ArrayList<Operation>();
+			for (final var entry : mix.split(",")) {
+				final var keyAndWeight = entry.trim().split(":");
+				final var operation = Operation.fromKey(keyAndWeight[0]);
+				for (var i = 0; i < Integer.parseInt(keyAndWeight[1]); i++) {
+					weightedOperations.add(operation);
+				}
+			}
+
+			return new Settings(
+				Integer.getInteger("loadtest.notes", 1_000_000),
+				Integer.getInteger("loadtest.parties", 50_000),
+				Integer.getInteger("loadtest.body-length", 512),
+				Integer.getInteger("loadtest.clients", 16),
+				Boolean.getBoolean("loadtest.virtual-threads"),
+				Duration.parse(System.getProperty("loadtest.warmup", "PT30S")),
+				Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+				mix,
+				System.getProperty("loadtest.report", "target/loadtest/note-load-test.json"),
+				weightedOperations.toArray(Operation[]::new));
+		}
+
+		private Operation pick(SplittableRandom random) {
+			return weightedOperations[random.nextInt(weightedOperations.length)];
+		}
+
+		private Map<String, Object> toMap() {
+			final var map = new LinkedHashMap<String, Object>();
+			map.put("notes", notes);
+			map.put("parties", parties);
+			map.put("bodyLength", bodyLength);
+			map.put("clients", clients);
+			map.put("virtualThreads", virtualThreads);
+			map.put("warmupSeconds", warmup.toSeconds());
+			map.put("durationSeconds", duration.toSeconds());
+			map.put("mix", mix);
+			return map;
+		}
+	}
+
+	/**
+	 * Latencies in nanoseconds of one operation, recorded by one client thread and merged once all clients are done.
+	 */
+	private static final class Latencies {
+
+		private long[] values = new long[1024];
+		private int size;
+		private long errors;
+
+		private void record(long nanos, boolean succeeded) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = nanos;
+			if (!succeeded) {
+				errors++;
+			}
+		}
+
+		private void addAll(Latencies other) {
+			if (size + other.size > values.length) {
+				values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+			}
+			System.arraycopy(other.values, 0, values, size, other.size);
+			size += other.size;
+			errors += other.errors;
+		}
+
+		private void sort() {
+			Arrays.sort(values, 0, size);
+		}
+
+		private long percentile(double percentile) {
+			if (size == 0) {
+				return 0;
+			}
+			final var index = (int) Math.ceil(percentile / 100 * size) - 1;
+			return values[Math.max(0, Math.min(size - 1, index))];
+		}
+
+		private int size() {
+			return size;
+		}
+
+		private long errors() {
+			return errors;
+		}
+	}
+}
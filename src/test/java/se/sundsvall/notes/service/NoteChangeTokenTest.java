@@ -0,0 +1,35 @@
+package se.sundsvall.notes.service;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_INVALID_CHANGE_TOKEN;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.zalando.problem.Status;
+import org.zalando.problem.ThrowableProblem;
+
+class NoteChangeTokenTest {
+
+	@ParameterizedTest
+	@ValueSource(longs = { 0, 1, 123456789, Long.MAX_VALUE })
+	void encodeAndDecode(long changeSeq) {
+		assertThat(NoteChangeToken.decode(NoteChangeToken.encode(changeSeq))).isEqualTo(changeSeq);
+	}
+
+	@Test
+	void encodeIsUrlSafe() {
+		assertThat(NoteChangeToken.encode(Long.MAX_VALUE)).matches("^[A-Za-z0-9_-]+$");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "invalid", "!#%&", "LTE", "YWJj", "OTk5OTk5OTk5OTk5OTk5OTk5OTk" })
+	void decodeInvalidToken(String token) {
+		final var problem = assertThrows(ThrowableProblem.class, () -> NoteChangeToken.decode(token));
+
+		assertThat(problem.getStatus()).isEqualTo(Status.BAD_REQUEST);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_INVALID_CHANGE_TOKEN, token));
+	}
+}
@@ -0,0 +1,49 @@
+package se.sundsvall.notes.service;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_INVALID_CURSOR;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.zalando.problem.Status;
+import org.zalando.problem.ThrowableProblem;
+
+class NoteCursorTest {
+
+	@Test
+	void encodeAndDecode() {
+		final var created = OffsetDateTime.now();
+		final var id = UUID.randomUUID();
+
+		final var cursor = NoteCursor.decode(NoteCursor.encode(created, id));
+
+		assertThat(cursor.getCreated()).isEqualTo(created);
+		assertThat(cursor.getId()).isEqualTo(id);
+	}
+
+	@Test
+	void encodeIsUrlSafe() {
+		assertThat(NoteCursor.encode(OffsetDateTime.now(), UUID.randomUUID())).matches("^[A-Za-z0-9_-]+$");
+	}
+
+	@Test
+	void encodeWithNullValues() {
+		assertThat(NoteCursor.encode(null, UUID.randomUUID())).isNull();
+		assertThat(NoteCursor.encode(OffsetDateTime.now(), null)).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "invalid", "!#%&", "bm8tZGVsaW1pdGVy", "bm90LWEtZGF0ZXxpZA" })
+	void decodeInvalidCursor(String cursor) {
+		final var problem = assertThrows(ThrowableProblem.class, () -> NoteCursor.decode(cursor));
+
+		assertThat(problem.getStatus()).isEqualTo(Status.BAD_REQUEST);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_INVALID_CURSOR, cursor));
+	}
+}
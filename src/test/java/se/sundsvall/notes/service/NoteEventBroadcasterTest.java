@@ -0,0 +1,243 @@
+package se.sundsvall.notes.service;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.zalando.problem.Status.SERVICE_UNAVAILABLE;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_CREATED;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_DELETED;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_UPDATED;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+import org.zalando.problem.ThrowableProblem;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import se.sundsvall.notes.api.model.Note;
+
+class NoteEventBroadcasterTest {
+
+	private static final UUID PARTY_ID = UUID.randomUUID();
+	private static final UUID OTHER_PARTY_ID = UUID.randomUUID();
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void publishSendsToSubscribersOfParty() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 10, 10);
+		final var emitter = mock(SseEmitter.class);
+		final var otherEmitter = mock(SseEmitter.class);
+
+		broadcaster.subscribe(PARTY_ID, null, emitter);
+		broadcaster.subscribe(OTHER_PARTY_ID, null, otherEmitter);
+
+		broadcaster.publish(EVENT_UPDATED, "noteId", PARTY_ID, Note.create().withId("noteId"));
+
+		assertThat(sentEvents(emitter, 1)).singleElement().asString()
+			.startsWith("id:1\nevent:updated\ndata:NoteEvent [type=updated, noteId=noteId, partyId=" + PARTY_ID)
+			.endsWith("\n\n");
+		verify(otherEmitter, never()).send(any(SseEventBuilder.class));
+		assertThat(meterRegistry.get("notes.events.subscribers").gauge().value()).isEqualTo(2);
+	}
+
+	@Test
+	void publishWithinTransactionSendsAfterCommit() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 10, 10);
+		final var emitter = mock(SseEmitter.class);
+		broadcaster.subscribe(PARTY_ID, null, emitter);
+
+		TransactionSynchronizationManager.initSynchronization();
+		broadcaster.publish(EVENT_CREATED, "noteId", PARTY_ID, Note.create());
+
+		verify(emitter, never()).send(any(SseEventBuilder.class));
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		assertThat(sentEvents(emitter, 1)).singleElement().asString().startsWith("id:1\nevent:created\n");
+	}
+
+	@Test
+	void subscribeWithLastEventIdResumesPartyEvents() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 10, 10);
+		final var emitter = mock(SseEmitter.class);
+
+		broadcaster.publish(EVENT_CREATED, "noteId1", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId2", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId3", OTHER_PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_DELETED, "noteId1", PARTY_ID, null);
+
+		broadcaster.subscribe(PARTY_ID, 1L, emitter);
+
+		assertThat(sentEvents(emitter, 2))
+			.satisfiesExactly(
+				event -> assertThat(event).startsWith("id:2\nevent:created\n"),
+				event -> assertThat(event).startsWith("id:4\nevent:deleted\n"));
+	}
+
+	@Test
+	void subscribeWithLastEventIdNoLongerHeldSendsReset() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 2, 10);
+		final var emitter = mock(SseEmitter.class);
+
+		broadcaster.publish(EVENT_CREATED, "noteId1", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId2", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId3", PARTY_ID, Note.create());
+
+		broadcaster.subscribe(PARTY_ID, 0L, emitter);
+
+		assertThat(sentEvents(emitter, 1)).singleElement().asString().startsWith("id:3\nevent:reset\n");
+	}
+
+	@Test
+	void subscribeWithLastEventIdResumesFromWindowOfParty() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 2, 10);
+		final var emitter = mock(SseEmitter.class);
+
+		broadcaster.publish(EVENT_CREATED, "noteId1", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId2", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId3", OTHER_PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId4", OTHER_PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId5", OTHER_PARTY_ID, Note.create());
+
+		// The events of another party do not push the events of the party out of its window.
+		broadcaster.subscribe(PARTY_ID, 0L, emitter);
+
+		assertThat(sentEvents(emitter, 2))
+			.satisfiesExactly(
+				event -> assertThat(event).startsWith("id:1\nevent:created\n"),
+				event -> assertThat(event).startsWith("id:2\nevent:created\n"));
+	}
+
+	@Test
+	void subscribeWithLastEventIdOfDiscardedPartySendsReset() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 1, 10, 10, 1);
+		final var emitter = mock(SseEmitter.class);
+
+		broadcaster.publish(EVENT_CREATED, "noteId1", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId2", OTHER_PARTY_ID, Note.create());
+
+		broadcaster.subscribe(PARTY_ID, 0L, emitter);
+
+		assertThat(sentEvents(emitter, 1)).singleElement().asString().startsWith("id:2\nevent:reset\n");
+	}
+
+	@Test
+	void subscribeWithLastEventIdFromBeforeRestartSendsReset() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 10, 10);
+		final var emitter = mock(SseEmitter.class);
+
+		broadcaster.subscribe(PARTY_ID, 42L, emitter);
+
+		assertThat(sentEvents(emitter, 1)).singleElement().asString().startsWith("id:0\nevent:reset\n");
+	}
+
+	@Test
+	void slowSubscriberIsDropped() throws Exception {
+		// Nothing is sent until the queued tasks are run, as for a subscriber whose sends are blocked.
+		final var tasks = new ArrayList<Runnable>();
+		final var broadcaster = createBroadcaster(tasks::add, 10, 2);
+		final var emitter = mock(SseEmitter.class);
+		broadcaster.subscribe(PARTY_ID, null, emitter);
+
+		broadcaster.publish(EVENT_CREATED, "noteId1", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId2", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId3", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId4", PARTY_ID, Note.create());
+
+		tasks.forEach(Runnable::run);
+
+		verify(emitter).complete();
+		verify(emitter, never()).send(any(SseEventBuilder.class));
+		assertThat(meterRegistry.get("notes.events.subscribers.dropped").counter().count()).isOne();
+		assertThat(meterRegistry.get("notes.events.subscribers").gauge().value()).isZero();
+	}
+
+	@Test
+	void failedSendRemovesSubscriber() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 10, 10);
+		final var emitter = mock(SseEmitter.class);
+		doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEventBuilder.class));
+		broadcaster.subscribe(PARTY_ID, null, emitter);
+
+		broadcaster.publish(EVENT_CREATED, "noteId1", PARTY_ID, Note.create());
+		broadcaster.publish(EVENT_CREATED, "noteId2", PARTY_ID, Note.create());
+
+		verify(emitter, times(1)).send(any(SseEventBuilder.class));
+		assertThat(meterRegistry.get("notes.events.subscribers").gauge().value()).isZero();
+	}
+
+	@Test
+	void subscribeBeyondMaxSubscribersIsRejected() {
+		final var broadcaster = createBroadcaster(Runnable::run, 10, 10, 1, 10);
+		final var emitter = mock(SseEmitter.class);
+		broadcaster.subscribe(PARTY_ID, null, mock(SseEmitter.class));
+
+		final var problem = assertThrows(ThrowableProblem.class, () -> broadcaster.subscribe(OTHER_PARTY_ID, null, emitter));
+
+		assertThat(problem.getStatus()).isEqualTo(SERVICE_UNAVAILABLE);
+		assertThat(problem.getDetail()).isEqualTo("Too many subscribers to note events, maximum is 1");
+		assertThat(meterRegistry.get("notes.events.subscribers.rejected").counter().count()).isOne();
+		assertThat(meterRegistry.get("notes.events.subscribers").gauge().value()).isOne();
+	}
+
+	@Test
+	void heartbeat() throws Exception {
+		final var broadcaster = createBroadcaster(Runnable::run, 10, 10);
+		final var emitter = mock(SseEmitter.class);
+		broadcaster.subscribe(PARTY_ID, null, emitter);
+
+		broadcaster.heartbeat();
+
+		assertThat(sentEvents(emitter, 1)).containsExactly(":heartbeat\n\n");
+	}
+
+	private NoteEventBroadcaster createBroadcaster(Executor sender, int resumeWindowSize, int subscriberBufferSize) {
+		return createBroadcaster(sender, resumeWindowSize, subscriberBufferSize, 10, 10);
+	}
+
+	private NoteEventBroadcaster createBroadcaster(Executor sender, int resumeWindowSize, int subscriberBufferSize, int maxSubscribers, int resumeWindowParties) {
+		return new NoteEventBroadcaster(meterRegistry, sender, Duration.ofMinutes(1), maxSubscribers, resumeWindowSize, resumeWindowParties, subscriberBufferSize);
+	}
+
+	private static List<String> sentEvents(SseEmitter emitter, int count) throws IOException {
+		final var captor = ArgumentCaptor.forClass(SseEventBuilder.class);
+		verify(emitter, times(count)).send(captor.capture());
+
+		return captor.getAllValues().stream()
+			.map(event -> event.build().stream()
+				.map(data -> data.getData().toString())
+				.collect(joining()))
+			.toList();
+	}
+}
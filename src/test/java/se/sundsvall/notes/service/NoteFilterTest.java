@@ -0,0 +1,62 @@
+package se.sundsvall.notes.service;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class NoteFilterTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(NoteFilter.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var createdFrom = now().minusDays(2);
+		final var createdTo = now().minusDays(1);
+		final var modifiedSince = now();
+		final var createdBy = "createdBy";
+
+		final var noteFilter = NoteFilter.create()
+			.withCreatedFrom(createdFrom)
+			.withCreatedTo(createdTo)
+			.withModifiedSince(modifiedSince)
+			.withCreatedBy(createdBy);
+
+		assertThat(noteFilter).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(noteFilter.getCreatedFrom()).isEqualTo(createdFrom);
+		assertThat(noteFilter.getCreatedTo()).isEqualTo(createdTo);
+		assertThat(noteFilter.getModifiedSince()).isEqualTo(modifiedSince);
+		assertThat(noteFilter.getCreatedBy()).isEqualTo(createdBy);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(NoteFilter.create()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,166 @@
+package se.sundsvall.notes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.zalando.problem.Status.NOT_FOUND;
+import static org.zalando.problem.Status.PRECONDITION_FAILED;
+import static se.sundsvall.notes.service.NoteMetricsAspect.BODY_BYTES;
+import static se.sundsvall.notes.service.NoteMetricsAspect.DIRECTION_READ;
+import static se.sundsvall.notes.service.NoteMetricsAspect.DIRECTION_WRITTEN;
+import static se.sundsvall.notes.service.NoteMetricsAspect.OUTCOME_ERROR;
+import static se.sundsvall.notes.service.NoteMetricsAspect.OUTCOME_FOUND;
+import static se.sundsvall.notes.service.NoteMetricsAspect.OUTCOME_NOT_FOUND;
+import static se.sundsvall.notes.service.NoteMetricsAspect.OUTCOME_REJECTED;
+import static se.sundsvall.notes.service.NoteMetricsAspect.REPOSITORY_ROWS;
+import static se.sundsvall.notes.service.NoteMetricsAspect.REPOSITORY_TIMER;
+import static se.sundsvall.notes.service.NoteMetricsAspect.SERVICE_TIMER;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageRequest;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ThrowableProblem;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+
+class NoteMetricsAspectTest {
+
+	private static final PageRequest PAGE_REQUEST = PageRequest.of(0, 10);
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void serviceCallFound() {
+		final var noteService = mock(NoteService.class);
+		when(noteService.getNoteById("id")).thenReturn(Note.create());
+
+		proxy(noteService).getNoteById("id");
+
+		assertThat(meterRegistry.get(SERVICE_TIMER).tags("method", "getNoteById", "outcome", OUTCOME_FOUND).timer().count()).isOne();
+	}
+
+	@Test
+	void serviceCallNotFound() {
+		final var noteService = mock(NoteService.class);
+		when(noteService.getNoteById("id")).thenThrow(Problem.valueOf(NOT_FOUND));
+
+		assertThrows(ThrowableProblem.class, () -> proxy(noteService).getNoteById("id"));
+
+		assertThat(meterRegistry.get(SERVICE_TIMER).tags("method", "getNoteById", "outcome", OUTCOME_NOT_FOUND).timer().count()).isOne();
+	}
+
+	@Test
+	void serviceCallRejected() {
+		final var noteService = mock(NoteService.class);
+		final var updateNoteRequest = UpdateNoteRequest.create().withBody("åäö");
+		when(noteService.updateNote("id", updateNoteRequest, 1)).thenThrow(Problem.valueOf(PRECONDITION_FAILED));
+
+		assertThrows(ThrowableProblem.class, () -> proxy(noteService).updateNote("id", updateNoteRequest, 1));
+
+		assertThat(meterRegistry.get(SERVICE_TIMER).tags("method", "updateNote", "outcome", OUTCOME_REJECTED).timer().count()).isOne();
+		assertThat(meterRegistry.get(BODY_BYTES).tag("direction", DIRECTION_WRITTEN).summary().totalAmount()).isEqualTo(6);
+	}
+
+	@Test
+	void serviceCallError() {
+		final var noteService = mock(NoteService.class);
+		when(noteService.getNoteById("id")).thenThrow(new IllegalStateException());
+
+		assertThrows(IllegalStateException.class, () -> proxy(noteService).getNoteById("id"));
+
+		assertThat(meterRegistry.get(SERVICE_TIMER).tags("method", "getNoteById", "outcome", OUTCOME_ERROR).timer().count()).isOne();
+	}
+
+	@Test
+	void repositorySaveRecordsBodiesWritten() {
+		final var noteEntities = List.of(NoteEntity.create().withBody("body"), NoteEntity.create().withBody("😀"));
+		final var noteRepository = mock(NoteRepository.class);
+		when(noteRepository.saveAll(noteEntities)).thenReturn(noteEntities);
+
+		proxy(noteRepository).saveAll(noteEntities);
+
+		final var summary = meterRegistry.get(BODY_BYTES).tag("direction", DIRECTION_WRITTEN).summary();
+		assertThat(summary.count()).isEqualTo(2);
+		assertThat(summary.totalAmount()).isEqualTo(8);
+		// The saved entities returned are not bodies read, nor is saveAll a query.
+		assertThat(meterRegistry.get(BODY_BYTES).tag("direction", DIRECTION_READ).summary().count()).isZero();
+		assertThat(meterRegistry.find(REPOSITORY_ROWS).summary()).isNull();
+	}
+
+	@Test
+	void repositoryStreamRecordsBodiesReadWhenConsumed() {
+		final var noteRepository = mock(NoteRepository.class);
+		when(noteRepository.streamAll()).thenReturn(Stream.of(NoteEntity.create().withBody("body1"), NoteEntity.create().withBody("body2")));
+
+		try (final var noteEntities = proxy(noteRepository).streamAll()) {
+			assertThat(meterRegistry.get(BODY_BYTES).tag("direction", DIRECTION_READ).summary().count()).isZero();
+
+			assertThat(noteEntities).hasSize(2);
+		}
+
+		assertThat(meterRegistry.get(BODY_BYTES).tag("direction", DIRECTION_READ).summary().totalAmount()).isEqualTo(10);
+	}
+
+	@Test
+	void repositoryCallRecordsRowsAndBodiesRead() {
+		final var partyId = UUID.randomUUID();
+		final var noteRepository = mock(NoteRepository.class);
+		when(noteRepository.findByPartyIdOrderByCreatedAscIdAsc(partyId, PAGE_REQUEST)).thenReturn(List.of(NoteEntity.create().withBody("body1"), NoteEntity.create().withBody("body2")));
+
+		proxy(noteRepository).findByPartyIdOrderByCreatedAscIdAsc(partyId, PAGE_REQUEST);
+		proxy(noteRepository).findByPartyIdOrderByCreatedAscIdAsc(partyId, PAGE_REQUEST);
+
+		assertThat(meterRegistry.get(REPOSITORY_TIMER).tags("method", "findByPartyIdOrderByCreatedAscIdAsc", "outcome", OUTCOME_FOUND).timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get(REPOSITORY_ROWS).tag("method", "findByPartyIdOrderByCreatedAscIdAsc").summary().totalAmount()).isEqualTo(4);
+		assertThat(meterRegistry.get(BODY_BYTES).tag("direction", DIRECTION_READ).summary().totalAmount()).isEqualTo(20);
+	}
+
+	@Test
+	void repositoryCallNotFound() {
+		final var id = UUID.randomUUID();
+		final var noteRepository = mock(NoteRepository.class);
+		when(noteRepository.findById(id)).thenReturn(Optional.empty());
+		when(noteRepository.updateById(id, null, null, null, null)).thenReturn(0);
+
+		proxy(noteRepository).findById(id);
+		proxy(noteRepository).updateById(id, null, null, null, null);
+
+		assertThat(meterRegistry.get(REPOSITORY_TIMER).tags("method", "findById", "outcome", OUTCOME_NOT_FOUND).timer().count()).isOne();
+		assertThat(meterRegistry.get(REPOSITORY_TIMER).tags("method", "updateById", "outcome", OUTCOME_NOT_FOUND).timer().count()).isOne();
+	}
+
+	@Test
+	void repositoryCallError() {
+		final var id = UUID.randomUUID();
+		final var noteRepository = mock(NoteRepository.class);
+		when(noteRepository.findById(id)).thenThrow(new IllegalStateException());
+
+		assertThrows(IllegalStateException.class, () -> proxy(noteRepository).findById(id));
+
+		assertThat(meterRegistry.get(REPOSITORY_TIMER).tags("method", "findById", "outcome", OUTCOME_ERROR).timer().count()).isOne();
+	}
+
+	private <T> T proxy(T target) {
+		final var proxyFactory = new AspectJProxyFactory(target);
+		proxyFactory.setProxyTargetClass(!(target instanceof NoteRepository));
+		proxyFactory.addAspect(new NoteMetricsAspect(meterRegistry));
+		return proxyFactory.getProxy();
+	}
+}
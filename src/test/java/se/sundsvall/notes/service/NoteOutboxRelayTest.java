@@ -0,0 +1,120 @@
+package se.sundsvall.notes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import se.sundsvall.notes.integration.db.NoteOutboxRepository;
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+import se.sundsvall.notes.integration.publisher.OutboxPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class NoteOutboxRelayTest {
+
+	private static final int BATCH_SIZE = 2;
+
+	@Mock
+	private NoteOutboxRepository noteOutboxRepository;
+
+	@Mock
+	private OutboxPublisher outboxPublisher;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private NoteOutboxRelay noteOutboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		noteOutboxRelay = new NoteOutboxRelay(noteOutboxRepository, outboxPublisher, transactionManager, meterRegistry, BATCH_SIZE);
+		when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+	}
+
+	@Test
+	void relayDrainsFullBatches() {
+		final var batch1 = List.of(createEvent(), createEvent());
+		final var batch2 = List.of(createEvent());
+
+		// Mock
+		when(noteOutboxRepository.findNextBatchForUpdate(BATCH_SIZE)).thenReturn(batch1, batch2);
+
+		// Call
+		noteOutboxRelay.relay();
+
+		// Verification
+		verify(outboxPublisher).publish(batch1);
+		verify(outboxPublisher).publish(batch2);
+		verify(noteOutboxRepository).deleteAllByIdInBatch(List.of(batch1.get(0).getId(), batch1.get(1).getId()));
+		verify(noteOutboxRepository).deleteAllByIdInBatch(List.of(batch2.get(0).getId()));
+		verify(noteOutboxRepository, times(2)).findNextBatchForUpdate(BATCH_SIZE);
+		verify(transactionManager, times(2)).commit(any());
+		verifyNoMoreInteractions(noteOutboxRepository, outboxPublisher);
+		assertThat(meterRegistry.get("notes.outbox.relayed").counter().count()).isEqualTo(3);
+		assertThat(meterRegistry.get("notes.outbox.relay.batch").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void relayEmptyOutbox() {
+
+		// Mock
+		when(noteOutboxRepository.findNextBatchForUpdate(BATCH_SIZE)).thenReturn(List.of());
+
+		// Call
+		noteOutboxRelay.relay();
+
+		// Verification
+		verify(noteOutboxRepository).findNextBatchForUpdate(BATCH_SIZE);
+		verifyNoMoreInteractions(noteOutboxRepository);
+		verify(outboxPublisher, never()).publish(any());
+		assertThat(meterRegistry.get("notes.outbox.relayed").counter().count()).isZero();
+	}
+
+	@Test
+	void relayPublishFailureKeepsEvents() {
+		final var batch = List.of(createEvent(), createEvent());
+
+		// Mock
+		when(noteOutboxRepository.findNextBatchForUpdate(BATCH_SIZE)).thenReturn(batch);
+		doThrow(new IllegalStateException("Publisher unavailable")).when(outboxPublisher).publish(batch);
+
+		// Call
+		noteOutboxRelay.relay();
+
+		// Verification
+		verify(noteOutboxRepository).findNextBatchForUpdate(BATCH_SIZE);
+		verifyNoMoreInteractions(noteOutboxRepository);
+		verify(transactionManager).rollback(any());
+		verify(transactionManager, never()).commit(any());
+		assertThat(meterRegistry.get("notes.outbox.relay.failures").counter().count()).isOne();
+		assertThat(meterRegistry.get("notes.outbox.relayed").counter().count()).isZero();
+	}
+
+	private static NoteOutboxEntity createEvent() {
+		return NoteOutboxEntity.create()
+			.withId(UUID.randomUUID())
+			.withEventType("created")
+			.withNoteId(UUID.randomUUID())
+			.withPayload("{}");
+	}
+}
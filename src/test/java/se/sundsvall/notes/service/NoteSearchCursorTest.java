@@ -0,0 +1,48 @@
+package se.sundsvall.notes.service;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_INVALID_CURSOR;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.zalando.problem.Status;
+import org.zalando.problem.ThrowableProblem;
+
+class NoteSearchCursorTest {
+
+	@ParameterizedTest
+	@ValueSource(doubles = { 0.0, 0.22764469683170319, 1.0E-7, 123456.789 })
+	void encodeAndDecode(double relevance) {
+		final var id = UUID.randomUUID();
+
+		final var cursor = NoteSearchCursor.decode(NoteSearchCursor.encode(relevance, id));
+
+		assertThat(cursor.getRelevance()).isEqualTo(relevance);
+		assertThat(cursor.getId()).isEqualTo(id);
+	}
+
+	@Test
+	void encodeIsUrlSafe() {
+		assertThat(NoteSearchCursor.encode(0.5, UUID.randomUUID())).matches("^[A-Za-z0-9_-]+$");
+	}
+
+	@Test
+	void encodeWithNullValues() {
+		assertThat(NoteSearchCursor.encode(null, UUID.randomUUID())).isNull();
+		assertThat(NoteSearchCursor.encode(0.5, null)).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "invalid", "!#%&", "bm8tZGVsaW1pdGVy", "bm90LWEtbnVtYmVyfGlk", "TmFOfDZhOWQzYjJlLTBmNWMtNGQxYS04YjdlLTNjMmYxYTBkOWU4Yg" })
+	void decodeInvalidCursor(String cursor) {
+		final var problem = assertThrows(ThrowableProblem.class, () -> NoteSearchCursor.decode(cursor));
+
+		assertThat(problem.getStatus()).isEqualTo(Status.BAD_REQUEST);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_INVALID_CURSOR, cursor));
+	}
+}
@@ -0,0 +1,200 @@
+package se.sundsvall.notes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.notes.service.ServiceConstants.CACHE_NOTES;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import se.sundsvall.notes.Application;
+import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.integration.db.NoteOutboxRepository;
+import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.NoteTombstoneRepository;
+import se.sundsvall.notes.integration.db.PartyChangeRepository;
+import se.sundsvall.notes.integration.db.model.NoteEntity;
+
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("junit")
+class NoteServiceCacheTest {
+
+	@MockBean
+	private NoteRepository noteRepository;
+
+	@MockBean
+	private PartyChangeRepository partyChangeRepository;
+
+	@MockBean
+	private NoteOutboxRepository noteOutboxRepository;
+
+	@MockBean
+	private NoteTombstoneRepository noteTombstoneRepository;
+
+	@Autowired
+	private NoteService noteService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager.getCache(CACHE_NOTES).clear();
+	}
+
+	@Test
+	void getNoteByIdIsCached() {
+		final var id = UUID.randomUUID();
+		final var hits = cacheGets("hit");
+
+		when(noteRepository.findById(id)).thenReturn(Optional.of(NoteEntity.create().withId(id)));
+
+		final var first = noteService.getNoteById(id.toString());
+		final var second = noteService.getNoteById(id.toString());
+
+		assertThat(second).isEqualTo(first);
+		assertThat(cacheGets("hit")).isEqualTo(hits + 1);
+		verify(noteRepository).findById(id);
+	}
+
+	@Test
+	void getNotesByIdsUsesNoteCache() {
+		final var cachedId = UUID.randomUUID();
+		final var uncachedId = UUID.randomUUID();
+		final var missingId = UUID.randomUUID();
+
+		when(noteRepository.findById(cachedId)).thenReturn(Optional.of(NoteEntity.create().withId(cachedId)));
+		when(noteRepository.findAllById(List.of(uncachedId, missingId))).thenReturn(List.of(NoteEntity.create().withId(uncachedId)));
+
+		noteService.getNoteById(cachedId.toString());
+		final var result = noteService.getNotesByIds(List.of(cachedId, uncachedId, missingId));
+
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(cachedId.toString(), uncachedId.toString());
+		assertThat(result.getMissingIds()).containsExactly(missingId.toString());
+		assertThat(cacheManager.getCache(CACHE_NOTES).get(uncachedId)).isNotNull();
+		verify(noteRepository).findAllById(List.of(uncachedId, missingId));
+	}
+
+	@Test
+	void updateNoteEvictsCachedNote() {
+		final var id = UUID.randomUUID();
+		final var otherId = UUID.randomUUID();
+
+		when(noteRepository.findById(any())).thenAnswer(invocation -> Optional.of(NoteEntity.create().withId(invocation.getArgument(0))));
+		when(noteRepository.updateById(id, "subject", "body", "modifiedBy", null)).thenReturn(1);
+
+		noteService.getNoteById(id.toString());
+		noteService.getNoteById(otherId.toString());
+		noteService.updateNote(id.toString(), UpdateNoteRequest.create().withSubject("subject").withBody("body").withModifiedBy("modifiedBy"), null);
+
+		assertThat(cacheManager.getCache(CACHE_NOTES).get(id)).isNull();
+		assertThat(cacheManager.getCache(CACHE_NOTES).get(otherId)).isNotNull();
+	}
+
+	@Test
+	void deleteNoteByIdEvictsCachedNote() {
+		final var id = UUID.randomUUID();
+
+		when(noteRepository.findById(id)).thenReturn(Optional.of(NoteEntity.create().withId(id)));
+		when(noteRepository.deleteByIdReturningPartyId(id)).thenReturn(List.of(UUID.randomUUID()));
+
+		noteService.getNoteById(id.toString());
+		assertThat(cacheManager.getCache(CACHE_NOTES).get(id)).isNotNull();
+
+		noteService.deleteNoteById(id.toString());
+		assertThat(cacheManager.getCache(CACHE_NOTES).get(id)).isNull();
+	}
+
+	@Test
+	void getNoteByIdDoesNotCacheNoteReadBeforeConcurrentUpdate() {
+		final var id = UUID.randomUUID();
+		final var updating = new AtomicBoolean();
+
+		// The update commits while the note is being read, i.e. after the read took the state before the update.
+		when(noteRepository.findById(id)).thenAnswer(invocation -> {
+			if (updating.compareAndSet(false, true)) {
+				noteService.updateNote(id.toString(), UpdateNoteRequest.create().withSubject("subject").withModifiedBy("modifiedBy"), null);
+			}
+			return Optional.of(NoteEntity.create().withId(id));
+		});
+		when(noteRepository.updateById(id, "subject", null, "modifiedBy", null)).thenReturn(1);
+
+		noteService.getNoteById(id.toString());
+
+		assertThat(cacheManager.getCache(CACHE_NOTES).get(id)).isNull();
+	}
+
+	@Test
+	void getNotesByIdsDoesNotCacheNotesReadBeforeConcurrentDelete() {
+		final var id = UUID.randomUUID();
+
+		when(noteRepository.deleteByIdReturningPartyId(id)).thenReturn(List.of(UUID.randomUUID()));
+		when(noteRepository.findAllById(List.of(id))).thenAnswer(invocation -> {
+			noteService.deleteNoteById(id.toString());
+			return List.of(NoteEntity.create().withId(id));
+		});
+
+		noteService.getNotesByIds(List.of(id));
+
+		assertThat(cacheManager.getCache(CACHE_NOTES).get(id)).isNull();
+	}
+
+	@Test
+	void getNotesByPartyIdAfterWriteCommittedButNotYetEvictedReturnsNotesOfNewChangeToken() {
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var before = NoteEntity.create().withId(id).withPartyId(partyId).withSubject("before");
+		final var after = NoteEntity.create().withId(id).withPartyId(partyId).withSubject("after");
+
+		when(partyChangeRepository.findVersionByPartyId(partyId)).thenReturn(Optional.of(1L));
+		when(noteRepository.findByPartyIdOrderByCreatedAscIdAsc(eq(partyId), any())).thenReturn(List.of(before));
+		assertThat(getNotesByPartyId(partyId)).extracting(Note::getSubject).containsExactly("before");
+
+		// The update has committed its change token, but the eviction of the cached pages has not run yet.
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			when(noteRepository.updateById(id, "after", null, "modifiedBy", null)).thenReturn(1);
+			when(noteRepository.findById(id)).thenReturn(Optional.of(after));
+			noteService.updateNote(id.toString(), UpdateNoteRequest.create().withSubject("after").withModifiedBy("modifiedBy"), null);
+			when(partyChangeRepository.findVersionByPartyId(partyId)).thenReturn(Optional.of(2L));
+			when(noteRepository.findByPartyIdOrderByCreatedAscIdAsc(eq(partyId), any())).thenReturn(List.of(after));
+
+			assertThat(getNotesByPartyId(partyId)).extracting(Note::getSubject).containsExactly("after");
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(getNotesByPartyId(partyId)).extracting(Note::getSubject).containsExactly("after");
+	}
+
+	private List<Note> getNotesByPartyId(UUID partyId) {
+		final var changeToken = noteService.getPartyChangeToken(partyId.toString());
+		return noteService.getNotesByPartyId(partyId.toString(), changeToken, NoteFilter.create(), 10, null, "full").getNotes();
+	}
+
+	private double cacheGets(String result) {
+		return meterRegistry.get("cache.gets").tag("cache", CACHE_NOTES).tag("result", result).functionCounter().count();
+	}
+}
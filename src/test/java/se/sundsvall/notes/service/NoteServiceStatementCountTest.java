@@ -0,0 +1,120 @@
+package se.sundsvall.notes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.DELETE;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.INSERT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.SELECT;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.StatementType.UPDATE;
+import static se.sundsvall.notes.integration.db.SqlStatementRecorder.assertStatements;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.zalando.problem.ThrowableProblem;
+
+import se.sundsvall.notes.Application;
+import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.integration.db.SqlStatementRecorderExtension;
+
+/**
+ * Verifies the number and type of statements issued against the database by NoteService operations.
+ *
+ * @see src/test/resources/db/scripts/NoteServiceStatementCountTest.sql for data setup.
+ */
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("junit")
+@ExtendWith(SqlStatementRecorderExtension.class)
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/NoteServiceStatementCountTest.sql"
+})
+class NoteServiceStatementCountTest {
+
+	private static final String ENTITY_1_ID = "6a9d3b2e-0f5c-4d1a-8b7e-3c2f1a0d9e8b";
+	private static final String ENTITY_1_PARTY_ID = "0b7c4e5d-2a1f-4c3b-9d8e-7f6a5b4c3d2e";
+
+	@Autowired
+	private NoteService noteService;
+
+	@Test
+	void createNote() {
+		noteService.createNote(CreateNoteRequest.create()
+			.withPartyId(UUID.randomUUID().toString())
+			.withSubject("subject")
+			.withBody("body")
+			.withCreatedBy("createdBy"));
+
+		// One insert of the note, without a select before it, one upsert of the party change token and one insert into the
+		// outbox.
+		assertStatements(INSERT, INSERT, INSERT);
+	}
+
+	@Test
+	void getNotesByPartyId() {
+		final var response = noteService.getNotesByPartyId(ENTITY_1_PARTY_ID, 1L, NoteFilter.create(), 100, null, "full");
+
+		// All notes of the page are read by one select, no matter the number of notes.
+		assertThat(response.getNotes()).hasSize(3);
+		assertStatements(SELECT);
+	}
+
+	@Test
+	void getNotesByPartyIdFiltered() {
+		final var response = noteService.getNotesByPartyId(ENTITY_1_PARTY_ID, 1L, NoteFilter.create().withCreatedBy("createdBy2"), 100, null, "summary");
+
+		assertThat(response.getNotes()).hasSize(1);
+		assertStatements(SELECT);
+	}
+
+	@Test
+	void deleteNoteById() {
+		noteService.deleteNoteById(ENTITY_1_ID);
+
+		// One delete, one insert of the tombstone, one upsert of the party change token and one insert into the outbox.
+		assertStatements(DELETE, INSERT, INSERT, INSERT);
+	}
+
+	@Test
+	void deleteNoteByIdNotFound() {
+		final var id = UUID.randomUUID().toString();
+
+		assertThrows(ThrowableProblem.class, () -> noteService.deleteNoteById(id));
+
+		assertStatements(DELETE);
+	}
+
+	@Test
+	void updateNote() {
+		noteService.updateNote(ENTITY_1_ID, UpdateNoteRequest.create().withSubject("subject").withModifiedBy("modifiedBy"), 0);
+
+		// One update, one select of the updated note, one upsert of the party change token and one insert into the outbox.
+		assertStatements(UPDATE, SELECT, INSERT, INSERT);
+	}
+
+	@Test
+	void updateNoteNotFound() {
+		final var id = UUID.randomUUID().toString();
+		final var request = UpdateNoteRequest.create().withModifiedBy("modifiedBy");
+
+		assertThrows(ThrowableProblem.class, () -> noteService.updateNote(id, request, null));
+
+		assertStatements(UPDATE);
+	}
+
+	@Test
+	void updateNoteVersionMismatch() {
+		final var request = UpdateNoteRequest.create().withSubject("subject").withModifiedBy("modifiedBy");
+
+		assertThrows(ThrowableProblem.class, () -> noteService.updateNote(ENTITY_1_ID, request, 1));
+
+		// The note is only looked up when the update fails on a version.
+		assertStatements(UPDATE, SELECT);
+	}
+}
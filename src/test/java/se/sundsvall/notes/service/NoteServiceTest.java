@@ -5,15 +5,35 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_CREATED;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_DELETED;
+import static se.sundsvall.notes.service.NoteEventBroadcaster.EVENT_UPDATED;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_INVALID_CHANGE_TOKEN;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_INVALID_CURSOR;
+import static se.sundsvall.notes.service.ServiceConstants.CACHE_NOTES;
 import static se.sundsvall.notes.service.ServiceConstants.ERROR_NOTE_NOT_FOUND;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_NOTE_VERSION_MISMATCH;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_TOO_MANY_IDS;
+import static se.sundsvall.notes.service.ServiceConstants.ERROR_TOO_MANY_NOTES;
 import static se.sundsvall.notes.service.mapper.NoteMapper.toNoteEntity;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,15 +41,33 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.zalando.problem.Status;
 import org.zalando.problem.ThrowableProblem;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.DeletedNote;
+import se.sundsvall.notes.api.model.FindNotesResponse;
 import se.sundsvall.notes.api.model.Note;
+import se.sundsvall.notes.api.model.PagingMetaData;
 import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.integration.db.NoteOutboxRepository;
 import se.sundsvall.notes.integration.db.NoteRepository;
+import se.sundsvall.notes.integration.db.NoteTombstoneRepository;
+import se.sundsvall.notes.integration.db.PartyChangeRepository;
 import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+import se.sundsvall.notes.integration.db.model.NoteSearchResult;
+import se.sundsvall.notes.integration.db.model.NoteTombstoneEntity;
+import se.sundsvall.notes.integration.search.NoteSearchEngine;
+import se.sundsvall.notes.integration.db.model.NoteSummaryProjection;
 
 @ExtendWith(MockitoExtension.class)
 class NoteServiceTest {
@@ -37,26 +75,59 @@ class NoteServiceTest {
 	@Mock
 	private NoteRepository noteRepository;
 
+	@Mock
+	private PartyChangeRepository partyChangeRepository;
+
+	@Mock
+	private NoteOutboxRepository noteOutboxRepository;
+
+	@Mock
+	private NoteTombstoneRepository noteTombstoneRepository;
+
+	@Mock
+	private NoteSearchEngine noteSearchEngine;
+
+	@Mock
+	private PartyNotesCache partyNotesCache;
+
+	@Mock
+	private NoteEventBroadcaster noteEventBroadcaster;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
 	@InjectMocks
 	private NoteService noteService;
 
 	@Captor
 	ArgumentCaptor<NoteEntity> noteEntityCaptor;
 
+	@Captor
+	ArgumentCaptor<List<NoteEntity>> noteEntitiesCaptor;
+
+	@Captor
+	ArgumentCaptor<List<NoteOutboxEntity>> noteOutboxEntitiesCaptor;
+
 	@Test
 	void createNote() {
 		final var body = "body";
 		final var createdBy = "createdBy";
-		final var partyId = "partyId";
+		final var partyId = UUID.randomUUID();
 		final var subject = "subject";
-		final var id = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
 		final var created = OffsetDateTime.now();
 
 		// Setup
 		final var createNoteRequest = CreateNoteRequest.create()
 			.withBody(body)
 			.withCreatedBy(createdBy)
-			.withPartyId(partyId)
+			.withPartyId(partyId.toString())
 			.withSubject(subject);
 
 		// Mock
@@ -84,13 +155,78 @@ class NoteServiceTest {
 				NoteEntity::getSubject)
 			.containsExactly(body, null, createdBy, null, null, null, partyId, subject);
 
-		assertThat(result).isEqualTo(id);
+		assertThat(result).isEqualTo(id.toString());
+		verify(partyChangeRepository).incrementVersion(partyId);
+		verify(partyNotesCache).evict(partyId);
+		verify(noteEventBroadcaster).publish(eq(EVENT_CREATED), eq(id.toString()), eq(partyId), any(Note.class));
+		verify(noteSearchEngine).notesSaved(List.of(noteEntity));
+		verify(noteOutboxRepository).saveAll(noteOutboxEntitiesCaptor.capture());
+		assertThat(noteOutboxEntitiesCaptor.getValue())
+			.extracting(NoteOutboxEntity::getEventType, NoteOutboxEntity::getNoteId, NoteOutboxEntity::getPartyId)
+			.containsExactly(tuple(EVENT_CREATED, id, partyId));
+		assertThat(noteOutboxEntitiesCaptor.getValue().get(0).getPayload())
+			.startsWith("{\"type\":\"created\",\"noteId\":\"" + id + "\",\"partyId\":\"" + partyId + "\",\"note\":{");
+	}
+
+	@Test
+	void createNotes() {
+		final var partyId1 = UUID.randomUUID();
+		final var partyId2 = UUID.randomUUID();
+		final var id1 = UUID.randomUUID();
+		final var id2 = UUID.randomUUID();
+		final var id3 = UUID.randomUUID();
+
+		// Setup
+		final var createNoteRequests = List.of(
+			CreateNoteRequest.create().withBody("body1").withCreatedBy("createdBy").withPartyId(partyId1.toString()).withSubject("subject1"),
+			CreateNoteRequest.create().withBody("body2").withCreatedBy("createdBy").withPartyId(partyId2.toString()).withSubject("subject2"),
+			CreateNoteRequest.create().withBody("body3").withCreatedBy("createdBy").withPartyId(partyId1.toString()).withSubject("subject3"));
+		ReflectionTestUtils.setField(noteService, "maximumNotes", 3);
+
+		// Mock
+		when(noteRepository.saveAll(noteEntitiesCaptor.capture())).thenReturn(List.of(
+			toNoteEntity(createNoteRequests.get(0)).withId(id1),
+			toNoteEntity(createNoteRequests.get(1)).withId(id2),
+			toNoteEntity(createNoteRequests.get(2)).withId(id3)));
+
+		// Call
+		final var result = noteService.createNotes(createNoteRequests);
+
+		// Verification
+		assertThat(noteEntitiesCaptor.getValue())
+			.extracting(NoteEntity::getPartyId, NoteEntity::getSubject)
+			.containsExactly(
+				tuple(partyId1, "subject1"),
+				tuple(partyId2, "subject2"),
+				tuple(partyId1, "subject3"));
+
+		assertThat(result).containsExactly(id1.toString(), id2.toString(), id3.toString());
+		verify(partyChangeRepository).incrementVersion(partyId1);
+		verify(partyChangeRepository).incrementVersion(partyId2);
+		verify(partyNotesCache).evict(partyId1);
+		verify(partyNotesCache).evict(partyId2);
+		verify(noteEventBroadcaster).publish(eq(EVENT_CREATED), eq(id1.toString()), eq(partyId1), any(Note.class));
+		verify(noteEventBroadcaster).publish(eq(EVENT_CREATED), eq(id2.toString()), eq(partyId2), any(Note.class));
+		verify(noteEventBroadcaster).publish(eq(EVENT_CREATED), eq(id3.toString()), eq(partyId1), any(Note.class));
+		verify(noteOutboxRepository).saveAll(noteOutboxEntitiesCaptor.capture());
+		assertThat(noteOutboxEntitiesCaptor.getValue())
+			.extracting(NoteOutboxEntity::getEventType, NoteOutboxEntity::getNoteId, NoteOutboxEntity::getPartyId)
+			.containsExactly(
+				tuple(EVENT_CREATED, id1, partyId1),
+				tuple(EVENT_CREATED, id2, partyId2),
+				tuple(EVENT_CREATED, id3, partyId1));
+		verify(noteSearchEngine).notesSaved(List.of(
+			toNoteEntity(createNoteRequests.get(0)).withId(id1),
+			toNoteEntity(createNoteRequests.get(1)).withId(id2),
+			toNoteEntity(createNoteRequests.get(2)).withId(id3)));
+		verifyNoMoreInteractions(noteRepository, partyChangeRepository, partyNotesCache, noteEventBroadcaster, noteOutboxRepository, noteSearchEngine);
 	}
 
 	@Test
 	void updateNote() {
 
-		final var id = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
 		final var body = "Body";
 		final var modifiedBy = "modifiedBy";
 		final var subject = "Subject";
@@ -102,98 +238,287 @@ class NoteServiceTest {
 			.withSubject(subject);
 
 		// Mock
-		when(noteRepository.findById(id)).thenReturn(Optional.of(NoteEntity.create().withId(id)));
+		when(noteRepository.updateById(id, subject, body, modifiedBy, 1)).thenReturn(1);
+		when(noteRepository.findById(id)).thenReturn(Optional.of(NoteEntity.create().withId(id).withPartyId(partyId).withSubject(subject).withBody(body).withModifiedBy(modifiedBy).withVersion(2)));
 
 		// Call
-		final var result = noteService.updateNote(id, updateNoteRequest);
+		final var result = noteService.updateNote(id.toString(), updateNoteRequest, 1);
 
 		// Verification
-		verify(noteRepository).save(noteEntityCaptor.capture());
+		assertThat(result).isNotNull()
+			.extracting(Note::getId, Note::getPartyId, Note::getSubject, Note::getBody, Note::getModifiedBy, Note::getVersion)
+			.containsExactly(id.toString(), partyId.toString(), subject, body, modifiedBy, 2);
+		verify(noteRepository).updateById(id, subject, body, modifiedBy, 1);
+		verify(noteRepository).findById(id);
+		verify(partyChangeRepository).incrementVersion(partyId);
+		verify(partyNotesCache).evict(partyId);
+		verify(noteEventBroadcaster).publish(EVENT_UPDATED, id.toString(), partyId, result);
+		verify(noteSearchEngine).notesSaved(List.of(NoteEntity.create().withId(id).withPartyId(partyId).withSubject(subject).withBody(body).withModifiedBy(modifiedBy).withVersion(2)));
+		verify(noteOutboxRepository).saveAll(noteOutboxEntitiesCaptor.capture());
+		assertThat(noteOutboxEntitiesCaptor.getValue())
+			.extracting(NoteOutboxEntity::getEventType, NoteOutboxEntity::getNoteId, NoteOutboxEntity::getPartyId)
+			.containsExactly(tuple(EVENT_UPDATED, id, partyId));
+		verifyNoMoreInteractions(noteRepository);
+	}
 
-		assertThat(noteEntityCaptor.getValue())
-			.extracting(
-				NoteEntity::getBody,
-				NoteEntity::getCreated,
-				NoteEntity::getCreatedBy,
-				NoteEntity::getId,
-				NoteEntity::getModified,
-				NoteEntity::getModifiedBy,
-				NoteEntity::getPartyId,
-				NoteEntity::getSubject)
-			.containsExactly(body, null, null, id, null, modifiedBy, null, subject);
-		assertThat(result).isNotNull().extracting(Note::getId).isEqualTo(id);
+	@Test
+	void updateNoteOnlyPresentFields() {
+
+		final var id = UUID.randomUUID();
+		final var modifiedBy = "modifiedBy";
+
+		// Setup
+		final var updateNoteRequest = UpdateNoteRequest.create()
+			.withModifiedBy(modifiedBy);
+
+		// Mock
+		when(noteRepository.updateById(id, null, null, modifiedBy, null)).thenReturn(1);
+		when(noteRepository.findById(id)).thenReturn(Optional.of(NoteEntity.create().withId(id)));
+
+		// Call
+		noteService.updateNote(id.toString(), updateNoteRequest, null);
+
+		// Verification
+		verify(noteRepository).updateById(id, null, null, modifiedBy, null);
 	}
 
 	@Test
 	void updateNoteIdNotFound() {
 
 		// Setup
-		final var id = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
 		final var request = UpdateNoteRequest.create();
 
 		// Mock
-		when(noteRepository.findById(id)).thenReturn(Optional.empty());
+		when(noteRepository.updateById(id, null, null, null, null)).thenReturn(0);
 
 		// Call
-		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.updateNote(id, request));
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.updateNote(id.toString(), request, null));
 
 		// Verification
 		assertThat(problem).isNotNull();
 		assertThat(problem.getTitle()).isEqualTo(Status.NOT_FOUND.getReasonPhrase());
 		assertThat(problem.getStatus()).isEqualTo(Status.NOT_FOUND);
 		assertThat(problem.getDetail()).isEqualTo(format(ERROR_NOTE_NOT_FOUND, id));
-		verify(noteRepository).findById(id);
+		verify(noteRepository).updateById(id, null, null, null, null);
+		verifyNoMoreInteractions(noteRepository);
+		verifyNoInteractions(partyChangeRepository, partyNotesCache, noteEventBroadcaster, noteOutboxRepository, noteSearchEngine);
 	}
 
 	@Test
-	void deleteNoteById() {
+	void updateNoteWithVersionIdNotFound() {
+
+		// Setup
+		final var id = UUID.randomUUID();
+		final var request = UpdateNoteRequest.create();
+
+		// Mock
+		when(noteRepository.updateById(id, null, null, null, 1)).thenReturn(0);
+		when(noteRepository.existsById(id)).thenReturn(false);
+
+		// Call
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.updateNote(id.toString(), request, 1));
+
+		// Verification
+		assertThat(problem.getStatus()).isEqualTo(Status.NOT_FOUND);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_NOTE_NOT_FOUND, id));
+		verify(noteRepository).updateById(id, null, null, null, 1);
+		verify(noteRepository).existsById(id);
+		verifyNoMoreInteractions(noteRepository);
+		verifyNoInteractions(partyChangeRepository, partyNotesCache, noteEventBroadcaster, noteOutboxRepository, noteSearchEngine);
+	}
+
+	@Test
+	void updateNoteVersionMismatch() {
 
 		// Setup
-		final var id = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
+		final var request = UpdateNoteRequest.create();
 
 		// Mock
+		when(noteRepository.updateById(id, null, null, null, 1)).thenReturn(0);
 		when(noteRepository.existsById(id)).thenReturn(true);
 
 		// Call
-		noteService.deleteNoteById(id);
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.updateNote(id.toString(), request, 1));
 
 		// Verification
+		assertThat(problem).isNotNull();
+		assertThat(problem.getTitle()).isEqualTo(Status.PRECONDITION_FAILED.getReasonPhrase());
+		assertThat(problem.getStatus()).isEqualTo(Status.PRECONDITION_FAILED);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_NOTE_VERSION_MISMATCH, id, 1));
+		verify(noteRepository).updateById(id, null, null, null, 1);
 		verify(noteRepository).existsById(id);
-		verify(noteRepository).deleteById(id);
+		verifyNoMoreInteractions(noteRepository);
+		verifyNoInteractions(partyChangeRepository, partyNotesCache, noteEventBroadcaster, noteOutboxRepository, noteSearchEngine);
+	}
+
+	@Test
+	void deleteNoteById() {
+
+		// Setup
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+
+		// Mock
+		when(noteRepository.deleteByIdReturningPartyId(id)).thenReturn(List.of(partyId));
+
+		// Call
+		noteService.deleteNoteById(id.toString());
+
+		// Verification
+		verify(noteRepository).deleteByIdReturningPartyId(id);
+		verify(noteTombstoneRepository).insert(eq(id), eq(partyId), notNull());
+		verify(partyChangeRepository).incrementVersion(partyId);
+		verify(partyNotesCache).evict(partyId);
+		verify(noteEventBroadcaster).publish(EVENT_DELETED, id.toString(), partyId, null);
+		verify(noteSearchEngine).noteDeleted(id);
+		verify(noteOutboxRepository).saveAll(noteOutboxEntitiesCaptor.capture());
+		assertThat(noteOutboxEntitiesCaptor.getValue())
+			.extracting(NoteOutboxEntity::getEventType, NoteOutboxEntity::getNoteId, NoteOutboxEntity::getPartyId, NoteOutboxEntity::getPayload)
+			.containsExactly(tuple(EVENT_DELETED, id, partyId, "{\"type\":\"deleted\",\"noteId\":\"" + id + "\",\"partyId\":\"" + partyId + "\",\"note\":null}"));
+		verifyNoMoreInteractions(noteRepository);
 	}
 
 	@Test
 	void deleteNoteByIdNotFound() {
 
 		// Setup
-		final var id = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
+
+		// Mock
+		when(noteRepository.deleteByIdReturningPartyId(id)).thenReturn(List.of());
 
 		// Call
-		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.deleteNoteById(id));
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.deleteNoteById(id.toString()));
 
 		// Verification
 		assertThat(problem).isNotNull();
 		assertThat(problem.getTitle()).isEqualTo(Status.NOT_FOUND.getReasonPhrase());
 		assertThat(problem.getStatus()).isEqualTo(Status.NOT_FOUND);
 		assertThat(problem.getDetail()).isEqualTo(format(ERROR_NOTE_NOT_FOUND, id));
-		verify(noteRepository).existsById(id);
+		verify(noteRepository).deleteByIdReturningPartyId(id);
+		verifyNoInteractions(noteTombstoneRepository, partyChangeRepository, partyNotesCache, noteEventBroadcaster, noteOutboxRepository, noteSearchEngine);
+	}
+
+	@Test
+	void getNoteChanges() {
+
+		// Setup
+		final var created = OffsetDateTime.now().minusMinutes(10);
+		final var noteEntity1 = NoteEntity.create().withId(UUID.randomUUID()).withChangeSeq(11L).withCreated(created);
+		final var noteEntity2 = NoteEntity.create().withId(UUID.randomUUID()).withChangeSeq(13L).withCreated(created).withModified(created.plusMinutes(1));
+		final var noteTombstone = NoteTombstoneEntity.create().withChangeSeq(12L).withNoteId(UUID.randomUUID()).withDeleted(created.plusMinutes(2));
+		ReflectionTestUtils.setField(noteService, "settleTime", Duration.ofSeconds(5));
+
+		// Mock
+		when(noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(10L, PageRequest.of(0, 11))).thenReturn(List.of(noteEntity1, noteEntity2));
+		when(noteTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(10L, PageRequest.of(0, 11))).thenReturn(List.of(noteTombstone));
+
+		// Call
+		final var result = noteService.getNoteChanges(NoteChangeToken.encode(10), 10);
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(noteEntity1.getId().toString(), noteEntity2.getId().toString());
+		assertThat(result.getDeletedNotes()).extracting(DeletedNote::getId).containsExactly(noteTombstone.getNoteId().toString());
+		assertThat(result.getToken()).isEqualTo(NoteChangeToken.encode(13));
+		assertThat(result.isHasMore()).isFalse();
+	}
+
+	@Test
+	void getNoteChangesFromStart() {
+
+		// Setup
+		ReflectionTestUtils.setField(noteService, "settleTime", Duration.ofSeconds(5));
+
+		// Mock
+		when(noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PageRequest.of(0, 11))).thenReturn(List.of());
+		when(noteTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PageRequest.of(0, 11))).thenReturn(List.of());
+
+		// Call
+		final var result = noteService.getNoteChanges(null, 10);
+
+		// Verification
+		assertThat(result.getNotes()).isEmpty();
+		assertThat(result.getDeletedNotes()).isEmpty();
+		assertThat(result.getToken()).isEqualTo(NoteChangeToken.encode(0));
+		assertThat(result.isHasMore()).isFalse();
+	}
+
+	@Test
+	void getNoteChangesLimited() {
+
+		// Setup
+		final var created = OffsetDateTime.now().minusMinutes(10);
+		final var noteEntity1 = NoteEntity.create().withId(UUID.randomUUID()).withChangeSeq(1L).withCreated(created);
+		final var noteEntity2 = NoteEntity.create().withId(UUID.randomUUID()).withChangeSeq(3L).withCreated(created);
+		final var noteTombstone = NoteTombstoneEntity.create().withChangeSeq(2L).withNoteId(UUID.randomUUID()).withDeleted(created);
+		ReflectionTestUtils.setField(noteService, "settleTime", Duration.ofSeconds(5));
+
+		// Mock
+		when(noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PageRequest.of(0, 3))).thenReturn(List.of(noteEntity1, noteEntity2));
+		when(noteTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PageRequest.of(0, 3))).thenReturn(List.of(noteTombstone));
+
+		// Call
+		final var result = noteService.getNoteChanges(null, 2);
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(noteEntity1.getId().toString());
+		assertThat(result.getDeletedNotes()).extracting(DeletedNote::getId).containsExactly(noteTombstone.getNoteId().toString());
+		assertThat(result.getToken()).isEqualTo(NoteChangeToken.encode(2));
+		assertThat(result.isHasMore()).isTrue();
+	}
+
+	@Test
+	void getNoteChangesHoldsBackUnsettledChanges() {
+
+		// Setup
+		final var noteEntity1 = NoteEntity.create().withId(UUID.randomUUID()).withChangeSeq(1L).withCreated(OffsetDateTime.now().minusMinutes(10));
+		final var noteEntity2 = NoteEntity.create().withId(UUID.randomUUID()).withChangeSeq(2L).withCreated(OffsetDateTime.now());
+		final var noteTombstone = NoteTombstoneEntity.create().withChangeSeq(3L).withNoteId(UUID.randomUUID()).withDeleted(OffsetDateTime.now().minusMinutes(10));
+		ReflectionTestUtils.setField(noteService, "settleTime", Duration.ofMinutes(1));
+
+		// Mock
+		when(noteRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PageRequest.of(0, 11))).thenReturn(List.of(noteEntity1, noteEntity2));
+		when(noteTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PageRequest.of(0, 11))).thenReturn(List.of(noteTombstone));
+
+		// Call
+		final var result = noteService.getNoteChanges(null, 10);
+
+		// Verification: the unsettled change, and the settled change after it, are left for a later request.
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(noteEntity1.getId().toString());
+		assertThat(result.getDeletedNotes()).isEmpty();
+		assertThat(result.getToken()).isEqualTo(NoteChangeToken.encode(1));
+		assertThat(result.isHasMore()).isFalse();
+	}
+
+	@Test
+	void getNoteChangesInvalidToken() {
+
+		// Call
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.getNoteChanges("invalid", 10));
+
+		// Verification
+		assertThat(problem.getStatus()).isEqualTo(Status.BAD_REQUEST);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_INVALID_CHANGE_TOKEN, "invalid"));
+		verifyNoInteractions(noteRepository, noteTombstoneRepository);
 	}
 
 	@Test
 	void getNoteById() {
 
 		// Setup
-		final var id = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
 
 		// Mock
 		when(noteRepository.findById(id)).thenReturn(Optional.of(NoteEntity.create().withId(id)));
 
 		// Call
-		final var result = noteService.getNoteById(id);
+		final var result = noteService.getNoteById(id.toString());
 
 		// Verification
 		assertThat(result).isNotNull();
-		assertThat(result.getId()).isEqualTo(id);
+		assertThat(result.getId()).isEqualTo(id.toString());
 		verify(noteRepository).findById(id);
 	}
 
@@ -201,13 +526,13 @@ class NoteServiceTest {
 	void getNoteByIdNotFound() {
 
 		// Setup
-		final var id = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
 
 		// Mock
 		when(noteRepository.findById(id)).thenReturn(Optional.empty());
 
 		// Call
-		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.getNoteById(id));
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.getNoteById(id.toString()));
 
 		// Verification
 		assertThat(problem).isNotNull();
@@ -217,25 +542,435 @@ class NoteServiceTest {
 		verify(noteRepository).findById(id);
 	}
 
+	@Test
+	void getNotesByIds() {
+
+		// Setup
+		final var id1 = UUID.randomUUID();
+		final var id2 = UUID.randomUUID();
+		final var missingId = UUID.randomUUID();
+		ReflectionTestUtils.setField(noteService, "maximumIds", 10);
+
+		// Mock
+		when(noteRepository.findAllById(List.of(id2, missingId, id1))).thenReturn(List.of(NoteEntity.create().withId(id1), NoteEntity.create().withId(id2)));
+
+		// Call
+		final var result = noteService.getNotesByIds(List.of(id2, missingId, id1, id2));
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(id2.toString(), id1.toString());
+		assertThat(result.getMissingIds()).containsExactly(missingId.toString());
+		verify(cacheManager).getCache(CACHE_NOTES);
+		verify(noteRepository).findAllById(List.of(id2, missingId, id1));
+		verifyNoMoreInteractions(noteRepository);
+	}
+
+	@Test
+	void createNotesTooManyNotes() {
+
+		// Setup
+		final var createNoteRequests = List.of(CreateNoteRequest.create(), CreateNoteRequest.create(), CreateNoteRequest.create());
+		ReflectionTestUtils.setField(noteService, "maximumNotes", 2);
+
+		// Call
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.createNotes(createNoteRequests));
+
+		// Verification
+		assertThat(problem.getStatus()).isEqualTo(Status.BAD_REQUEST);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_TOO_MANY_NOTES, 3, 2));
+		verifyNoInteractions(noteRepository, partyChangeRepository, noteOutboxRepository);
+	}
+
+	@Test
+	void getNotesByIdsTooManyIds() {
+
+		// Setup
+		final var ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		ReflectionTestUtils.setField(noteService, "maximumIds", 2);
+
+		// Call
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.getNotesByIds(ids));
+
+		// Verification
+		assertThat(problem.getStatus()).isEqualTo(Status.BAD_REQUEST);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_TOO_MANY_IDS, 3, 2));
+		verifyNoInteractions(noteRepository, cacheManager);
+	}
+
+	@Test
+	void subscribeToEvents() {
+		final var partyId = UUID.randomUUID();
+		final var emitter = new SseEmitter();
+
+		when(noteEventBroadcaster.subscribe(partyId, 42L)).thenReturn(emitter);
+
+		assertThat(noteService.subscribeToEvents(partyId.toString(), 42L)).isSameAs(emitter);
+		verify(noteEventBroadcaster).subscribe(partyId, 42L);
+		verifyNoInteractions(noteRepository, partyNotesCache);
+	}
+
+	@Test
+	void getPartyChangeToken() {
+		final var partyId = UUID.randomUUID();
+
+		when(partyChangeRepository.findVersionByPartyId(partyId)).thenReturn(Optional.of(3L));
+
+		assertThat(noteService.getPartyChangeToken(partyId.toString())).isEqualTo(3L);
+		verify(partyChangeRepository).findVersionByPartyId(partyId);
+		verifyNoInteractions(noteRepository, partyNotesCache);
+	}
+
+	@Test
+	void getPartyChangeTokenNeverChanged() {
+		final var partyId = UUID.randomUUID();
+
+		when(partyChangeRepository.findVersionByPartyId(partyId)).thenReturn(Optional.empty());
+
+		assertThat(noteService.getPartyChangeToken(partyId.toString())).isZero();
+	}
+
+	@Test
+	void getNotesByPartyIdFromCache() {
+
+		// Setup
+		final var partyId = UUID.randomUUID();
+		final var cached = FindNotesResponse.create();
+
+		// Mock
+		when(partyNotesCache.get(eq(partyId), eq("3:full:10:null:" + NoteFilter.create()), any())).thenReturn(cached);
+
+		// Call
+		final var result = noteService.getNotesByPartyId(partyId.toString(), 3L, NoteFilter.create(), 10, null, "full");
+
+		// Verification
+		assertThat(result).isSameAs(cached);
+		verifyNoInteractions(noteRepository);
+	}
+
 	@Test
 	void getNotesByPartyId() {
 
 		// Setup
-		final var id = UUID.randomUUID().toString();
-		final var partyId = UUID.randomUUID().toString();
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var limit = 10;
 
 		// Mock
-		when(noteRepository.findByPartyIdOrderByCreated(partyId)).thenReturn(List.of(NoteEntity.create().withId(id).withPartyId(partyId)));
+		when(noteRepository.findByPartyIdOrderByCreatedAscIdAsc(partyId, PageRequest.of(0, limit + 1))).thenReturn(List.of(NoteEntity.create().withId(id).withPartyId(partyId)));
+		when(partyNotesCache.get(any(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<FindNotesResponse>>getArgument(2).get());
 
 		// Call
-		final var result = noteService.getNotesByPartyId(partyId);
+		final var result = noteService.getNotesByPartyId(partyId.toString(), 3L, NoteFilter.create(), limit, null, "full");
 
 		// Verification
-		assertThat(result).isNotNull().hasSize(1).extracting(
+		assertThat(result).isNotNull();
+		assertThat(result.getNotes()).isNotNull().hasSize(1).extracting(
 			Note::getId,
 			Note::getPartyId)
-			.containsExactly(tuple(id, partyId));
+			.containsExactly(tuple(id.toString(), partyId.toString()));
+		assertThat(result.getMetaData()).isEqualTo(PagingMetaData.create().withLimit(limit).withCount(1));
+
+		verify(noteRepository).findByPartyIdOrderByCreatedAscIdAsc(partyId, PageRequest.of(0, limit + 1));
+		verifyNoMoreInteractions(noteRepository);
+	}
+
+	@Test
+	void getNotesByPartyIdWithNextPage() {
+
+		// Setup
+		final var partyId = UUID.randomUUID();
+		final var created = OffsetDateTime.now();
+		final var noteEntity1 = NoteEntity.create().withId(UUID.randomUUID()).withPartyId(partyId).withCreated(created);
+		final var noteEntity2 = NoteEntity.create().withId(UUID.randomUUID()).withPartyId(partyId).withCreated(created.plusSeconds(1));
+		final var limit = 1;
+
+		// Mock
+		when(noteRepository.findByPartyIdOrderByCreatedAscIdAsc(partyId, PageRequest.of(0, limit + 1))).thenReturn(List.of(noteEntity1, noteEntity2));
+
+		when(partyNotesCache.get(any(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<FindNotesResponse>>getArgument(2).get());
+
+		// Call
+		final var result = noteService.getNotesByPartyId(partyId.toString(), 3L, NoteFilter.create(), limit, null, "full");
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(noteEntity1.getId().toString());
+		assertThat(result.getMetaData().getCount()).isOne();
+		assertThat(result.getMetaData().getLimit()).isEqualTo(limit);
+		assertThat(result.getMetaData().getNext()).isEqualTo(NoteCursor.encode(created, noteEntity1.getId()));
+	}
+
+	@Test
+	void getNotesByPartyIdWithCursor() {
+
+		// Setup
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var created = OffsetDateTime.now();
+		final var cursorId = UUID.randomUUID();
+		final var cursor = NoteCursor.encode(created, cursorId);
+		final var limit = 10;
+
+		// Mock
+		when(noteRepository.findByPartyIdAfter(partyId, created, cursorId, PageRequest.of(0, limit + 1))).thenReturn(List.of(NoteEntity.create().withId(id).withPartyId(partyId)));
+		when(partyNotesCache.get(any(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<FindNotesResponse>>getArgument(2).get());
+
+		// Call
+		final var result = noteService.getNotesByPartyId(partyId.toString(), 3L, NoteFilter.create(), limit, cursor, "full");
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(id.toString());
+		assertThat(result.getMetaData().getNext()).isNull();
+
+		verify(noteRepository).findByPartyIdAfter(partyId, created, cursorId, PageRequest.of(0, limit + 1));
+		verifyNoMoreInteractions(noteRepository);
+	}
+
+	@Test
+	void getNotesByPartyIdSummary() {
+
+		// Setup
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var limit = 10;
+		final var noteSummary = mock(NoteSummaryProjection.class);
+
+		// Mock
+		when(noteSummary.getId()).thenReturn(id);
+		when(noteSummary.getSubject()).thenReturn("subject");
+		when(noteRepository.findSummaryByPartyIdOrderByCreatedAscIdAsc(partyId, PageRequest.of(0, limit + 1))).thenReturn(List.of(noteSummary));
+		when(partyNotesCache.get(eq(partyId), eq("3:summary:10:null:" + NoteFilter.create()), any())).thenAnswer(invocation -> invocation.<Supplier<FindNotesResponse>>getArgument(2).get());
+
+		// Call
+		final var result = noteService.getNotesByPartyId(partyId.toString(), 3L, NoteFilter.create(), limit, null, "summary");
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId, Note::getSubject, Note::getBody).containsExactly(tuple(id.toString(), "subject", null));
+		assertThat(result.getMetaData()).isEqualTo(PagingMetaData.create().withLimit(limit).withCount(1));
+
+		verify(noteRepository).findSummaryByPartyIdOrderByCreatedAscIdAsc(partyId, PageRequest.of(0, limit + 1));
+		verifyNoMoreInteractions(noteRepository);
+	}
+
+	@Test
+	void getNotesByPartyIdSummaryWithCursor() {
+
+		// Setup
+		final var partyId = UUID.randomUUID();
+		final var created = OffsetDateTime.now();
+		final var cursorId = UUID.randomUUID();
+		final var cursor = NoteCursor.encode(created, cursorId);
+		final var limit = 10;
+
+		// Mock
+		when(noteRepository.findSummaryByPartyIdAfter(partyId, created, cursorId, PageRequest.of(0, limit + 1))).thenReturn(List.of());
+		when(partyNotesCache.get(any(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<FindNotesResponse>>getArgument(2).get());
+
+		// Call
+		final var result = noteService.getNotesByPartyId(partyId.toString(), 3L, NoteFilter.create(), limit, cursor, "summary");
+
+		// Verification
+		assertThat(result.getNotes()).isEmpty();
+		assertThat(result.getMetaData().getNext()).isNull();
+
+		verify(noteRepository).findSummaryByPartyIdAfter(partyId, created, cursorId, PageRequest.of(0, limit + 1));
+		verifyNoMoreInteractions(noteRepository);
+	}
+
+	@Test
+	void getNotesByPartyIdWithFilter() {
+
+		// Setup
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var created = OffsetDateTime.now();
+		final var limit = 10;
+		final var filter = NoteFilter.create().withCreatedFrom(created.minusDays(1)).withCreatedBy("createdBy");
+
+		// Mock
+		when(noteRepository.findAllOrderedByCreated(any(), eq(limit + 1))).thenReturn(List.of(NoteEntity.create().withId(id).withPartyId(partyId).withCreated(created)));
+		when(partyNotesCache.get(eq(partyId), eq("3:full:10:null:" + filter), any())).thenAnswer(invocation -> invocation.<Supplier<FindNotesResponse>>getArgument(2).get());
+
+		// Call
+		final var result = noteService.getNotesByPartyId(partyId.toString(), 3L, filter, limit, null, "full");
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId, Note::getPartyId).containsExactly(tuple(id.toString(), partyId.toString()));
+		assertThat(result.getMetaData()).isEqualTo(PagingMetaData.create().withLimit(limit).withCount(1));
 
-		verify(noteRepository).findByPartyIdOrderByCreated(partyId);
+		verify(noteRepository).findAllOrderedByCreated(any(), eq(limit + 1));
+		verifyNoMoreInteractions(noteRepository);
+	}
+
+	@Test
+	void getNotesByPartyIdSummaryWithFilterAndCursor() {
+
+		// Setup
+		final var partyId = UUID.randomUUID();
+		final var created = OffsetDateTime.now();
+		final var cursor = NoteCursor.encode(created, UUID.randomUUID());
+		final var limit = 10;
+		final var filter = NoteFilter.create().withModifiedSince(created.minusDays(1));
+
+		// Mock
+		when(noteRepository.findSummariesOrderedByCreated(any(), eq(limit + 1))).thenReturn(List.of());
+		when(partyNotesCache.get(any(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<FindNotesResponse>>getArgument(2).get());
+
+		// Call
+		final var result = noteService.getNotesByPartyId(partyId.toString(), 3L, filter, limit, cursor, "summary");
+
+		// Verification
+		assertThat(result.getNotes()).isEmpty();
+		assertThat(result.getMetaData().getNext()).isNull();
+
+		verify(noteRepository).findSummariesOrderedByCreated(any(), eq(limit + 1));
+		verifyNoMoreInteractions(noteRepository);
+	}
+
+	@Test
+	void exportNotesByPartyId() {
+
+		// Setup
+		final var partyId = UUID.randomUUID();
+		final var noteEntity1 = NoteEntity.create().withId(UUID.randomUUID()).withPartyId(partyId);
+		final var noteEntity2 = NoteEntity.create().withId(UUID.randomUUID()).withPartyId(partyId);
+		final var exported = new ArrayList<Note>();
+
+		// Mock
+		when(noteRepository.streamByPartyId(partyId)).thenReturn(Stream.of(noteEntity1, noteEntity2));
+
+		// Call
+		noteService.exportNotes(partyId.toString(), exported::add);
+
+		// Verification
+		assertThat(exported).extracting(Note::getId).containsExactly(noteEntity1.getId().toString(), noteEntity2.getId().toString());
+		verify(entityManager).detach(noteEntity1);
+		verify(entityManager).detach(noteEntity2);
+		verify(noteRepository).streamByPartyId(partyId);
+		verifyNoMoreInteractions(noteRepository, entityManager);
+	}
+
+	@Test
+	void exportAllNotes() {
+
+		// Setup
+		final var noteEntity = NoteEntity.create().withId(UUID.randomUUID());
+		final var exported = new ArrayList<Note>();
+
+		// Mock
+		when(noteRepository.streamAll()).thenReturn(Stream.of(noteEntity));
+
+		// Call
+		noteService.exportNotes(null, exported::add);
+
+		// Verification
+		assertThat(exported).extracting(Note::getId).containsExactly(noteEntity.getId().toString());
+		verify(entityManager).detach(noteEntity);
+		verify(noteRepository).streamAll();
+		verifyNoMoreInteractions(noteRepository, entityManager);
+	}
+
+	@Test
+	void getNotesByPartyIdWithInvalidCursor() {
+
+		// Setup
+		final var partyId = UUID.randomUUID();
+		final var cursor = "invalid";
+
+		// Mock
+		when(partyNotesCache.get(any(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<FindNotesResponse>>getArgument(2).get());
+
+		// Call
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.getNotesByPartyId(partyId.toString(), 3L, NoteFilter.create(), 10, cursor, "full"));
+
+		// Verification
+		assertThat(problem.getStatus()).isEqualTo(Status.BAD_REQUEST);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_INVALID_CURSOR, cursor));
+		verifyNoInteractions(noteRepository);
+	}
+
+	@Test
+	void searchNotes() {
+
+		// Setup
+		final var partyId = UUID.randomUUID();
+		final var noteEntity1 = NoteEntity.create().withId(UUID.randomUUID()).withPartyId(partyId).withSubject("subject1");
+		final var noteEntity2 = NoteEntity.create().withId(UUID.randomUUID()).withPartyId(partyId).withSubject("subject2");
+		final var limit = 10;
+
+		// Mock
+		when(noteSearchEngine.search(partyId, "query", null, null, limit + 1)).thenReturn(List.of(new NoteSearchResult(noteEntity1, 0.9), new NoteSearchResult(noteEntity2, 0.5)));
+
+		// Call
+		final var result = noteService.searchNotes(partyId.toString(), "query", limit, null);
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId, Note::getSubject).containsExactly(
+			tuple(noteEntity1.getId().toString(), "subject1"),
+			tuple(noteEntity2.getId().toString(), "subject2"));
+		assertThat(result.getMetaData().getCount()).isEqualTo(2);
+		assertThat(result.getMetaData().getLimit()).isEqualTo(limit);
+		assertThat(result.getMetaData().getNext()).isNull();
+		verify(noteRepository).search(partyId, "query", null, null, limit + 1);
+		verifyNoMoreInteractions(noteSearchEngine);
+	}
+
+	@Test
+	void searchNotesWithNextPage() {
+
+		// Setup
+		final var partyId = UUID.randomUUID();
+		final var noteEntity1 = NoteEntity.create().withId(UUID.randomUUID()).withPartyId(partyId);
+		final var noteEntity2 = NoteEntity.create().withId(UUID.randomUUID()).withPartyId(partyId);
+		final var limit = 1;
+
+		// Mock
+		when(noteSearchEngine.search(partyId, "query", null, null, limit + 1)).thenReturn(List.of(new NoteSearchResult(noteEntity1, 0.9), new NoteSearchResult(noteEntity2, 0.5)));
+
+		// Call
+		final var result = noteService.searchNotes(partyId.toString(), "query", limit, null);
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(noteEntity1.getId().toString());
+		assertThat(result.getMetaData().getCount()).isOne();
+		assertThat(result.getMetaData().getNext()).isEqualTo(NoteSearchCursor.encode(0.9, noteEntity1.getId()));
+	}
+
+	@Test
+	void searchNotesWithCursor() {
+
+		// Setup
+		final var id = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var cursorId = UUID.randomUUID();
+		final var cursor = NoteSearchCursor.encode(0.9, cursorId);
+		final var limit = 10;
+
+		// Mock
+		when(noteSearchEngine.search(partyId, "query", 0.9, cursorId, limit + 1)).thenReturn(List.of(new NoteSearchResult(NoteEntity.create().withId(id).withPartyId(partyId), 0.5)));
+
+		// Call
+		final var result = noteService.searchNotes(partyId.toString(), "query", limit, cursor);
+
+		// Verification
+		assertThat(result.getNotes()).extracting(Note::getId).containsExactly(id.toString());
+		assertThat(result.getMetaData().getNext()).isNull();
+		verify(noteRepository).search(partyId, "query", 0.9, cursorId, limit + 1);
+		verifyNoMoreInteractions(noteSearchEngine);
+	}
+
+	@Test
+	void searchNotesWithInvalidCursor() {
+
+		// Setup
+		final var partyId = UUID.randomUUID().toString();
+		final var cursor = "invalid";
+
+		// Call
+		final var problem = assertThrows(ThrowableProblem.class, () -> noteService.searchNotes(partyId, "query", 10, cursor));
+
+		// Verification
+		assertThat(problem.getStatus()).isEqualTo(Status.BAD_REQUEST);
+		assertThat(problem.getDetail()).isEqualTo(format(ERROR_INVALID_CURSOR, cursor));
+		verifyNoInteractions(noteSearchEngine);
 	}
 }
@@ -0,0 +1,219 @@
+package se.sundsvall.notes.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import se.sundsvall.notes.api.model.FindNotesResponse;
+import se.sundsvall.notes.api.model.Note;
+
+class PartyNotesCacheTest {
+
+	private static final UUID PARTY_ID = UUID.randomUUID();
+	private static final UUID OTHER_PARTY_ID = UUID.randomUUID();
+
+	private SimpleMeterRegistry meterRegistry;
+	private PartyNotesCache partyNotesCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		partyNotesCache = new PartyNotesCache(meterRegistry, 1_000_000, 10_000, Duration.ofMinutes(1));
+	}
+
+	@Test
+	void getLoadsOnceAndCaches() {
+		final var page = page("body");
+		final var loader = loader(page);
+
+		assertThat(partyNotesCache.get(PARTY_ID, "10:null", loader)).isSameAs(page);
+		assertThat(partyNotesCache.get(PARTY_ID, "10:null", loader)).isSameAs(page);
+
+		verify(loader).get();
+	}
+
+	@Test
+	void getCachesPagesSeparately() {
+		final var firstPage = page("first");
+		final var secondPage = page("second");
+
+		partyNotesCache.get(PARTY_ID, "10:null", loader(firstPage));
+
+		assertThat(partyNotesCache.get(PARTY_ID, "10:cursor", loader(secondPage))).isSameAs(secondPage);
+		assertThat(partyNotesCache.get(PARTY_ID, "10:null", loader(page("other")))).isSameAs(firstPage);
+	}
+
+	@Test
+	void evictAll() {
+		final var loader = loader(page("body"));
+		final var otherLoader = loader(page("body"));
+
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+		partyNotesCache.get(OTHER_PARTY_ID, "10:null", otherLoader);
+
+		partyNotesCache.evictAll();
+
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+		partyNotesCache.get(OTHER_PARTY_ID, "10:null", otherLoader);
+
+		verify(loader, times(2)).get();
+		verify(otherLoader, times(2)).get();
+	}
+
+	@Test
+	void evictOnlyAffectsParty() {
+		final var loader = loader(page("body"));
+		final var otherLoader = loader(page("body"));
+
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+		partyNotesCache.get(OTHER_PARTY_ID, "10:null", otherLoader);
+
+		partyNotesCache.evict(PARTY_ID);
+
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+		partyNotesCache.get(OTHER_PARTY_ID, "10:null", otherLoader);
+
+		verify(loader, times(2)).get();
+		verify(otherLoader).get();
+	}
+
+	@Test
+	void evictIsDeferredUntilCommit() {
+		final var loader = loader(page("body"));
+
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			partyNotesCache.evict(PARTY_ID);
+			partyNotesCache.get(PARTY_ID, "10:null", loader);
+			verify(loader).get();
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCommit());
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+		verify(loader, times(2)).get();
+	}
+
+	@Test
+	void pageLoadedBeforeEvictIsNotCached() {
+		final var page = page("body");
+		final var loader = loader(page);
+
+		// The party is evicted by a write committing while the page is being loaded.
+		final Supplier<FindNotesResponse> evictingLoader = () -> {
+			partyNotesCache.evict(PARTY_ID);
+			return page("stale");
+		};
+
+		partyNotesCache.get(PARTY_ID, "10:null", evictingLoader);
+
+		assertThat(partyNotesCache.get(PARTY_ID, "10:null", loader)).isSameAs(page);
+		verify(loader).get();
+	}
+
+	@Test
+	void loadDoesNotBlockOtherLoadsOfParty() throws Exception {
+		final var loading = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var executor = Executors.newSingleThreadExecutor();
+
+		try {
+			final var blocked = executor.submit(() -> partyNotesCache.get(PARTY_ID, "10:null", () -> {
+				loading.countDown();
+				await(release);
+				return page("first");
+			}));
+			assertThat(loading.await(5, SECONDS)).isTrue();
+
+			// Another page of the same party is loaded and cached while the first load is still in progress.
+			final var secondPage = page("second");
+			assertThat(partyNotesCache.get(PARTY_ID, "10:cursor", loader(secondPage))).isSameAs(secondPage);
+
+			release.countDown();
+			assertThat(blocked.get(5, SECONDS).getNotes()).extracting(Note::getBody).containsExactly("first");
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void tooHeavyPartyIsNotCached() {
+		final var loader = loader(page("x".repeat(10_000)));
+
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+
+		verify(loader, times(2)).get();
+	}
+
+	@Test
+	void failingLoaderIsNotCached() {
+		final Supplier<FindNotesResponse> failingLoader = () -> {
+			throw new IllegalStateException();
+		};
+		final var loader = loader(page("body"));
+
+		assertThrows(IllegalStateException.class, () -> partyNotesCache.get(PARTY_ID, "10:null", failingLoader));
+		partyNotesCache.get(PARTY_ID, "10:null", loader);
+
+		verify(loader).get();
+	}
+
+	@Test
+	void weigh() {
+		final var page = page("body");
+
+		// Overhead plus two bytes per char of subject and body.
+		assertThat(PartyNotesCache.weigh(Map.of("10:null", page))).isEqualTo(256 + 2 * "subject".length() + 2 * "body".length());
+		assertThat(PartyNotesCache.weigh(Map.of("10:null", FindNotesResponse.create()))).isZero();
+	}
+
+	@Test
+	void metricsAreRegistered() {
+		partyNotesCache.get(PARTY_ID, "10:null", loader(page("body")));
+
+		assertThat(meterRegistry.find("cache.size").tag("cache", PartyNotesCache.CACHE_NAME).gauge()).isNotNull();
+		assertThat(meterRegistry.find("cache.gets").tag("cache", PartyNotesCache.CACHE_NAME).functionCounters()).isNotEmpty();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static FindNotesResponse page(String body) {
+		return FindNotesResponse.create().withNotes(List.of(Note.create().withSubject("subject").withBody(body)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Supplier<FindNotesResponse> loader(FindNotesResponse page) {
+		final Supplier<FindNotesResponse> loader = mock(Supplier.class);
+		when(loader.get()).thenReturn(page);
+		return loader;
+	}
+}
@@ -2,16 +2,23 @@ package se.sundsvall.notes.service.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
 import se.sundsvall.notes.api.model.CreateNoteRequest;
+import se.sundsvall.notes.api.model.DeletedNote;
 import se.sundsvall.notes.api.model.Note;
-import se.sundsvall.notes.api.model.UpdateNoteRequest;
+import se.sundsvall.notes.api.model.NoteEvent;
 import se.sundsvall.notes.integration.db.model.NoteEntity;
+import se.sundsvall.notes.integration.db.model.NoteOutboxEntity;
+import se.sundsvall.notes.integration.db.model.NoteSummaryProjection;
+import se.sundsvall.notes.integration.db.model.NoteTombstoneEntity;
 
 class NoteMapperTest {
 
@@ -19,14 +26,14 @@ class NoteMapperTest {
 	void toNoteEntityFromCreateNoteRequest() {
 		final var body = "body";
 		final var createdBy = "createdBy";
-		final var partyId = "partyId";
+		final var partyId = UUID.randomUUID();
 		final var subject = "subject";
 
 		// Setup
 		final var createNoteRequest = CreateNoteRequest.create()
 			.withBody(body)
 			.withCreatedBy(createdBy)
-			.withPartyId(partyId)
+			.withPartyId(partyId.toString())
 			.withSubject(subject);
 
 		// Call
@@ -55,85 +62,15 @@ class NoteMapperTest {
 		assertThat(webMessageEntity).isNull();
 	}
 
-	@Test
-	void updateNoteEntityFromUpdateNoteRequest() {
-		final var body = "body";
-		final var created = OffsetDateTime.now();
-		final var createdBy = "createdBy";
-		final var id = "id";
-		final var partyId = "partyId";
-		final var subject = "subject";
-		final var modifiedBy = "modifiedBy";
-		
-		// Setup
-		final var noteEntity = NoteEntity.create()
-				.withBody(body)
-				.withCreated(created)
-				.withCreatedBy(createdBy)
-				.withId(id)
-				.withPartyId(partyId)
-				.withSubject(subject);
-		
-		final var updateNoteRequest = UpdateNoteRequest.create()
-				.withBody(body.concat("updated"))
-				.withModifiedBy(modifiedBy)
-				.withSubject(subject.concat("updated"));
-		
-		// Call
-		final var updatedNoteEntity = NoteMapper.toNoteEntity(noteEntity, updateNoteRequest);
-		
-		// Verification
-		assertThat(updatedNoteEntity.getId()).isEqualTo(id);
-		assertThat(updatedNoteEntity.getBody()).isEqualTo(body.concat("updated"));
-		assertThat(updatedNoteEntity.getCreated()).isEqualTo(created);
-		assertThat(updatedNoteEntity.getCreatedBy()).isEqualTo(createdBy);
-		assertThat(updatedNoteEntity.getPartyId()).isEqualTo(partyId);
-		assertThat(updatedNoteEntity.getSubject()).isEqualTo(subject.concat("updated"));
-		assertThat(updatedNoteEntity.getModified()).isNull();
-		assertThat(updatedNoteEntity.getModifiedBy()).isEqualTo(modifiedBy);
-	}
-
-	@Test
-	void updateNoteEntityFromNull() {
-		final var body = "body";
-		final var created = OffsetDateTime.now();
-		final var createdBy = "createdBy";
-		final var id = "id";
-		final var partyId = "partyId";
-		final var subject = "subject";
-		
-		// Setup
-		final var noteEntity = NoteEntity.create()
-				.withBody(body)
-				.withCreated(created)
-				.withCreatedBy(createdBy)
-				.withId(id)
-				.withPartyId(partyId)
-				.withSubject(subject);
-		
-		// Call
-		final var updatedNoteEntity = NoteMapper.toNoteEntity(noteEntity, null);
-		
-		// Verification
-		assertThat(updatedNoteEntity.getId()).isEqualTo(id);
-		assertThat(updatedNoteEntity.getBody()).isEqualTo(body);
-		assertThat(updatedNoteEntity.getCreated()).isEqualTo(created);
-		assertThat(updatedNoteEntity.getCreatedBy()).isEqualTo(createdBy);
-		assertThat(updatedNoteEntity.getPartyId()).isEqualTo(partyId);
-		assertThat(updatedNoteEntity.getSubject()).isEqualTo(subject);
-		assertThat(updatedNoteEntity.getModified()).isNull();
-		assertThat(updatedNoteEntity.getModifiedBy()).isNull();
-	}
-	
 	@Test
 	void toNote() {
 		final var body = "body";
 		final var created = OffsetDateTime.now().minusDays(7L);
 		final var createdBy = "createdBy";
-		final var id = "id";
+		final var id = UUID.randomUUID();
 		final var modified = OffsetDateTime.now();
 		final var modifiedBy = "modifiedBy";
-		final var partyId = "partyId";
+		final var partyId = UUID.randomUUID();
 		final var subject = "subject";
 		
 		// Setup
@@ -154,10 +91,10 @@ class NoteMapperTest {
 		assertThat(note.getBody()).isEqualTo(body);
 		assertThat(note.getCreated()).isEqualTo(created);
 		assertThat(note.getCreatedBy()).isEqualTo(createdBy);
-		assertThat(note.getId()).isEqualTo(id);
+		assertThat(note.getId()).isEqualTo(id.toString());
 		assertThat(note.getModified()).isEqualTo(modified);
 		assertThat(note.getModifiedBy()).isEqualTo(modifiedBy);
-		assertThat(note.getPartyId()).isEqualTo(partyId);
+		assertThat(note.getPartyId()).isEqualTo(partyId.toString());
 		assertThat(note.getSubject()).isEqualTo(subject);
 	}
 
@@ -176,10 +113,10 @@ class NoteMapperTest {
 		final var body = "body";
 		final var created = OffsetDateTime.now().minusDays(7L);
 		final var createdBy = "createdBy";
-		final var id = "id";
+		final var id = UUID.randomUUID();
 		final var modified = OffsetDateTime.now();
 		final var modifiedBy = "modifiedBy";
-		final var partyId = "partyId";
+		final var partyId = UUID.randomUUID();
 		final var subject = "subject";
 		
 		// Setup
@@ -206,7 +143,7 @@ class NoteMapperTest {
 				Note::getModifiedBy,
 				Note::getPartyId,
 				Note::getSubject)
-		.containsExactly(tuple(body, created, createdBy, id, modified, modifiedBy, partyId, subject));
+		.containsExactly(tuple(body, created, createdBy, id.toString(), modified, modifiedBy, partyId.toString(), subject));
 	}
 
 	@Test
@@ -218,4 +155,131 @@ class NoteMapperTest {
 		// Verification
 		assertThat(notes).isEmpty();
 	}
+
+	@Test
+	void toNoteSummaries() {
+		final var created = OffsetDateTime.now().minusDays(7L);
+		final var id = UUID.randomUUID();
+		final var modified = OffsetDateTime.now();
+		final var partyId = UUID.randomUUID();
+
+		// Setup
+		final var noteSummary = mock(NoteSummaryProjection.class);
+		when(noteSummary.getCreated()).thenReturn(created);
+		when(noteSummary.getCreatedBy()).thenReturn("createdBy");
+		when(noteSummary.getId()).thenReturn(id);
+		when(noteSummary.getModified()).thenReturn(modified);
+		when(noteSummary.getModifiedBy()).thenReturn("modifiedBy");
+		when(noteSummary.getPartyId()).thenReturn(partyId);
+		when(noteSummary.getSubject()).thenReturn("subject");
+
+		// Call
+		final var notes = NoteMapper.toNoteSummaries(List.of(noteSummary));
+
+		// Verification
+		assertThat(notes).hasSize(1).extracting(
+				Note::getBody,
+				Note::getCreated,
+				Note::getCreatedBy,
+				Note::getId,
+				Note::getModified,
+				Note::getModifiedBy,
+				Note::getPartyId,
+				Note::getSubject)
+		.containsExactly(tuple(null, created, "createdBy", id.toString(), modified, "modifiedBy", partyId.toString(), "subject"));
+	}
+
+	@Test
+	void toNoteSummariesFromNull() {
+
+		// Call
+		final var notes = NoteMapper.toNoteSummaries(null);
+
+		// Verification
+		assertThat(notes).isEmpty();
+	}
+
+	@Test
+	void toNoteEvent() {
+		final var noteId = UUID.randomUUID().toString();
+		final var partyId = UUID.randomUUID();
+		final var note = Note.create().withId(noteId);
+
+		// Call
+		final var noteEvent = NoteMapper.toNoteEvent("updated", noteId, partyId, note);
+
+		// Verification
+		assertThat(noteEvent)
+			.extracting(NoteEvent::getType, NoteEvent::getNoteId, NoteEvent::getPartyId, NoteEvent::getNote)
+			.containsExactly("updated", noteId, partyId.toString(), note);
+	}
+
+	@Test
+	void toNoteOutboxEntity() {
+		final var noteId = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var noteEvent = NoteEvent.create().withType("deleted").withNoteId(noteId.toString()).withPartyId(partyId.toString());
+
+		// Call
+		final var noteOutboxEntity = NoteMapper.toNoteOutboxEntity(noteEvent, "payload");
+
+		// Verification
+		assertThat(noteOutboxEntity)
+			.extracting(NoteOutboxEntity::getId, NoteOutboxEntity::getEventType, NoteOutboxEntity::getNoteId, NoteOutboxEntity::getPartyId, NoteOutboxEntity::getPayload,
+				NoteOutboxEntity::getCreated)
+			.containsExactly(null, "deleted", noteId, partyId, "payload", null);
+	}
+
+	@Test
+	void toNoteOutboxEntityFromNull() {
+
+		// Call
+		final var noteOutboxEntity = NoteMapper.toNoteOutboxEntity(null, "payload");
+
+		// Verification
+		assertThat(noteOutboxEntity).isNull();
+	}
+
+	@Test
+	void toDeletedNote() {
+		final var noteId = UUID.randomUUID();
+		final var partyId = UUID.randomUUID();
+		final var deleted = OffsetDateTime.now();
+		final var noteTombstoneEntity = NoteTombstoneEntity.create().withChangeSeq(42L).withNoteId(noteId).withPartyId(partyId).withDeleted(deleted);
+
+		// Call
+		final var deletedNote = NoteMapper.toDeletedNote(noteTombstoneEntity);
+
+		// Verification
+		assertThat(deletedNote)
+			.extracting(DeletedNote::getId, DeletedNote::getPartyId, DeletedNote::getDeleted)
+			.containsExactly(noteId.toString(), partyId.toString(), deleted);
+	}
+
+	@Test
+	void toDeletedNoteFromNull() {
+
+		// Call
+		final var deletedNote = NoteMapper.toDeletedNote(null);
+
+		// Verification
+		assertThat(deletedNote).isNull();
+	}
+
+	@Test
+	void toUuid() {
+		final var uuid = UUID.randomUUID();
+
+		assertThat(NoteMapper.toUuid(uuid.toString())).isEqualTo(uuid);
+		assertThat(NoteMapper.toUuid(uuid.toString().toUpperCase())).isEqualTo(uuid);
+		assertThat(NoteMapper.toUuid(null)).isNull();
+	}
+
+	@Test
+	void fromUuid() {
+		final var uuid = UUID.randomUUID();
+
+		assertThat(NoteMapper.fromUuid(uuid)).isEqualTo(uuid.toString());
+		assertThat(NoteMapper.fromUuid(null)).isNull();
+	}
 }
@@ -1,20 +1,51 @@
+create sequence note_change_seq start with 1 increment by 1;
 
     create table note (
-       id varchar(255) not null,
+       id binary(16) not null,
         body longtext,
+        change_seq bigint default (nextval(note_change_seq)),
         created datetime(6),
         created_by varchar(255),
+        last_changed datetime(6) as (coalesce(modified, created)) persistent,
         modified datetime(6),
         modified_by varchar(255),
-        party_id varchar(255),
+        party_id binary(16),
         subject varchar(255),
+        version integer default 0 not null,
         primary key (id)
     ) engine=InnoDB;
 
+    create table note_outbox (
+       id binary(16) not null,
+        created datetime(6),
+        event_type varchar(255),
+        note_id binary(16),
+        party_id binary(16),
+        payload longtext,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table note_tombstone (
+       change_seq bigint not null,
+        deleted datetime(6),
+        note_id binary(16),
+        party_id binary(16),
+        primary key (change_seq)
+    ) engine=InnoDB;
+
+    create table party_change (
+       party_id binary(16) not null,
+        version bigint not null,
+        primary key (party_id)
+    ) engine=InnoDB;
+
     create table schema_history (
        schema_version varchar(255) not null,
         applied datetime(6) not null,
         comment varchar(8192) not null,
         primary key (schema_version)
     ) engine=InnoDB;
-create index note_party_id_index on note (party_id);
+create index note_party_id_created_id_index on note (party_id, created, id);
+create index note_party_id_created_by_created_id_index on note (party_id, created_by, created, id);
+create index note_party_id_last_changed_index on note (party_id, last_changed);
+create index note_change_seq_index on note (change_seq);
@@ -1,3 +1,3 @@
 -- Entity 1:
 INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
-VALUES('2103ac13-1691-4017-b6c6-78fa75ff68fb', 'fe814729-254a-42ab-a123-111f2be83e40', '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
+VALUES(unhex(replace('2103ac13-1691-4017-b6c6-78fa75ff68fb', '-', '')), unhex(replace('fe814729-254a-42ab-a123-111f2be83e40', '-', '')), '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
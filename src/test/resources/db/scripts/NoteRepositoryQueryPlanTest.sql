@@ -0,0 +1,6 @@
+-- 2000 notes spread over 200 parties, enough for the optimizer to base its choice on index statistics.
+INSERT INTO note(id, party_id, created, created_by, subject, body)
+SELECT unhex(replace(uuid(), '-', '')), unhex(lpad(hex(seq % 200), 32, '0')), timestampadd(MINUTE, seq, '2022-01-01 00:00:00.000'), concat('createdBy', seq), concat('subject', seq), concat('body', seq)
+FROM seq_1_to_2000;
+
+ANALYZE TABLE note;
@@ -0,0 +1,22 @@
+-- Entity 1: "invoice" twice.
+INSERT INTO note(id, party_id, created, created_by, subject, body)
+VALUES(unhex(replace('0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e01', '-', '')), unhex(replace('7b1f4e2a-9c3d-4a5b-8e6f-0a1b2c3d4e5f', '-', '')), '2022-01-01 12:00:00.000', 'createdBy1', 'Invoice reminder', 'The invoice was sent by mail');
+
+-- Entity 2: "invoice" once.
+INSERT INTO note(id, party_id, created, created_by, subject, body)
+VALUES(unhex(replace('0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e02', '-', '')), unhex(replace('7b1f4e2a-9c3d-4a5b-8e6f-0a1b2c3d4e5f', '-', '')), '2022-01-02 12:00:00.000', 'createdBy2', 'Meeting', 'Discussed the invoice');
+
+-- Entity 3: "delivery" once.
+INSERT INTO note(id, party_id, created, created_by, subject, body)
+VALUES(unhex(replace('0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e03', '-', '')), unhex(replace('7b1f4e2a-9c3d-4a5b-8e6f-0a1b2c3d4e5f', '-', '')), '2022-01-03 12:00:00.000', 'createdBy3', 'Phone call', 'Customer called regarding delivery');
+
+-- Entity 4 and 5: identical texts, hence equal relevance.
+INSERT INTO note(id, party_id, created, created_by, subject, body)
+VALUES(unhex(replace('0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e05', '-', '')), unhex(replace('7b1f4e2a-9c3d-4a5b-8e6f-0a1b2c3d4e5f', '-', '')), '2022-01-04 12:00:00.000', 'createdBy4', 'Complaint', 'Complaint registered');
+
+INSERT INTO note(id, party_id, created, created_by, subject, body)
+VALUES(unhex(replace('0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e04', '-', '')), unhex(replace('7b1f4e2a-9c3d-4a5b-8e6f-0a1b2c3d4e5f', '-', '')), '2022-01-05 12:00:00.000', 'createdBy5', 'Complaint', 'Complaint registered');
+
+-- Entity 6: "invoice" for another party.
+INSERT INTO note(id, party_id, created, created_by, subject, body)
+VALUES(unhex(replace('0f8a6d1e-3b7c-4e2a-9d5f-1a2b3c4d5e06', '-', '')), unhex(replace('2d4c6e8a-1b3d-4f5a-9c7e-8b6a4c2e0d1f', '-', '')), '2022-01-06 12:00:00.000', 'createdBy6', 'Invoice', 'Invoice for another party');
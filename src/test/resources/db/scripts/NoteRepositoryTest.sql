@@ -1,8 +1,24 @@
 -- Entity 1:
 INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
-VALUES('a2f40fc7-7d70-404b-a294-85e4f7eff55e', 'fbfbd90c-4c47-11ec-81d3-0242ac130003', '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
+VALUES(unhex(replace('a2f40fc7-7d70-404b-a294-85e4f7eff55e', '-', '')), unhex(replace('fbfbd90c-4c47-11ec-81d3-0242ac130003', '-', '')), '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
 
 -- Entity 2:
 INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
-VALUES('2569abe8-eed4-46b6-9502-4cad428f9068', '1ca2650f-4959-421e-af29-d341888fbaf5', '2022-02-01 12:14:32.234', 'createdBy2', '2022-02-03 12:14:32.234', 'updatedBy2', 'subject2', 'body2');
+VALUES(unhex(replace('2569abe8-eed4-46b6-9502-4cad428f9068', '-', '')), unhex(replace('1ca2650f-4959-421e-af29-d341888fbaf5', '-', '')), '2022-02-01 12:14:32.234', 'createdBy2', '2022-02-03 12:14:32.234', 'updatedBy2', 'subject2', 'body2');
 
+
+-- Entity 3:
+INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
+VALUES(unhex(replace('47a05ad5-8b7c-4b3d-9cb4-b6ee0ed0c8b6', '-', '')), unhex(replace('5d2cc0b4-9a6f-4a68-b4c2-0d6fef5f5a8c', '-', '')), '2022-03-01 12:14:32.234', 'createdBy3', null, null, 'subject3', 'body3');
+
+-- Entity 4:
+INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
+VALUES(unhex(replace('9a2b2a07-9de3-4d6a-8f8e-bd4c6bd0d0a1', '-', '')), unhex(replace('5d2cc0b4-9a6f-4a68-b4c2-0d6fef5f5a8c', '-', '')), '2022-03-02 12:14:32.234', 'createdBy4', null, null, 'subject4', 'body4');
+
+-- Entity 5:
+INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
+VALUES(unhex(replace('c4f5a2d3-2b39-4a43-9a38-1f1c2f6a4b7e', '-', '')), unhex(replace('5d2cc0b4-9a6f-4a68-b4c2-0d6fef5f5a8c', '-', '')), '2022-03-03 12:14:32.234', 'createdBy5', null, null, 'subject5', 'body5');
+
+-- Entity 6:
+INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
+VALUES(unhex(replace('e0b0fd6c-6c54-4f0a-a0a4-5e73e1fb4c11', '-', '')), unhex(replace('5d2cc0b4-9a6f-4a68-b4c2-0d6fef5f5a8c', '-', '')), '2022-03-01 12:14:32.234', 'createdBy6', null, null, 'subject6', 'body6');
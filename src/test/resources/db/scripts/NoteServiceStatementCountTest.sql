@@ -0,0 +1,11 @@
+-- Entity 1:
+INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
+VALUES(unhex(replace('6a9d3b2e-0f5c-4d1a-8b7e-3c2f1a0d9e8b', '-', '')), unhex(replace('0b7c4e5d-2a1f-4c3b-9d8e-7f6a5b4c3d2e', '-', '')), '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
+
+-- Entity 2:
+INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
+VALUES(unhex(replace('7b0e4c3f-1a6d-4e2b-9c8f-4d3a2b1e0f9c', '-', '')), unhex(replace('0b7c4e5d-2a1f-4c3b-9d8e-7f6a5b4c3d2e', '-', '')), '2022-01-02 12:14:32.234', 'createdBy2', null, null, 'subject2', 'body2');
+
+-- Entity 3:
+INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
+VALUES(unhex(replace('8c1f5d40-2b7e-4f3c-8d90-5e4b3c2f1a0d', '-', '')), unhex(replace('0b7c4e5d-2a1f-4c3b-9d8e-7f6a5b4c3d2e', '-', '')), '2022-01-03 12:14:32.234', 'createdBy3', null, null, 'subject3', 'body3');
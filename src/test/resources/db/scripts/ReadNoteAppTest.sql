@@ -1,16 +1,16 @@
 -- Entity 1:
 INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
-VALUES('134aedef-2d33-410b-8654-207e9644fc3d', 'a37b06cc-edda-459d-860c-9f8cd1e24b00', '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
+VALUES(unhex(replace('134aedef-2d33-410b-8654-207e9644fc3d', '-', '')), unhex(replace('a37b06cc-edda-459d-860c-9f8cd1e24b00', '-', '')), '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
 
 -- Entity 2:
 INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
-VALUES('3f253188-7dc2-479f-8872-619ad2d71b5c', 'a37b06cc-edda-459d-860c-9f8cd1e24b00', '2022-02-01 12:14:32.234', 'createdBy2', '2022-02-03 12:14:32.234', 'updatedBy2', 'subject2', 'body2');
+VALUES(unhex(replace('3f253188-7dc2-479f-8872-619ad2d71b5c', '-', '')), unhex(replace('a37b06cc-edda-459d-860c-9f8cd1e24b00', '-', '')), '2022-02-01 12:14:32.234', 'createdBy2', '2022-02-03 12:14:32.234', 'updatedBy2', 'subject2', 'body2');
 
 -- Entity 3:
 INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
-VALUES('b3924ff1-51f8-44f0-97ee-14141083b23c', 'a37b06cc-edda-459d-860c-9f8cd1e24b00', '2022-03-01 12:14:32.234', 'createdBy3', '2022-03-03 12:14:32.234', 'updatedBy3', 'subject3', 'body3');
+VALUES(unhex(replace('b3924ff1-51f8-44f0-97ee-14141083b23c', '-', '')), unhex(replace('a37b06cc-edda-459d-860c-9f8cd1e24b00', '-', '')), '2022-03-01 12:14:32.234', 'createdBy3', '2022-03-03 12:14:32.234', 'updatedBy3', 'subject3', 'body3');
 
 -- Entity 4:
 INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
-VALUES('90ad4403-2586-4640-936b-8c41a0bf083a', '8005e79b-358d-411d-b4f0-e7f2ef342e23', '2022-04-01 12:14:32.234', 'createdBy4', '2022-04-03 12:14:32.234', 'updatedBy4', 'subject4', 'body4');
+VALUES(unhex(replace('90ad4403-2586-4640-936b-8c41a0bf083a', '-', '')), unhex(replace('8005e79b-358d-411d-b4f0-e7f2ef342e23', '-', '')), '2022-04-01 12:14:32.234', 'createdBy4', '2022-04-03 12:14:32.234', 'updatedBy4', 'subject4', 'body4');
 
@@ -1,3 +1,3 @@
 -- Entity 1:
 INSERT INTO note(id, party_id, created, created_by, modified, modified_by, subject, body)
-VALUES('8825bfae-11bc-4436-b1be-e4f0f225c048', 'a37b06cc-edda-459d-860c-9f8cd1e24b00', '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
+VALUES(unhex(replace('8825bfae-11bc-4436-b1be-e4f0f225c048', '-', '')), unhex(replace('a37b06cc-edda-459d-860c-9f8cd1e24b00', '-', '')), '2022-01-01 12:14:32.234', 'createdBy1', '2022-01-03 12:14:32.234', 'updatedBy1', 'subject1', 'body1');
@@ -0,0 +1,2 @@
+-- The fulltext index added by delta script 007 can not be declared on the entity, hence it is not in the generated schema.
+CREATE FULLTEXT INDEX IF NOT EXISTS note_subject_body_fulltext_index ON note (subject, body);
@@ -1 +1,4 @@
- TRUNCATE table note;
\ No newline at end of file
+ TRUNCATE table note;
+ TRUNCATE table note_outbox;
+ TRUNCATE table party_change;
+ TRUNCATE table note_tombstone;
\ No newline at end of file